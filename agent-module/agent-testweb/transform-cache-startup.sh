@@ -0,0 +1,72 @@
+#!/bin/bash
+#
+# Startup time of a testweb app with the transform cache off, cold and warm.
+#
+# usage: transform-cache-startup.sh [app jar] [runs]
+#   build first: ./mvnw -pl agent-module/agent,agent-module/agent-testweb/thread-plugin-testweb -am package -DskipTests
+#
+set -e
+
+BASE_DIR=$(cd "$(dirname "$0")/../.." && pwd)
+VERSION=${VERSION:-3.1.0-SNAPSHOT}
+AGENT_JAR=${AGENT_JAR:-$BASE_DIR/agent-module/agent/target/pinpoint-agent-$VERSION/pinpoint-bootstrap.jar}
+APP_JAR=${1:-$BASE_DIR/agent-module/agent-testweb/thread-plugin-testweb/target/pinpoint-thread-plugin-testweb-$VERSION-exec.jar}
+RUNS=${2:-5}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+CACHE_DIR=$(mktemp -d)
+LOG=$(mktemp)
+trap 'rm -rf "$CACHE_DIR" "$LOG"' EXIT
+
+# prints the "JVM running for" / "process running for" seconds of the Spring Boot started log
+start_app() {
+  local enable=$1
+  "$JAVA" -javaagent:"$AGENT_JAR" \
+    -Dpinpoint.agentId=StartupBenchmark -Dpinpoint.applicationName=StartupBenchmark \
+    -Dpinpoint.profiler.profiles.active=local \
+    -Dprofiler.instrument.transform-cache.enable="$enable" \
+    -Dprofiler.instrument.transform-cache.dir="$CACHE_DIR" \
+    -Dprofiler.instrument.transform-cache.save-delay=0 \
+    -jar "$APP_JAR" > "$LOG" 2>&1 &
+  local pid=$!
+  local seconds=""
+  for _ in $(seq 1 600); do
+    seconds=$(sed -n -E 's/.*Started .*\((JVM|process) running for ([0-9.]+)\).*/\2/p' "$LOG" | head -1)
+    if [ -n "$seconds" ] || ! kill -0 $pid 2>/dev/null; then
+      break
+    fi
+    sleep 0.1
+  done
+  # SIGTERM runs the agent shutdown hook, which saves the cache
+  kill $pid 2>/dev/null || true
+  wait $pid 2>/dev/null || true
+  if [ -z "$seconds" ]; then
+    echo "app did not start, see the log below" >&2
+    cat "$LOG" >&2
+    exit 1
+  fi
+  echo "$seconds"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+run() {
+  local name=$1 enable=$2 clear=$3
+  local results=""
+  for _ in $(seq 1 "$RUNS"); do
+    if [ "$clear" = "true" ]; then
+      rm -rf "${CACHE_DIR:?}"/*
+    fi
+    results="$results $(start_app "$enable")"
+  done
+  printf "%-6s median %ss  runs:%s\n" "$name" "$(echo $results | tr ' ' '\n' | median)" "$results"
+}
+
+echo "agent: $AGENT_JAR"
+echo "app:   $APP_JAR"
+run "off" false false
+run "cold" true true
+start_app true > /dev/null
+run "warm" true false
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.it.plugin.jdk.virtualthread;
+
+import com.navercorp.pinpoint.bootstrap.plugin.test.ExpectedTrace;
+import com.navercorp.pinpoint.bootstrap.plugin.test.PluginTestVerifier;
+import com.navercorp.pinpoint.bootstrap.plugin.test.PluginTestVerifierHolder;
+import com.navercorp.pinpoint.it.plugin.utils.AgentPath;
+import com.navercorp.pinpoint.it.plugin.utils.PluginITConstants;
+import com.navercorp.pinpoint.test.plugin.Dependency;
+import com.navercorp.pinpoint.test.plugin.ImportPlugin;
+import com.navercorp.pinpoint.test.plugin.JvmVersion;
+import com.navercorp.pinpoint.test.plugin.PinpointAgent;
+import com.navercorp.pinpoint.test.plugin.PinpointConfig;
+import com.navercorp.pinpoint.test.plugin.PluginForkedTest;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.navercorp.pinpoint.bootstrap.plugin.test.Expectations.event;
+
+/**
+ * Runs with the JDK configured as JAVA_21_HOME; skipped when it is not set.
+ */
+@PluginForkedTest
+@JvmVersion(21)
+@PinpointAgent(AgentPath.PATH)
+@Dependency({PluginITConstants.VERSION})
+@ImportPlugin({"com.navercorp.pinpoint:pinpoint-jdk-virtual-thread-plugin"})
+@PinpointConfig("pinpoint-jdk-virtual-thread-test.config")
+public class JdkVirtualThreadIT {
+
+    private static final String VIRTUAL_THREAD = "VIRTUAL_THREAD";
+
+    private static final String TASK_RUNNER = "java.util.concurrent.ThreadPerTaskExecutor$TaskRunner";
+    private static final String THREAD_BOUND_FUTURE = "java.util.concurrent.ThreadPerTaskExecutor$ThreadBoundFuture";
+
+    // compiled against JDK 8
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        return (ExecutorService) method.invoke(null);
+    }
+
+    @Test
+    public void submit() throws Exception {
+        final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        try {
+            Future<String> future = executor.submit(() -> Thread.currentThread().toString());
+            future.get(5000, TimeUnit.MILLISECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        executor.awaitTermination(5000, TimeUnit.MILLISECONDS);
+
+        PluginTestVerifier verifier = PluginTestVerifierHolder.getInstance();
+
+        final Class<?> futureClass = Class.forName(THREAD_BOUND_FUTURE);
+        final Constructor<?> constructor = futureClass.getDeclaredConstructors()[0];
+        final ExpectedTrace run = event(VIRTUAL_THREAD, futureClass.getDeclaredMethod("run"));
+        verifier.awaitTrace(run, 100, 5000);
+        verifier.printCache();
+
+        verifier.verifyTrace(event(VIRTUAL_THREAD, constructor));
+        verifier.verifyTrace(event("ASYNC", "Asynchronous Invocation"));
+        verifier.verifyTrace(run);
+    }
+
+    @Test
+    public void execute() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        try {
+            executor.execute(latch::countDown);
+            latch.await(5000, TimeUnit.MILLISECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        executor.awaitTermination(5000, TimeUnit.MILLISECONDS);
+
+        PluginTestVerifier verifier = PluginTestVerifierHolder.getInstance();
+
+        final Class<?> taskRunnerClass = Class.forName(TASK_RUNNER);
+        final Constructor<?> constructor = taskRunnerClass.getDeclaredConstructors()[0];
+        final ExpectedTrace run = event(VIRTUAL_THREAD, taskRunnerClass.getDeclaredMethod("run"));
+        verifier.awaitTrace(run, 100, 5000);
+        verifier.printCache();
+
+        verifier.verifyTrace(event(VIRTUAL_THREAD, constructor));
+        verifier.verifyTrace(event("ASYNC", "Asynchronous Invocation"));
+        verifier.verifyTrace(run);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.jdk.virtualthread;
+
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.trace.ServiceTypeProvider;
+
+public class JdkVirtualThreadConstants {
+    public static final ServiceType VIRTUAL_THREAD = ServiceTypeProvider.getByName("VIRTUAL_THREAD");
+
+    // java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor()
+    public static final String TASK_RUNNER = "java.util.concurrent.ThreadPerTaskExecutor$TaskRunner";
+    public static final String THREAD_BOUND_FUTURE = "java.util.concurrent.ThreadPerTaskExecutor$ThreadBoundFuture";
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.jdk.virtualthread;
+
+import com.navercorp.pinpoint.bootstrap.async.AsyncContextAccessor;
+import com.navercorp.pinpoint.bootstrap.instrument.InstrumentClass;
+import com.navercorp.pinpoint.bootstrap.instrument.InstrumentException;
+import com.navercorp.pinpoint.bootstrap.instrument.InstrumentMethod;
+import com.navercorp.pinpoint.bootstrap.instrument.Instrumentor;
+import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformCallback;
+import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformTemplate;
+import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformTemplateAware;
+import com.navercorp.pinpoint.bootstrap.logging.PluginLogManager;
+import com.navercorp.pinpoint.bootstrap.logging.PluginLogger;
+import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
+import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
+import com.navercorp.pinpoint.plugin.jdk.virtualthread.interceptor.VirtualThreadTaskConstructorInterceptor;
+import com.navercorp.pinpoint.plugin.jdk.virtualthread.interceptor.VirtualThreadTaskRunInterceptor;
+
+import java.security.ProtectionDomain;
+
+/**
+ * Propagates the trace into the tasks of a thread-per-task executor,
+ * e.g. {@code Executors.newVirtualThreadPerTaskExecutor()}.
+ * The task wrapper is created on the submitting thread and runs on the new virtual thread,
+ * so the async trace is bound to the virtual thread and not to its carrier thread.
+ */
+public class JdkVirtualThreadPlugin implements ProfilerPlugin, TransformTemplateAware {
+    private final PluginLogger logger = PluginLogManager.getLogger(this.getClass());
+
+    private TransformTemplate transformTemplate;
+
+    @Override
+    public void setup(ProfilerPluginSetupContext context) {
+        final JdkVirtualThreadPluginConfig config = new JdkVirtualThreadPluginConfig(context.getConfig());
+        if (!config.isEnable()) {
+            logger.info("{} disabled", this.getClass().getSimpleName());
+            return;
+        }
+        logger.info("{} version range=[21,) config:{}", this.getClass().getSimpleName(), config);
+
+        transformTemplate.transform(JdkVirtualThreadConstants.TASK_RUNNER, TaskRunnerTransform.class);
+        transformTemplate.transform(JdkVirtualThreadConstants.THREAD_BOUND_FUTURE, ThreadBoundFutureTransform.class);
+    }
+
+    @Override
+    public void setTransformTemplate(TransformTemplate transformTemplate) {
+        this.transformTemplate = transformTemplate;
+    }
+
+    // Executor.execute(Runnable)
+    public static class TaskRunnerTransform implements TransformCallback {
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            final InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+            target.addField(AsyncContextAccessor.class);
+            for (InstrumentMethod constructor : target.getDeclaredConstructors()) {
+                constructor.addInterceptor(VirtualThreadTaskConstructorInterceptor.class);
+            }
+            final InstrumentMethod runMethod = target.getDeclaredMethod("run");
+            if (runMethod != null) {
+                runMethod.addInterceptor(VirtualThreadTaskRunInterceptor.class);
+            }
+            return target.toBytecode();
+        }
+    }
+
+    // ExecutorService.submit(), invokeAll(), invokeAny()
+    public static class ThreadBoundFutureTransform implements TransformCallback {
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            final InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+            target.addField(AsyncContextAccessor.class);
+            for (InstrumentMethod constructor : target.getDeclaredConstructors()) {
+                constructor.addInterceptor(VirtualThreadTaskConstructorInterceptor.class);
+            }
+            // run() is inherited from FutureTask, which must not be instrumented globally
+            InstrumentMethod runMethod = target.getDeclaredMethod("run");
+            if (runMethod == null) {
+                runMethod = target.addDelegatorMethod("run");
+            }
+            if (runMethod != null) {
+                runMethod.addInterceptor(VirtualThreadTaskRunInterceptor.class);
+            }
+            return target.toBytecode();
+        }
+    }
+}
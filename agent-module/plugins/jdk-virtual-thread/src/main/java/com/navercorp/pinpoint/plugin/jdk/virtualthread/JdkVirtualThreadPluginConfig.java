@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.jdk.virtualthread;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+
+public class JdkVirtualThreadPluginConfig {
+
+    private final boolean enable;
+
+    public JdkVirtualThreadPluginConfig(ProfilerConfig src) {
+        this.enable = src.readBoolean("profiler.jdk.virtual-thread.enable", false);
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    @Override
+    public String toString() {
+        return "JdkVirtualThreadPluginConfig{" +
+                "enable=" + enable +
+                '}';
+    }
+}
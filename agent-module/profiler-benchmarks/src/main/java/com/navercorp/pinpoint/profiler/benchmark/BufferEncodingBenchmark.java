@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import com.navercorp.pinpoint.common.buffer.ThreadLocalBufferPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Varint and prefixed string encoding of {@link FixedBuffer} and {@link AutomaticBuffer},
+ * the two operations that dominate span and index encoding on the collector,
+ * with a new {@link AutomaticBuffer} per value against a {@link ThreadLocalBufferPool} buffer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BufferEncodingBenchmark {
+
+    private static final String[] ASCII = {
+            "pinpoint-collector", "agent-0123456789", "/api/v1/users/{id}/orders",
+            "10.0.0.1:8080", "com.navercorp.pinpoint.web.controller.ScatterChartController.getScatterData"
+    };
+    private static final String[] NON_ASCII = {
+            "\uD540\uD3EC\uC778\uD2B8-collector", "agent-\u00E9-0123", "/api/v1/\uC0AC\uC6A9\uC790/{id}", "10.0.0.1:8080", "\u30C7\u30FC\u30BF"
+    };
+
+    private int[] ints;
+    private long[] longs;
+
+    private final Buffer fixedBuffer = new FixedBuffer(1024);
+    private final ThreadLocalBufferPool pool = new ThreadLocalBufferPool(16);
+
+    @Setup
+    public void setup() {
+        this.ints = new int[]{0, 1, 127, 128, 16_383, 16_384, -1, -300, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        this.longs = new long[]{0, 1, 1L << 20, System.currentTimeMillis(), -1, Long.MAX_VALUE};
+    }
+
+    @Benchmark
+    public int fixedBuffer_varint() {
+        final Buffer buffer = this.fixedBuffer;
+        buffer.setOffset(0);
+        return putVarints(buffer);
+    }
+
+    @Benchmark
+    public int automaticBuffer_varint() {
+        return putVarints(new AutomaticBuffer(16));
+    }
+
+    @Benchmark
+    public int pooledBuffer_varint() {
+        return putVarints(pool.acquire());
+    }
+
+    @Benchmark
+    public int fixedBuffer_prefixedString_ascii() {
+        final Buffer buffer = this.fixedBuffer;
+        buffer.setOffset(0);
+        return putStrings(buffer, ASCII);
+    }
+
+    @Benchmark
+    public int automaticBuffer_prefixedString_ascii() {
+        return putStrings(new AutomaticBuffer(16), ASCII);
+    }
+
+    @Benchmark
+    public int pooledBuffer_prefixedString_ascii() {
+        return putStrings(pool.acquire(), ASCII);
+    }
+
+    @Benchmark
+    public int fixedBuffer_prefixedString_nonAscii() {
+        final Buffer buffer = this.fixedBuffer;
+        buffer.setOffset(0);
+        return putStrings(buffer, NON_ASCII);
+    }
+
+    @Benchmark
+    public int automaticBuffer_prefixedString_nonAscii() {
+        return putStrings(new AutomaticBuffer(16), NON_ASCII);
+    }
+
+    private int putVarints(Buffer buffer) {
+        for (int value : ints) {
+            buffer.putVInt(value);
+            buffer.putSVInt(value);
+        }
+        for (long value : longs) {
+            buffer.putVLong(value);
+            buffer.putSVLong(value);
+        }
+        return buffer.getOffset();
+    }
+
+    private int putStrings(Buffer buffer, String[] strings) {
+        for (String string : strings) {
+            buffer.putPrefixedString(string);
+        }
+        return buffer.getOffset();
+    }
+}
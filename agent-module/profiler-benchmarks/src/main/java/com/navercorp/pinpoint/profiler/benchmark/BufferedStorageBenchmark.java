@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.profiler.context.DefaultSpanChunkFactory;
+import com.navercorp.pinpoint.profiler.context.DefaultSpanFactory;
+import com.navercorp.pinpoint.profiler.context.DisableSpanEventPool;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.storage.BufferedStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffering of SpanEvents into SpanChunks and the final Span hand-off to the sender.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BufferedStorageBenchmark {
+
+    @Param({"20"})
+    private int bufferSize;
+
+    @Param({"10", "100"})
+    private int spanEventCount;
+
+    private TraceFixture fixture;
+
+    @Setup
+    public void setup() {
+        this.fixture = new TraceFixture(64, DisableSpanEventPool.INSTANCE);
+    }
+
+    @Benchmark
+    public Span store() {
+        final TraceRoot traceRoot = fixture.newTraceRoot();
+        final BufferedStorage storage = new BufferedStorage(new DefaultSpanChunkFactory(traceRoot),
+                TraceFixture.noopConsumer(), bufferSize);
+        for (int i = 0; i < spanEventCount; i++) {
+            final SpanEvent spanEvent = new SpanEvent();
+            spanEvent.setSequence(i);
+            storage.store(spanEvent);
+        }
+        final Span span = new DefaultSpanFactory().newSpan(traceRoot);
+        storage.store(span);
+        storage.close();
+        return span;
+    }
+}
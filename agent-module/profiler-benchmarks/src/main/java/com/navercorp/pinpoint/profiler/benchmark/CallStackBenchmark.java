@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.CallStack;
+import com.navercorp.pinpoint.profiler.context.DefaultTrace;
+import com.navercorp.pinpoint.profiler.context.DisableSpanEventPool;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.storage.Storage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Call stack push/pop and the full {@link DefaultTrace} block begin/end path
+ * that every intercepted method goes through.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CallStackBenchmark {
+
+    @Param({"4", "16", "64"})
+    private int depth;
+
+    private TraceFixture fixture;
+    private Storage storage;
+
+    @Setup
+    public void setup() {
+        this.fixture = new TraceFixture(64, DisableSpanEventPool.INSTANCE);
+        this.storage = new TraceFixture.NoopStorage();
+    }
+
+    @Benchmark
+    public void pushPop(Blackhole blackhole) {
+        final CallStack<SpanEvent> callStack = fixture.newCallStack();
+        for (int i = 0; i < depth; i++) {
+            callStack.push(callStack.newInstance());
+        }
+        for (int i = 0; i < depth; i++) {
+            blackhole.consume(callStack.pop());
+        }
+    }
+
+    @Benchmark
+    public void traceBlock(Blackhole blackhole) {
+        final DefaultTrace trace = fixture.newTrace(fixture.newTraceRoot(), storage);
+        for (int i = 0; i < depth; i++) {
+            final SpanEventRecorder recorder = trace.traceBlockBegin();
+            recorder.recordServiceType(ServiceType.INTERNAL_METHOD);
+            recorder.recordApiId(i);
+            recorder.recordAttribute(AnnotationKey.ARGS0, "arg");
+        }
+        for (int i = 0; i < depth; i++) {
+            trace.traceBlockEnd();
+        }
+        trace.close();
+        blackhole.consume(trace);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.util.AntPathMatcher;
+import com.navercorp.pinpoint.bootstrap.util.EqualsPathMatcher;
+import com.navercorp.pinpoint.bootstrap.util.PathMatcher;
+import com.navercorp.pinpoint.profiler.util.PathPatternTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Url pattern lookup of the url sampler and the uri stat template,
+ * compiled trie against the linear scan it replaced, for a growing number of rules.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathPatternTrieBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int ruleCount;
+
+    private PathMatcher[] matchers;
+    private String[] patterns;
+    private PathPatternTrie<String> trie;
+    private String[] urls;
+
+    @Setup
+    public void setup() {
+        this.patterns = new String[ruleCount];
+        this.matchers = new PathMatcher[ruleCount];
+        final PathPatternTrie.Builder<String> builder = PathPatternTrie.newBuilder();
+        for (int i = 0; i < ruleCount; i++) {
+            final String pattern = newPattern(i);
+            patterns[i] = pattern;
+            matchers[i] = AntPathMatcher.isAntStylePattern(pattern) ? new AntPathMatcher(pattern) : new EqualsPathMatcher(pattern);
+            builder.add(pattern, pattern);
+        }
+        this.trie = builder.build();
+
+        // hits spread over the rule set plus misses that have to visit every rule in a linear scan
+        this.urls = new String[]{
+                "/api/v0/resource/1234", "/api/v" + (ruleCount / 2) + "/resource/1234/items",
+                "/static/v" + (ruleCount - 1) + "/app.js", "/health/" + (ruleCount - 1),
+                "/api/unknown/resource", "/not/registered/path"
+        };
+    }
+
+    private static String newPattern(int i) {
+        switch (i % 4) {
+            case 0:
+                return "/api/v" + i + "/resource/*";
+            case 1:
+                return "/api/v" + i + "/resource/*/items";
+            case 2:
+                return "/static/v" + i + "/**";
+            default:
+                return "/health/" + i;
+        }
+    }
+
+    @Benchmark
+    public String linearScan() {
+        final String url = urls[ThreadLocalRandom.current().nextInt(urls.length)];
+        final PathMatcher[] matchers = this.matchers;
+        for (int i = 0; i < matchers.length; i++) {
+            if (matchers[i].isMatched(url)) {
+                return patterns[i];
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String trie() {
+        final String url = urls[ThreadLocalRandom.current().nextInt(urls.length)];
+        return trie.match(url);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.navercorp.pinpoint.bootstrap.sampler.TraceSampler;
+import com.navercorp.pinpoint.profiler.context.id.AtomicIdGenerator;
+import com.navercorp.pinpoint.profiler.context.id.IdGenerator;
+import com.navercorp.pinpoint.profiler.sampler.BasicTraceSampler;
+import com.navercorp.pinpoint.profiler.sampler.RateLimitTraceSampler;
+import com.navercorp.pinpoint.profiler.sampler.TokenBucketRateLimiter;
+import com.navercorp.pinpoint.profiler.sampler.TrueSampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput limiter shared by every request thread.
+ * A low limit measures the reject path, a high limit the acquire path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class RateLimiterContentionBenchmark {
+
+    @Param({"100", "1000000"})
+    private int throughput;
+
+    private RateLimiter guavaRateLimiter;
+    private TokenBucketRateLimiter tokenBucketRateLimiter;
+    private TraceSampler rateLimitSampler;
+
+    @Setup
+    public void setup() {
+        this.guavaRateLimiter = RateLimiter.create(throughput);
+        this.tokenBucketRateLimiter = new TokenBucketRateLimiter(throughput);
+
+        final IdGenerator idGenerator = new AtomicIdGenerator();
+        this.rateLimitSampler = new RateLimitTraceSampler(throughput, throughput, idGenerator,
+                new BasicTraceSampler(idGenerator, TrueSampler.INSTANCE));
+    }
+
+    @Benchmark
+    public boolean guava() {
+        return guavaRateLimiter.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean tokenBucket() {
+        return tokenBucketRateLimiter.tryAcquire();
+    }
+
+    @Benchmark
+    public TraceSampler.State sampler() {
+        return rateLimitSampler.isNewSampled();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.sampler.TraceSampler;
+import com.navercorp.pinpoint.profiler.context.id.AtomicIdGenerator;
+import com.navercorp.pinpoint.profiler.context.id.IdGenerator;
+import com.navercorp.pinpoint.profiler.sampler.BasicTraceSampler;
+import com.navercorp.pinpoint.profiler.sampler.CountingSampler;
+import com.navercorp.pinpoint.profiler.sampler.FalseSampler;
+import com.navercorp.pinpoint.profiler.sampler.PercentRateSampler;
+import com.navercorp.pinpoint.profiler.sampler.RateLimitTraceSampler;
+import com.navercorp.pinpoint.profiler.sampler.TrueSampler;
+import com.navercorp.pinpoint.profiler.sampler.UrlTraceSampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sampling decision made at the start of every transaction.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SamplerBenchmark {
+
+    private static final String[] URLS = {
+            "/", "/api/users/1234", "/api/orders", "/api/orders/5678/items", "/health", "/static/js/app.js"
+    };
+
+    private TraceSampler countingSampler;
+    private TraceSampler percentSampler;
+    private TraceSampler rateLimitSampler;
+    private TraceSampler urlSampler;
+
+    @Setup
+    public void setup() {
+        final IdGenerator idGenerator = new AtomicIdGenerator();
+        this.countingSampler = new BasicTraceSampler(idGenerator, new CountingSampler(20));
+        this.percentSampler = new BasicTraceSampler(idGenerator, new PercentRateSampler(500));
+        this.rateLimitSampler = new RateLimitTraceSampler(1000, 1000, idGenerator,
+                new BasicTraceSampler(idGenerator, TrueSampler.INSTANCE));
+
+        final Map<String, TraceSampler> urlMap = new LinkedHashMap<>();
+        urlMap.put("/health", new BasicTraceSampler(idGenerator, FalseSampler.INSTANCE));
+        urlMap.put("/static/**", new BasicTraceSampler(idGenerator, FalseSampler.INSTANCE));
+        urlMap.put("/api/orders/*/items", new BasicTraceSampler(idGenerator, new CountingSampler(1)));
+        urlMap.put("/api/users/*", new BasicTraceSampler(idGenerator, new CountingSampler(10)));
+        this.urlSampler = new UrlTraceSampler(urlMap, countingSampler);
+    }
+
+    @Benchmark
+    public TraceSampler.State counting() {
+        return countingSampler.isNewSampled();
+    }
+
+    @Benchmark
+    public TraceSampler.State percent() {
+        return percentSampler.isNewSampled();
+    }
+
+    @Benchmark
+    public TraceSampler.State rateLimit() {
+        return rateLimitSampler.isNewSampled();
+    }
+
+    @Benchmark
+    public TraceSampler.State url() {
+        final String url = URLS[ThreadLocalRandom.current().nextInt(URLS.length)];
+        return urlSampler.isNewSampled(url);
+    }
+}
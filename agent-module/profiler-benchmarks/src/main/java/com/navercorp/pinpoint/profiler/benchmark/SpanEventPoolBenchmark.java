@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.DefaultSpanChunkFactory;
+import com.navercorp.pinpoint.profiler.context.DefaultSpanEventPool;
+import com.navercorp.pinpoint.profiler.context.DefaultTrace;
+import com.navercorp.pinpoint.profiler.context.DisableSpanEventPool;
+import com.navercorp.pinpoint.profiler.context.SpanEventPool;
+import com.navercorp.pinpoint.profiler.context.compress.GrpcSpanProcessorV2;
+import com.navercorp.pinpoint.profiler.context.grpc.GrpcSpanMessageConverter;
+import com.navercorp.pinpoint.profiler.context.grpc.config.SpanAutoUriGetter;
+import com.navercorp.pinpoint.profiler.context.grpc.mapper.AnnotationValueMapper;
+import com.navercorp.pinpoint.profiler.context.grpc.mapper.SpanMessageMapper;
+import com.navercorp.pinpoint.profiler.context.grpc.mapper.SpanMessageMapperImpl;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.storage.BufferedStorage;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full SpanEvent life cycle with the recycle pool on and off:
+ * trace block begin/end, buffering into SpanChunks, conversion to the grpc message and the release back to the pool.
+ * {@code gc.alloc.rate.norm} of the two {@code recycle} settings shows what the pool saves per trace.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SpanEventPoolBenchmark {
+
+    @Param({"false", "true"})
+    private boolean recycle;
+
+    @Param({"8", "64"})
+    private int spanEventCount;
+
+    private TraceFixture fixture;
+    private GrpcSpanMessageConverter converter;
+
+    @Setup
+    public void setup() {
+        final SpanEventPool spanEventPool = recycle ? new DefaultSpanEventPool(4096, 1) : DisableSpanEventPool.INSTANCE;
+        this.fixture = new TraceFixture(64, spanEventPool);
+
+        final AnnotationValueMapper annotationValueMapper = Mappers.getMapper(AnnotationValueMapper.class);
+        final SpanMessageMapper spanMessageMapper = new SpanMessageMapperImpl(annotationValueMapper, new SpanAutoUriGetter());
+        this.converter = new GrpcSpanMessageConverter(TraceFixture.AGENT_ID, ServiceType.STAND_ALONE.getCode(),
+                new GrpcSpanProcessorV2(), spanMessageMapper, spanEventPool);
+    }
+
+    @Benchmark
+    public void traceAndSend(Blackhole blackhole) {
+        final TraceRoot traceRoot = fixture.newTraceRoot();
+        final BufferedStorage storage = new BufferedStorage(new DefaultSpanChunkFactory(traceRoot), data -> {
+            blackhole.consume(converter.toMessage(data));
+            return true;
+        }, 20);
+        final DefaultTrace trace = fixture.newTrace(traceRoot, storage);
+        for (int i = 0; i < spanEventCount; i++) {
+            final SpanEventRecorder recorder = trace.traceBlockBegin();
+            recorder.recordServiceType(ServiceType.INTERNAL_METHOD);
+            recorder.recordApiId(i);
+            recorder.recordAttribute(AnnotationKey.ARGS0, "arg");
+            trace.traceBlockEnd();
+        }
+        trace.close();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.google.protobuf.GeneratedMessageV3;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.DefaultSpanEventPool;
+import com.navercorp.pinpoint.profiler.context.DefaultSpanFactory;
+import com.navercorp.pinpoint.profiler.context.DisableSpanEventPool;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.SpanEventFactory;
+import com.navercorp.pinpoint.profiler.context.SpanEventPool;
+import com.navercorp.pinpoint.profiler.context.annotation.Annotations;
+import com.navercorp.pinpoint.profiler.context.compress.GrpcSpanProcessorV2;
+import com.navercorp.pinpoint.profiler.context.grpc.GrpcSpanMessageConverter;
+import com.navercorp.pinpoint.profiler.context.grpc.config.SpanAutoUriGetter;
+import com.navercorp.pinpoint.profiler.context.grpc.mapper.AnnotationValueMapper;
+import com.navercorp.pinpoint.profiler.context.grpc.mapper.SpanMessageMapper;
+import com.navercorp.pinpoint.profiler.context.grpc.mapper.SpanMessageMapperImpl;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Span to PSpan conversion including SpanEvent compression.
+ * {@code recycle=true} runs with {@link DefaultSpanEventPool},
+ * compare gc.alloc.rate.norm of both settings to see what recycling saves.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SpanMessageConverterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean recycle;
+
+    @Param({"8", "64"})
+    private int spanEventCount;
+
+    private TraceFixture fixture;
+    private SpanEventFactory spanEventFactory;
+    private GrpcSpanMessageConverter converter;
+
+    @Setup
+    public void setup() {
+        final SpanEventPool spanEventPool = recycle ? new DefaultSpanEventPool(4096, 1) : DisableSpanEventPool.INSTANCE;
+        this.fixture = new TraceFixture(64, spanEventPool);
+        this.spanEventFactory = new SpanEventFactory(spanEventPool);
+
+        final AnnotationValueMapper annotationValueMapper = Mappers.getMapper(AnnotationValueMapper.class);
+        final SpanMessageMapper spanMessageMapper = new SpanMessageMapperImpl(annotationValueMapper, new SpanAutoUriGetter());
+        this.converter = new GrpcSpanMessageConverter(TraceFixture.AGENT_ID, ServiceType.STAND_ALONE.getCode(),
+                new GrpcSpanProcessorV2(), spanMessageMapper, spanEventPool);
+    }
+
+    @Benchmark
+    public GeneratedMessageV3 toMessage() {
+        return converter.toMessage(newSpan());
+    }
+
+    private Span newSpan() {
+        final TraceRoot traceRoot = fixture.newTraceRoot();
+        final Span span = new DefaultSpanFactory().newSpan(traceRoot);
+        final long startTime = traceRoot.getTraceStartTime();
+        span.setStartTime(startTime);
+        span.setServiceType(ServiceType.STAND_ALONE.getCode());
+        span.setApiId(1);
+        span.setElapsedTime(spanEventCount);
+
+        final List<SpanEvent> spanEventList = new ArrayList<>(spanEventCount);
+        for (int i = 0; i < spanEventCount; i++) {
+            final SpanEvent spanEvent = spanEventFactory.newInstance();
+            spanEvent.setSequence(i);
+            spanEvent.setDepth(i + 1);
+            spanEvent.setStartTime(startTime + i);
+            spanEvent.setElapsedTime(1);
+            spanEvent.setServiceType(ServiceType.INTERNAL_METHOD.getCode());
+            spanEvent.setApiId(i);
+            spanEvent.addAnnotation(Annotations.of(AnnotationKey.ARGS0.getCode(), "arg"));
+            spanEventList.add(spanEvent);
+        }
+        span.setSpanEventList(spanEventList);
+        return span;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.common.profiler.sql.DefaultSqlNormalizer;
+import com.navercorp.pinpoint.common.profiler.sql.NormalizedSql;
+import com.navercorp.pinpoint.common.profiler.sql.SqlNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL parameter normalization done for every JDBC statement.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SqlNormalizerBenchmark {
+
+    @Param({"simple", "join", "literal"})
+    private String type;
+
+    private String sql;
+
+    private final SqlNormalizer sqlNormalizer = new DefaultSqlNormalizer();
+
+    @Setup
+    public void setup() {
+        switch (type) {
+            case "simple":
+                this.sql = "select * from member where id = 10";
+                break;
+            case "join":
+                this.sql = "select a.id, a.name, b.value from member a join profile b on a.id = b.member_id"
+                        + " where a.name = 'pinpoint' and b.value in (1, 2, 3) and a.created > '2024-01-01 00:00:00'";
+                break;
+            case "literal":
+                this.sql = "insert into trace (agent_id, start_time, elapsed, message)"
+                        + " values ('agent-01', 1700000000000, 12.5, 'it''s /* not */ a comment') -- tail";
+                break;
+            default:
+                throw new IllegalArgumentException("unknown type:" + type);
+        }
+    }
+
+    @Benchmark
+    public NormalizedSql normalizeSql() {
+        return sqlNormalizer.normalizeSql(sql);
+    }
+}
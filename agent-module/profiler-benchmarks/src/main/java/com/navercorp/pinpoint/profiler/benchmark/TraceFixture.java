@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.common.profiler.message.DataConsumer;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.AsyncContextFactory;
+import com.navercorp.pinpoint.profiler.context.AsyncTraceContext;
+import com.navercorp.pinpoint.profiler.context.CallStack;
+import com.navercorp.pinpoint.profiler.context.CallStackFactoryV1;
+import com.navercorp.pinpoint.profiler.context.CloseListener;
+import com.navercorp.pinpoint.profiler.context.DefaultAsyncContextFactory;
+import com.navercorp.pinpoint.profiler.context.DefaultSpanFactory;
+import com.navercorp.pinpoint.profiler.context.DefaultTrace;
+import com.navercorp.pinpoint.profiler.context.DisableAsyncState;
+import com.navercorp.pinpoint.profiler.context.DisableChildTrace;
+import com.navercorp.pinpoint.profiler.context.DisableSqlCountService;
+import com.navercorp.pinpoint.profiler.context.LocalAsyncId;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.SpanEventPool;
+import com.navercorp.pinpoint.profiler.context.ThreadLocalBinder;
+import com.navercorp.pinpoint.profiler.context.errorhandler.BypassErrorHandler;
+import com.navercorp.pinpoint.profiler.context.exception.disabled.DisabledExceptionRecorder;
+import com.navercorp.pinpoint.profiler.context.id.DefaultAsyncIdGenerator;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceId;
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.method.DefaultPredefinedMethodDescriptorRegistry;
+import com.navercorp.pinpoint.profiler.context.method.PredefinedMethodDescriptorRegistry;
+import com.navercorp.pinpoint.profiler.context.recorder.DefaultSpanRecorder;
+import com.navercorp.pinpoint.profiler.context.recorder.DisableChildTraceSpanEventRecorder;
+import com.navercorp.pinpoint.profiler.context.recorder.DisableSpanRecorder;
+import com.navercorp.pinpoint.profiler.context.recorder.WrappedSpanEventRecorder;
+import com.navercorp.pinpoint.profiler.context.storage.Storage;
+import com.navercorp.pinpoint.profiler.metadata.SqlMetaDataService;
+import com.navercorp.pinpoint.profiler.metadata.StringMetaDataService;
+
+import java.util.Objects;
+
+/**
+ * Builds traces with the production recorders, call stack and {@link DefaultAsyncContextFactory}
+ * but without metadata caches or transport behind them.
+ * A continued async trace is a disabled trace, so only the async context creation on the caller side is measured.
+ */
+final class TraceFixture {
+
+    static final String AGENT_ID = "benchmark-agent";
+    static final long AGENT_START_TIME = 1700000000000L;
+
+    private static final DataConsumer<Object> NOOP_CONSUMER = new DataConsumer<Object>() {
+        @Override
+        public boolean send(Object data) {
+            return true;
+        }
+    };
+
+    private static final AsyncContextFactory ASYNC_CONTEXT_FACTORY = newAsyncContextFactory();
+
+    private final CallStackFactoryV1 callStackFactory;
+    private long sequence;
+
+    TraceFixture(int maxDepth, SpanEventPool spanEventPool) {
+        Objects.requireNonNull(spanEventPool, "spanEventPool");
+        this.callStackFactory = new CallStackFactoryV1(maxDepth, -1, 1000, spanEventPool);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> DataConsumer<T> noopConsumer() {
+        return (DataConsumer<T>) NOOP_CONSUMER;
+    }
+
+    TraceRoot newTraceRoot() {
+        final long sequence = this.sequence++;
+        final TransactionId transactionId = TransactionId.of(AGENT_ID, AGENT_START_TIME, sequence);
+        return TraceRoot.remote(new DefaultTraceId(transactionId), AGENT_ID, System.currentTimeMillis(), sequence);
+    }
+
+    CallStack<SpanEvent> newCallStack() {
+        return callStackFactory.newCallStack();
+    }
+
+    DefaultTrace newTrace(TraceRoot traceRoot, Storage storage) {
+        final Span span = new DefaultSpanFactory().newSpan(traceRoot);
+        final DefaultSpanRecorder spanRecorder = new DefaultSpanRecorder(span, NoopStringMetaDataService.INSTANCE,
+                NoopSqlMetaDataService.INSTANCE, new BypassErrorHandler(), DisabledExceptionRecorder.INSTANCE);
+        final WrappedSpanEventRecorder spanEventRecorder = new WrappedSpanEventRecorder(traceRoot,
+                ASYNC_CONTEXT_FACTORY, NoopStringMetaDataService.INSTANCE, NoopSqlMetaDataService.INSTANCE,
+                new BypassErrorHandler(), DisabledExceptionRecorder.INSTANCE, new DisableSqlCountService());
+        return new DefaultTrace(span, newCallStack(), storage, spanRecorder, spanEventRecorder, CloseListener.EMPTY);
+    }
+
+    static class NoopStorage implements Storage {
+        @Override
+        public void store(SpanEvent spanEvent) {
+        }
+
+        @Override
+        public void store(Span span) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class NoopStringMetaDataService implements StringMetaDataService {
+        static final StringMetaDataService INSTANCE = new NoopStringMetaDataService();
+
+        @Override
+        public int cacheString(String value) {
+            return 0;
+        }
+    }
+
+    private static class NoopSqlMetaDataService implements SqlMetaDataService {
+        static final SqlMetaDataService INSTANCE = new NoopSqlMetaDataService();
+
+        @Override
+        public ParsingResult wrapSqlResult(String sql) {
+            return null;
+        }
+
+        @Override
+        public Annotation<?> newSqlAnnotation(ParsingResult result, String bindValue) {
+            return null;
+        }
+    }
+
+    /**
+     * Works as the agent does, except that a continued async trace is a disabled trace that records nothing.
+     */
+    private static AsyncContextFactory newAsyncContextFactory() {
+        final DisableAsyncTraceContext asyncTraceContext = new DisableAsyncTraceContext();
+        final PredefinedMethodDescriptorRegistry registry = new DefaultPredefinedMethodDescriptorRegistry(methodDescriptor -> 0);
+        final AsyncContextFactory asyncContextFactory = new DefaultAsyncContextFactory(asyncTraceContext,
+                new ThreadLocalBinder<Trace>(), new DefaultAsyncIdGenerator(), registry);
+        asyncTraceContext.asyncContextFactory = asyncContextFactory;
+        return asyncContextFactory;
+    }
+
+    private static class DisableAsyncTraceContext implements AsyncTraceContext {
+        private AsyncContextFactory asyncContextFactory;
+
+        @Override
+        public Trace continueAsyncContextTraceObject(TraceRoot traceRoot, LocalAsyncId localAsyncId) {
+            return continueDisableAsyncContextTraceObject(traceRoot);
+        }
+
+        @Override
+        public Trace continueDisableAsyncContextTraceObject(LocalTraceRoot traceRoot) {
+            final SpanRecorder spanRecorder = new DisableSpanRecorder(traceRoot, new BypassErrorHandler());
+            final SpanEventRecorder spanEventRecorder = new DisableChildTraceSpanEventRecorder(traceRoot,
+                    asyncContextFactory, new DisableAsyncState());
+            return new DisableChildTrace(traceRoot, spanRecorder, spanEventRecorder);
+        }
+    }
+}
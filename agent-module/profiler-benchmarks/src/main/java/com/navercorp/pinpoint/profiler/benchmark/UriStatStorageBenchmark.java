@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.profiler.context.storage.AsyncQueueingUriStatStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer side of the uri stat pipeline, measured from several request threads.
+ * Requests that do not fit the queue are dropped by the storage, as in production.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class UriStatStorageBenchmark {
+
+    private static final String[] URIS = {
+            "/", "/api/users/{id}", "/api/orders", "/api/orders/{id}/items", "/health", "/static/**"
+    };
+
+    private AsyncQueueingUriStatStorage storage;
+
+    @Setup
+    public void setup() {
+        this.storage = new AsyncQueueingUriStatStorage(true, 5120, 1000, "Pinpoint-UriStat-Benchmark");
+    }
+
+    @TearDown
+    public void tearDown() {
+        storage.close();
+    }
+
+    @Benchmark
+    public void store() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final String uri = URIS[random.nextInt(URIS.length)];
+        final long startTime = System.currentTimeMillis();
+        storage.store(uri, "GET", true, startTime, startTime + random.nextInt(100));
+    }
+}
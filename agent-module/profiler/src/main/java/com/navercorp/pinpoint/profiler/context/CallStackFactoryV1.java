@@ -21,12 +21,17 @@ package com.navercorp.pinpoint.profiler.context;
  */
 public class CallStackFactoryV1 implements CallStackFactory<SpanEvent> {
 
-    private final CallStack.Factory<SpanEvent> factory = new SpanEventFactory();
+    private final CallStack.Factory<SpanEvent> factory;
     private final int maxDepth;
     private final int maxSequence;
     private final CallStackOverflowListener overflowListener;
 
     public CallStackFactoryV1(int maxDepth, int maxSequence, int overflowLogRation) {
+        this(maxDepth, maxSequence, overflowLogRation, DisableSpanEventPool.INSTANCE);
+    }
+
+    public CallStackFactoryV1(int maxDepth, int maxSequence, int overflowLogRation, SpanEventPool spanEventPool) {
+        this.factory = new SpanEventFactory(spanEventPool);
         this.maxDepth = maxDepth;
         this.maxSequence = maxSequence;
         if (overflowLogRation > 1) {
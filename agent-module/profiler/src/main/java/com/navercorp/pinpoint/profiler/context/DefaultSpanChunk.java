@@ -30,7 +30,7 @@ public class DefaultSpanChunk implements SpanChunk {
 
     private final TraceRoot traceRoot;
 
-    private final List<SpanEvent> spanEventList; // required
+    private List<SpanEvent> spanEventList; // required
 
 
     public DefaultSpanChunk(TraceRoot traceRoot, List<SpanEvent> spanEventList) {
@@ -49,6 +49,11 @@ public class DefaultSpanChunk implements SpanChunk {
         return spanEventList;
     }
 
+    @Override
+    public void setSpanEventList(List<SpanEvent> spanEventList) {
+        this.spanEventList = Objects.requireNonNull(spanEventList, "spanEventList");
+    }
+
 
     @Override
     public String toString() {
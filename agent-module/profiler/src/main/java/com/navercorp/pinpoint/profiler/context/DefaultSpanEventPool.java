@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import com.navercorp.pinpoint.common.util.CollectionUtils;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded SpanEvent pool shared by the request threads and the span sender thread.
+ * Striping only spreads the lock contention, it gives no thread locality:
+ * the sender spreads released SpanEvents over all stripes round-robin,
+ * and a request thread starts at the stripe selected by its thread id and falls back to the other stripes.
+ * A SpanEvent must not be touched by the application after it has been stored.
+ */
+public class DefaultSpanEventPool implements SpanEventPool {
+
+    private final Queue<SpanEvent>[] stripes;
+    private final AtomicInteger releaseIndex = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    public DefaultSpanEventPool(int poolSize, int stripeCount) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be greater than 0");
+        }
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("stripeCount must be greater than 0");
+        }
+        final int stripeSize = Math.max(1, poolSize / stripeCount);
+        this.stripes = new Queue[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ArrayBlockingQueue<>(stripeSize);
+        }
+    }
+
+    @Override
+    public SpanEvent acquire() {
+        final Queue<SpanEvent>[] stripes = this.stripes;
+        final int start = (int) (Thread.currentThread().getId() % stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            final SpanEvent spanEvent = stripes[(start + i) % stripes.length].poll();
+            if (spanEvent != null) {
+                return spanEvent;
+            }
+        }
+        return new SpanEvent();
+    }
+
+    @Override
+    public void release(List<SpanEvent> spanEventList) {
+        if (CollectionUtils.isEmpty(spanEventList)) {
+            return;
+        }
+        final Queue<SpanEvent> stripe = stripes[Math.floorMod(releaseIndex.getAndIncrement(), stripes.length)];
+        for (int i = 0; i < spanEventList.size(); i++) {
+            final SpanEvent spanEvent = spanEventList.get(i);
+            if (spanEvent == null || SpanEventFactory.isDisableSpanEvent(spanEvent)) {
+                continue;
+            }
+            spanEvent.reset();
+            if (!stripe.offer(spanEvent)) {
+                // stripe is full, leave the rest to the GC
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultSpanEventPool{" +
+                "stripes=" + stripes.length +
+                '}';
+    }
+}
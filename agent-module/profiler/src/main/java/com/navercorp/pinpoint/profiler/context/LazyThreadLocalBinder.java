@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import com.navercorp.pinpoint.profiler.util.NamedThreadLocal;
+
+/**
+ * Binder for applications running millions of short-lived virtual threads.
+ * Unlike {@link ThreadLocalBinder}, a thread that never binds a value gets no reference object,
+ * and the thread local entry is removed as soon as the value is cleared,
+ * so parked or pooled threads do not keep an entry between traces.
+ */
+public class LazyThreadLocalBinder<T> implements Binder<T> {
+
+    private final ThreadLocal<BoundReference<T>> threadLocal = new NamedThreadLocal<>("LazyThreadLocalBinder");
+
+    private final Reference<T> unbound = new UnboundReference();
+
+    public LazyThreadLocalBinder() {
+    }
+
+    @Override
+    public Reference<T> get() {
+        final Reference<T> reference = threadLocal.get();
+        if (reference != null) {
+            return reference;
+        }
+        return unbound;
+    }
+
+    @Override
+    public void remove() {
+        this.threadLocal.remove();
+    }
+
+    private BoundReference<T> bind() {
+        BoundReference<T> reference = threadLocal.get();
+        if (reference == null) {
+            reference = new BoundReference<>(threadLocal);
+            threadLocal.set(reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Shared by every thread without a bound value, resolves the current thread on each call.
+     */
+    private class UnboundReference implements Reference<T> {
+        @Override
+        public T get() {
+            final Reference<T> reference = threadLocal.get();
+            if (reference == null) {
+                return null;
+            }
+            return reference.get();
+        }
+
+        @Override
+        public void set(T value) {
+            if (value == null) {
+                clear();
+                return;
+            }
+            bind().set(value);
+        }
+
+        @Override
+        public T clear() {
+            final Reference<T> reference = threadLocal.get();
+            if (reference == null) {
+                return null;
+            }
+            return reference.clear();
+        }
+    }
+
+    private static class BoundReference<T> implements Reference<T> {
+        private final ThreadLocal<BoundReference<T>> threadLocal;
+        private boolean bound = true;
+        private T value;
+
+        private BoundReference(ThreadLocal<BoundReference<T>> threadLocal) {
+            this.threadLocal = threadLocal;
+        }
+
+        @Override
+        public T get() {
+            return value;
+        }
+
+        @Override
+        public void set(T value) {
+            this.value = value;
+            if (!bound) {
+                // the caller kept this reference across clear()
+                threadLocal.set(this);
+                bound = true;
+            }
+        }
+
+        @Override
+        public T clear() {
+            final T copy = this.value;
+            this.value = null;
+            if (bound) {
+                threadLocal.remove();
+                bound = false;
+            }
+            return copy;
+        }
+    }
+}
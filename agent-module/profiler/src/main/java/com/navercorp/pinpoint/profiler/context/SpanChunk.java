@@ -27,4 +27,6 @@ public interface SpanChunk extends SpanType {
     TraceRoot getTraceRoot();
 
     List<SpanEvent> getSpanEventList();
+
+    void setSpanEventList(List<SpanEvent> spanEventList);
 }
@@ -64,6 +64,31 @@ public class SpanEvent extends DefaultFrameAttachment {
         this.annotations.add(annotation);
     }
 
+    /**
+     * Clears all recorded state so the instance can be reused by {@link SpanEventPool}.
+     * The annotation list is kept and cleared to reuse its backing array.
+     */
+    void reset() {
+        detachFrameObject();
+        this.timeRecording = true;
+        this.stackId = 0;
+        this.startTime = 0;
+        this.elapsedTime = 0;
+        this.sequence = 0;
+        this.serviceType = 0;
+        this.endPoint = null;
+        if (this.annotations != null) {
+            this.annotations.clear();
+        }
+        this.depth = -1;
+        this.nextSpanId = -1;
+        this.destinationId = null;
+        this.apiId = 0;
+        this.exceptionInfo = null;
+        this.asyncIdObject = null;
+        this.executeQueryType = false;
+    }
+
     public void setExceptionInfo(int exceptionClassId, String exceptionMessage) {
         this.exceptionInfo = new IntStringValue(exceptionClassId, exceptionMessage);
     }
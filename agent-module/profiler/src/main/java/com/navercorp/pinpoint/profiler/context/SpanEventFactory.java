@@ -16,10 +16,23 @@
 
 package com.navercorp.pinpoint.profiler.context;
 
+import java.util.Objects;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
 public class SpanEventFactory implements CallStack.Factory<SpanEvent> {
+
+    private final SpanEventPool spanEventPool;
+
+    public SpanEventFactory() {
+        this(DisableSpanEventPool.INSTANCE);
+    }
+
+    public SpanEventFactory(SpanEventPool spanEventPool) {
+        this.spanEventPool = Objects.requireNonNull(spanEventPool, "spanEventPool");
+    }
+
     @Override
     public Class<SpanEvent> getType() {
         return SpanEvent.class;
@@ -27,7 +40,7 @@ public class SpanEventFactory implements CallStack.Factory<SpanEvent> {
 
     @Override
     public SpanEvent newInstance() {
-        return new SpanEvent();
+        return spanEventPool.acquire();
     }
 
     @Override
@@ -56,7 +69,9 @@ public class SpanEventFactory implements CallStack.Factory<SpanEvent> {
 
     @Override
     public String toString() {
-        return "SpanEventFactory{}";
+        return "SpanEventFactory{" +
+                "spanEventPool=" + spanEventPool +
+                '}';
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.active;
+
+import com.navercorp.pinpoint.common.trace.BaseHistogramSchema;
+import com.navercorp.pinpoint.common.trace.HistogramSchema;
+import com.navercorp.pinpoint.common.trace.HistogramSlot;
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeCollector;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ActiveTraceRepository backed by a preallocated slot array.
+ * A trace is placed by the hash of its local transaction id and probes only the slots of its stripe,
+ * so register and purge are a single CAS in the common case.
+ * Consecutive ids are spread over different stripes to avoid false sharing between request threads.
+ * When every slot of a stripe is taken the trace is not tracked, instead of evicting another trace.
+ */
+public class StripedActiveTraceRepository implements ActiveTraceRepository {
+
+    private static final int DEFAULT_MAX_ACTIVE_TRACE_SIZE = 1024 * 10;
+    // 8 references, one cache line with compressed oops
+    static final int STRIPE_SIZE = 8;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+    private final boolean isDebug = logger.isDebugEnabled();
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int shift;
+
+    private final ResponseTimeCollector responseTimeCollector;
+
+    private final HistogramSchema histogramSchema = BaseHistogramSchema.NORMAL_SCHEMA;
+    private final ActiveTraceHistogram emptyActiveTraceHistogram = new EmptyActiveTraceHistogram(histogramSchema);
+
+    public StripedActiveTraceRepository(ResponseTimeCollector responseTimeCollector) {
+        this(responseTimeCollector, DEFAULT_MAX_ACTIVE_TRACE_SIZE);
+    }
+
+    public StripedActiveTraceRepository(ResponseTimeCollector responseTimeCollector, int maxActiveTraceSize) {
+        this.responseTimeCollector = Objects.requireNonNull(responseTimeCollector, "responseTimeCollector");
+        if (maxActiveTraceSize <= 0) {
+            throw new IllegalArgumentException("maxActiveTraceSize must be greater than 0");
+        }
+        final int capacity = capacity(maxActiveTraceSize);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    static int capacity(int maxActiveTraceSize) {
+        final int size = Math.max(maxActiveTraceSize, STRIPE_SIZE);
+        final int highestOneBit = Integer.highestOneBit(size);
+        if (highestOneBit == size) {
+            return size;
+        }
+        return highestOneBit << 1;
+    }
+
+    int index(long localTransactionId) {
+        return (int) ((localTransactionId * GOLDEN_RATIO) >>> shift);
+    }
+
+    @Override
+    public ActiveTraceHandle register(LocalTraceRoot localTraceRoot) {
+        if (isDebug) {
+            logger.debug("register ActiveTrace key:{}", localTraceRoot);
+        }
+
+        final int home = index(localTraceRoot.getLocalTransactionId());
+        final int stripe = home & -STRIPE_SIZE;
+        for (int i = 0; i < STRIPE_SIZE; i++) {
+            final int index = stripe | ((home + i) & (STRIPE_SIZE - 1));
+            if (slots.get(index) == null) {
+                final Slot slot = new Slot(localTraceRoot, index);
+                if (slots.compareAndSet(index, null, slot)) {
+                    return slot;
+                }
+            }
+        }
+        if (isDebug) {
+            logger.debug("stripe is full, ActiveTrace not tracked key:{}", localTraceRoot);
+        }
+        return ActiveTraceHandle.EMPTY_HANDLE;
+    }
+
+    private void remove(Slot slot, long purgeTime) {
+        if (isDebug) {
+            logger.debug("remove ActiveTrace key:{}", slot.traceRoot);
+        }
+        if (slots.compareAndSet(slot.index, slot, null)) {
+            final long responseTime = purgeTime - slot.traceRoot.getTraceStartTime();
+            responseTimeCollector.add(responseTime);
+        }
+    }
+
+    // @ThreadSafe
+    @Override
+    public List<ActiveTraceSnapshot> snapshot() {
+        List<ActiveTraceSnapshot> collectData = null;
+        for (int i = 0; i < slots.length(); i++) {
+            final Slot slot = slots.get(i);
+            if (slot == null || !isStarted(slot.traceRoot.getTraceStartTime())) {
+                continue;
+            }
+            if (collectData == null) {
+                collectData = new ArrayList<>();
+            }
+            collectData.add(DefaultActiveTraceSnapshot.of(slot.traceRoot));
+        }
+        if (collectData == null) {
+            return Collections.emptyList();
+        }
+        if (isDebug) {
+            logger.debug("activeTraceSnapshot size:{}", collectData.size());
+        }
+        return collectData;
+    }
+
+    // @ThreadSafe
+    @Override
+    public List<Long> getThreadIdList() {
+        List<Long> collectData = null;
+        for (int i = 0; i < slots.length(); i++) {
+            final Slot slot = slots.get(i);
+            if (slot == null || !isStarted(slot.traceRoot.getTraceStartTime())) {
+                continue;
+            }
+            if (collectData == null) {
+                collectData = new ArrayList<>();
+            }
+            collectData.add(slot.traceRoot.getShared().getThreadId());
+        }
+        if (collectData == null) {
+            return Collections.emptyList();
+        }
+        return collectData;
+    }
+
+    // @ThreadSafe
+    @Override
+    public ActiveTraceHistogram getActiveTraceHistogram(long currentTime) {
+        DefaultActiveTraceHistogram histogram = null;
+        for (int i = 0; i < slots.length(); i++) {
+            final Slot slot = slots.get(i);
+            if (slot == null) {
+                continue;
+            }
+            final long startTime = slot.traceRoot.getTraceStartTime();
+            if (!isStarted(startTime)) {
+                continue;
+            }
+            if (histogram == null) {
+                histogram = new DefaultActiveTraceHistogram(histogramSchema);
+            }
+            final int elapsedTime = (int) (currentTime - startTime);
+            final HistogramSlot histogramSlot = histogramSchema.findHistogramSlot(elapsedTime, false);
+            histogram.increment(histogramSlot);
+        }
+        if (histogram == null) {
+            return emptyActiveTraceHistogram;
+        }
+        return histogram;
+    }
+
+    private boolean isStarted(long startTime) {
+        return startTime > 0;
+    }
+
+    private class Slot implements ActiveTraceHandle {
+        private final LocalTraceRoot traceRoot;
+        private final int index;
+
+        private Slot(LocalTraceRoot traceRoot, int index) {
+            this.traceRoot = Objects.requireNonNull(traceRoot, "traceRoot");
+            this.index = index;
+        }
+
+        @Override
+        public void purge(long purgeTime) {
+            remove(this, purgeTime);
+        }
+
+        @Override
+        public String toString() {
+            return "Slot{" +
+                    "index=" + index +
+                    ", traceRoot=" + traceRoot +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StripedActiveTraceRepository{" +
+                "capacity=" + slots.length() +
+                ", stripeSize=" + STRIPE_SIZE +
+                '}';
+    }
+}
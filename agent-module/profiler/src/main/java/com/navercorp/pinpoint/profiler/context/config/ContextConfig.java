@@ -20,6 +20,8 @@ public interface ContextConfig {
 
     boolean isTraceAgentActiveThread();
 
+    boolean isActiveThreadStriped();
+
     boolean isTraceAgentDataSource();
 
     int getDataSourceTraceLimitSize();
@@ -36,6 +38,10 @@ public interface ContextConfig {
 
     int getIoBufferingBufferSize();
 
+    boolean isSpanEventRecycleEnable();
+
+    int getSpanEventRecyclePoolSize();
+
     String getProfilerJvmVendorName();
 
     String getProfilerOSName();
@@ -43,4 +49,6 @@ public interface ContextConfig {
     long getAgentInfoSendRetryInterval();
 
     boolean isProxyHttpHeaderEnable();
+
+    boolean isVirtualThreadEnable();
 }
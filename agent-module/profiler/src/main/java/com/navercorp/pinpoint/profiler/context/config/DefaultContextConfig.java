@@ -23,6 +23,9 @@ public class DefaultContextConfig implements ContextConfig {
     @Value("${profiler.pinpoint.activethread}")
     private boolean traceAgentActiveThread = true;
 
+    @Value("${profiler.pinpoint.activethread.striped}")
+    private boolean activeThreadStriped = false;
+
     @Value("${profiler.pinpoint.datasource}")
     private boolean traceAgentDataSource = false;
 
@@ -49,6 +52,12 @@ public class DefaultContextConfig implements ContextConfig {
     @Value("${profiler.io.buffering.buffersize}")
     private int ioBufferingBufferSize = 20;
 
+    // reuse SpanEvent after the span sender has serialized it
+    @Value("${profiler.span.event.recycle.enable}")
+    private boolean spanEventRecycleEnable = false;
+    @Value("${profiler.span.event.recycle.pool.size}")
+    private int spanEventRecyclePoolSize = 4096;
+
     @Value("profiler.jvm.vendor.name")
     private String profileJvmVendorName;
     // JVM
@@ -63,6 +72,10 @@ public class DefaultContextConfig implements ContextConfig {
     @Value("${profiler.proxy.http.header.enable}")
     private boolean proxyHttpHeaderEnable = true;
 
+    // shared with the jdk-virtual-thread plugin
+    @Value("${profiler.jdk.virtual-thread.enable}")
+    private boolean virtualThreadEnable = false;
+
     public DefaultContextConfig() {
     }
 
@@ -71,6 +84,11 @@ public class DefaultContextConfig implements ContextConfig {
         return traceAgentActiveThread;
     }
 
+    @Override
+    public boolean isActiveThreadStriped() {
+        return activeThreadStriped;
+    }
+
     @Override
     public boolean isTraceAgentDataSource() {
         return traceAgentDataSource;
@@ -111,6 +129,16 @@ public class DefaultContextConfig implements ContextConfig {
         return ioBufferingBufferSize;
     }
 
+    @Override
+    public boolean isSpanEventRecycleEnable() {
+        return spanEventRecycleEnable;
+    }
+
+    @Override
+    public int getSpanEventRecyclePoolSize() {
+        return spanEventRecyclePoolSize;
+    }
+
     @Override
     public String getProfilerJvmVendorName() {
         return profileJvmVendorName;
@@ -131,10 +159,16 @@ public class DefaultContextConfig implements ContextConfig {
         return proxyHttpHeaderEnable;
     }
 
+    @Override
+    public boolean isVirtualThreadEnable() {
+        return virtualThreadEnable;
+    }
+
     @Override
     public String toString() {
         return "DefaultContextConfig{" +
                 "traceAgentActiveThread=" + traceAgentActiveThread +
+                ", activeThreadStriped=" + activeThreadStriped +
                 ", traceAgentDataSource=" + traceAgentDataSource +
                 ", dataSourceTraceLimitSize=" + dataSourceTraceLimitSize +
                 ", deadlockMonitorEnable=" + deadlockMonitorEnable +
@@ -143,11 +177,14 @@ public class DefaultContextConfig implements ContextConfig {
                 ", samplingContinueThroughput=" + samplingContinueThroughput +
                 ", ioBufferingEnable=" + ioBufferingEnable +
                 ", ioBufferingBufferSize=" + ioBufferingBufferSize +
+                ", spanEventRecycleEnable=" + spanEventRecycleEnable +
+                ", spanEventRecyclePoolSize=" + spanEventRecyclePoolSize +
                 ", profileJvmVendorName='" + profileJvmVendorName + '\'' +
                 ", profileOsName='" + profileOsName + '\'' +
                 ", DEFAULT_AGENT_INFO_SEND_RETRY_INTERVAL=" + DEFAULT_AGENT_INFO_SEND_RETRY_INTERVAL +
                 ", agentInfoSendRetryInterval=" + agentInfoSendRetryInterval +
                 ", proxyHttpHeaderEnable=" + proxyHttpHeaderEnable +
+                ", virtualThreadEnable=" + virtualThreadEnable +
                 '}';
     }
 }
@@ -22,14 +22,19 @@ import com.navercorp.pinpoint.common.profiler.logging.ThrottledLogger;
 import com.navercorp.pinpoint.common.profiler.message.MessageConverter;
 import com.navercorp.pinpoint.grpc.trace.PSpan;
 import com.navercorp.pinpoint.grpc.trace.PSpanChunk;
+import com.navercorp.pinpoint.profiler.context.DisableSpanEventPool;
 import com.navercorp.pinpoint.profiler.context.Span;
 import com.navercorp.pinpoint.profiler.context.SpanChunk;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.SpanEventPool;
 import com.navercorp.pinpoint.profiler.context.SpanType;
 import com.navercorp.pinpoint.profiler.context.compress.SpanProcessor;
 import com.navercorp.pinpoint.profiler.context.grpc.mapper.SpanMessageMapper;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -51,24 +56,44 @@ public class GrpcSpanMessageConverter implements MessageConverter<SpanType, Gene
 
     private final SpanMessageMapper mapper;
 
+    private final SpanEventPool spanEventPool;
+
     public GrpcSpanMessageConverter(String agentId, short applicationServiceType,
                                     SpanProcessor<PSpan.Builder, PSpanChunk.Builder> spanProcessor,
                                     SpanMessageMapper spanMessageMapper) {
+        this(agentId, applicationServiceType, spanProcessor, spanMessageMapper, DisableSpanEventPool.INSTANCE);
+    }
+
+    public GrpcSpanMessageConverter(String agentId, short applicationServiceType,
+                                    SpanProcessor<PSpan.Builder, PSpanChunk.Builder> spanProcessor,
+                                    SpanMessageMapper spanMessageMapper,
+                                    SpanEventPool spanEventPool) {
         this.agentId = Objects.requireNonNull(agentId, "agentId");
         this.applicationServiceType = applicationServiceType;
         this.spanProcessor = Objects.requireNonNull(spanProcessor, "spanProcessor");
         this.mapper = Objects.requireNonNull(spanMessageMapper, "spanMessageMapper");
+        this.spanEventPool = Objects.requireNonNull(spanEventPool, "spanEventPool");
     }
 
     @Override
     public GeneratedMessageV3 toMessage(SpanType message) {
         if (message instanceof SpanChunk) {
             final SpanChunk spanChunk = (SpanChunk) message;
-            return buildPSpanChunk(spanChunk);
+            final PSpanChunk pSpanChunk = buildPSpanChunk(spanChunk);
+            // SpanEvents are copied into the message, recycle them
+            final List<SpanEvent> spanEventList = spanChunk.getSpanEventList();
+            // detach first so that a later reader of the chunk never sees a recycled SpanEvent
+            spanChunk.setSpanEventList(Collections.emptyList());
+            spanEventPool.release(spanEventList);
+            return pSpanChunk;
         }
         if (message instanceof Span) {
             final Span span = (Span) message;
-            return buildPSpan(span);
+            final PSpan pSpan = buildPSpan(span);
+            final List<SpanEvent> spanEventList = span.getSpanEventList();
+            span.setSpanEventList(Collections.emptyList());
+            spanEventPool.release(spanEventList);
+            return pSpan;
         }
         return null;
     }
@@ -100,6 +125,7 @@ public class GrpcSpanMessageConverter implements MessageConverter<SpanType, Gene
                 "agentId='" + agentId + '\'' +
                 ", applicationServiceType=" + applicationServiceType +
                 ", spanProcessor=" + spanProcessor +
+                ", spanEventPool=" + spanEventPool +
                 '}';
     }
 }
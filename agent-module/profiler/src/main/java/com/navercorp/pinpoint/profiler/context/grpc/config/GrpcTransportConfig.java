@@ -77,6 +77,9 @@ public class GrpcTransportConfig {
 
     private static final boolean DEFAULT_ENABLE_SPAN_STATS_LOGGING = false;
 
+    private static final int DEFAULT_SPAN_STREAM_COUNT = 1;
+    private static final int DEFAULT_SPAN_STREAM_DRAIN_SIZE = 1;
+
     private ClientOption agentClientOption = new ClientOption();
     private ClientOption metadataClientOption = new ClientOption();
     private ClientOption statClientOption = new ClientOption();
@@ -165,6 +168,10 @@ public class GrpcTransportConfig {
     private long spanNotReadyTimeoutMillis = DEFAULT_NOT_READY_TIMEOUT_MILLIS;
     @Value("${profiler.transport.grpc.span.sender.rpc.age.max.millis}")
     private long spanRpcMaxAgeMillis = DEFAULT_RPC_MAX_AGE_MILLIS;
+    @Value("${profiler.transport.grpc.span.sender.stream.count}")
+    private int spanStreamCount = DEFAULT_SPAN_STREAM_COUNT;
+    @Value("${profiler.transport.grpc.span.sender.stream.drain.size}")
+    private int spanStreamDrainSize = DEFAULT_SPAN_STREAM_DRAIN_SIZE;
 
     @Value("${profiler.transport.grpc.loadbalancer.renew.period.millis}")
     private long renewTransportPeriodMillis = DEFAULT_RENEW_TRANSPORT_PERIOD_MILLIS;
@@ -325,6 +332,14 @@ public class GrpcTransportConfig {
         return spanRpcMaxAgeMillis;
     }
 
+    public int getSpanStreamCount() {
+        return spanStreamCount;
+    }
+
+    public int getSpanStreamDrainSize() {
+        return spanStreamDrainSize;
+    }
+
     public long getRenewTransportPeriodMillis() {
         return renewTransportPeriodMillis;
     }
@@ -453,6 +468,8 @@ public class GrpcTransportConfig {
                 ", nettySystemPropertyTryReflectiveSetAccessible=" + nettySystemPropertyTryReflectiveSetAccessible +
                 ", spanDiscardLogRateLimit=" + spanDiscardLogRateLimit +
                 ", spanDiscardMaxPendingThreshold=" + spanDiscardMaxPendingThreshold +
+                ", spanStreamCount=" + spanStreamCount +
+                ", spanStreamDrainSize=" + spanStreamDrainSize +
                 '}';
     }
 }
@@ -43,6 +43,7 @@ import com.navercorp.pinpoint.profiler.instrument.ASMBytecodeDumpService;
 import com.navercorp.pinpoint.profiler.instrument.BytecodeDumpTransformer;
 import com.navercorp.pinpoint.profiler.instrument.InstrumentEngine;
 import com.navercorp.pinpoint.profiler.instrument.lambda.LambdaTransformBootloader;
+import com.navercorp.pinpoint.profiler.instrument.transformer.TransformCache;
 import com.navercorp.pinpoint.profiler.interceptor.registry.InterceptorRegistryBinder;
 import com.navercorp.pinpoint.profiler.micrometer.MicrometerMonitor;
 import com.navercorp.pinpoint.profiler.monitor.AgentStatMonitor;
@@ -81,6 +82,7 @@ public class DefaultApplicationContext implements ApplicationContext {
     private final InstrumentEngine instrumentEngine;
     private final DynamicTransformTrigger dynamicTransformTrigger;
     private final InterceptorRegistryBinder interceptorRegistryBinder;
+    private final TransformCache transformCache;
 
     private final Injector injector;
 
@@ -105,6 +107,7 @@ public class DefaultApplicationContext implements ApplicationContext {
 
         this.instrumentEngine = injector.getInstance(InstrumentEngine.class);
 
+        this.transformCache = injector.getInstance(TransformCache.class);
         this.classFileTransformer = injector.getInstance(ClassFileTransformer.class);
         this.dynamicTransformTrigger = injector.getInstance(DynamicTransformTrigger.class);
 
@@ -247,6 +250,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         if (rpcModuleLifeCycle != null) {
             this.rpcModuleLifeCycle.shutdown();
         }
+        this.transformCache.close();
 
         if (staticResourceCleanup) {
             this.interceptorRegistryBinder.unbind();
@@ -47,8 +47,10 @@ import com.navercorp.pinpoint.profiler.context.provider.plugin.PluginJarsProvide
 import com.navercorp.pinpoint.profiler.instrument.classloading.BootstrapCore;
 import com.navercorp.pinpoint.profiler.instrument.config.DefaultInstrumentConfig;
 import com.navercorp.pinpoint.profiler.instrument.config.DefaultInstrumentMatcherCacheConfig;
+import com.navercorp.pinpoint.profiler.instrument.config.DefaultTransformCacheConfig;
 import com.navercorp.pinpoint.profiler.instrument.config.InstrumentConfig;
 import com.navercorp.pinpoint.profiler.instrument.config.InstrumentMatcherCacheConfig;
+import com.navercorp.pinpoint.profiler.instrument.config.TransformCacheConfig;
 import com.navercorp.pinpoint.profiler.interceptor.registry.InterceptorRegistryBinder;
 import com.navercorp.pinpoint.profiler.plugin.PluginJar;
 import com.navercorp.pinpoint.profiler.plugin.config.DefaultPluginLoadingConfig;
@@ -111,6 +113,11 @@ public class ConfigModule extends AbstractModule {
         logger.info("{}", instrumentMatcherCacheConfig);
         bind(InstrumentMatcherCacheConfig.class).toInstance(instrumentMatcherCacheConfig);
 
+        TransformCacheConfig transformCacheConfig = new DefaultTransformCacheConfig();
+        configurationLoader.load(transformCacheConfig);
+        logger.info("{}", transformCacheConfig);
+        bind(TransformCacheConfig.class).toInstance(transformCacheConfig);
+
 
         MonitorConfig monitorConfig = new DefaultMonitorConfig();
         configurationLoader.load(monitorConfig);
@@ -17,6 +17,10 @@
 package com.navercorp.pinpoint.profiler.context.monitor.config;
 
 import com.navercorp.pinpoint.common.config.Value;
+import com.navercorp.pinpoint.common.util.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
 
 public class DefaultMonitorConfig implements MonitorConfig {
 
@@ -32,6 +36,7 @@ public class DefaultMonitorConfig implements MonitorConfig {
     private boolean uriStatEnable = false;
     @Value("${profiler.uri.stat.collect.http.method}")
     private boolean uriStatCollectHttpMethod = false;
+    private List<String> uriStatTemplatePatterns = Collections.emptyList();
     @Value("${profiler.uri.stat.completed.data.limit.size}")
     private int completedUriStatDataLimitSize = 1000;
 
@@ -87,6 +92,16 @@ public class DefaultMonitorConfig implements MonitorConfig {
         return uriStatCollectHttpMethod;
     }
 
+    @Override
+    public List<String> getUriStatTemplatePatterns() {
+        return uriStatTemplatePatterns;
+    }
+
+    @Value("${profiler.uri.stat.template.patterns}")
+    public void setUriStatTemplatePatterns(String uriStatTemplatePatterns) {
+        this.uriStatTemplatePatterns = StringUtils.tokenizeToStringList(uriStatTemplatePatterns, ",");
+    }
+
     @Override
     public boolean isSqlStatEnable() {
         return sqlStatEnable;
@@ -114,6 +129,7 @@ public class DefaultMonitorConfig implements MonitorConfig {
                 ", customMetricLimitSize=" + customMetricLimitSize +
                 ", uriStatEnable=" + uriStatEnable +
                 ", uriStatCollectHttpMethod=" + uriStatCollectHttpMethod +
+                ", uriStatTemplatePatterns=" + uriStatTemplatePatterns +
                 ", completedUriStatDataLimitSize=" + completedUriStatDataLimitSize +
                 ", sqlStatEnable=" + sqlStatEnable +
                 ", sqlErrorEnable=" + sqlErrorEnable +
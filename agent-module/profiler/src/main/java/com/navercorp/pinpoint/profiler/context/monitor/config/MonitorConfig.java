@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.context.monitor.config;
 
+import java.util.List;
+
 public interface MonitorConfig {
     int getProfileJvmStatCollectIntervalMs();
 
@@ -31,6 +33,8 @@ public interface MonitorConfig {
 
     boolean getUriStatCollectHttpMethod();
 
+    List<String> getUriStatTemplatePatterns();
+
     boolean isSqlStatEnable();
 
     boolean isSqlErrorEnable();
@@ -28,13 +28,16 @@ import com.navercorp.pinpoint.profiler.instrument.classloading.ClassInjector;
 import com.navercorp.pinpoint.profiler.instrument.classloading.DebugTransformerClassInjector;
 import com.navercorp.pinpoint.profiler.instrument.config.InstrumentConfig;
 import com.navercorp.pinpoint.profiler.instrument.config.InstrumentMatcherCacheConfig;
+import com.navercorp.pinpoint.profiler.instrument.config.TransformCacheConfig;
 import com.navercorp.pinpoint.profiler.instrument.transformer.BypassLambdaClassFileResolver;
+import com.navercorp.pinpoint.profiler.instrument.transformer.CachedTransformerRegistry;
 import com.navercorp.pinpoint.profiler.instrument.transformer.DebugTransformer;
 import com.navercorp.pinpoint.profiler.instrument.transformer.DebugTransformerRegistry;
 import com.navercorp.pinpoint.profiler.instrument.transformer.DefaultLambdaClassFileResolver;
 import com.navercorp.pinpoint.profiler.instrument.transformer.DefaultTransformerRegistry;
 import com.navercorp.pinpoint.profiler.instrument.transformer.LambdaClassFileResolver;
 import com.navercorp.pinpoint.profiler.instrument.transformer.MatchableTransformerRegistry;
+import com.navercorp.pinpoint.profiler.instrument.transformer.TransformCache;
 import com.navercorp.pinpoint.profiler.instrument.transformer.TransformerRegistry;
 import com.navercorp.pinpoint.profiler.plugin.ClassFileTransformerLoader;
 import com.navercorp.pinpoint.profiler.plugin.MatchableClassFileTransformer;
@@ -68,13 +71,16 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
     private final InstrumentEngine instrumentEngine;
     private final DynamicTransformTrigger dynamicTransformTrigger;
     private final DynamicTransformerRegistry dynamicTransformerRegistry;
+    private final TransformCacheConfig transformCacheConfig;
+    private final TransformCache transformCache;
 
     @Inject
     public ClassFileTransformerProvider(ProfilerConfig profilerConfig,
                                         InstrumentConfig instrumentConfig,
                                         InstrumentMatcherCacheConfig instrumentMatcherCacheConfig,
                                         InstrumentEngine instrumentEngine, PluginContextLoadResult pluginContextLoadResult,
-                                        DynamicTransformTrigger dynamicTransformTrigger, DynamicTransformerRegistry dynamicTransformerRegistry) {
+                                        DynamicTransformTrigger dynamicTransformTrigger, DynamicTransformerRegistry dynamicTransformerRegistry,
+                                        TransformCacheConfig transformCacheConfig, TransformCache transformCache) {
         this.profilerConfig = Objects.requireNonNull(profilerConfig, "profilerConfig");
         this.instrumentConfig = Objects.requireNonNull(instrumentConfig, "instrumentConfig");
         this.instrumentMatcherCacheConfig = Objects.requireNonNull(instrumentMatcherCacheConfig, "instrumentMatcherCacheConfig");
@@ -83,6 +89,8 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
         this.pluginContextLoadResult = Objects.requireNonNull(pluginContextLoadResult, "pluginContextLoadResult");
         this.dynamicTransformTrigger = Objects.requireNonNull(dynamicTransformTrigger, "dynamicTransformTrigger");
         this.dynamicTransformerRegistry = Objects.requireNonNull(dynamicTransformerRegistry, "dynamicTransformerRegistry");
+        this.transformCacheConfig = Objects.requireNonNull(transformCacheConfig, "transformCacheConfig");
+        this.transformCache = Objects.requireNonNull(transformCache, "transformCache");
     }
 
     @Override
@@ -112,7 +120,11 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
 
         final TransformerRegistry debugTransformerRegistry = newDebugTransformerRegistry();
 
-        return new DelegateTransformerRegistry(transformerRegistry, debugTransformerRegistry);
+        final TransformerRegistry delegateTransformerRegistry = new DelegateTransformerRegistry(transformerRegistry, debugTransformerRegistry);
+        if (transformCache.isActive()) {
+            return new CachedTransformerRegistry(delegateTransformerRegistry, transformCache, transformCacheConfig.isTransformCacheVerify());
+        }
+        return delegateTransformerRegistry;
     }
 
     private TransformerRegistry newDebugTransformerRegistry() {
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.profiler.context.Binder;
+import com.navercorp.pinpoint.profiler.context.LazyThreadLocalBinder;
+import com.navercorp.pinpoint.profiler.context.ThreadLocalBinder;
+import com.navercorp.pinpoint.profiler.context.config.ContextConfig;
+
+import java.util.Objects;
+
+public class TraceBinderProvider implements Provider<Binder<Trace>> {
+
+    private final ContextConfig contextConfig;
+
+    @Inject
+    public TraceBinderProvider(ContextConfig contextConfig) {
+        this.contextConfig = Objects.requireNonNull(contextConfig, "contextConfig");
+    }
+
+    @Override
+    public Binder<Trace> get() {
+        if (contextConfig.isVirtualThreadEnable()) {
+            return new LazyThreadLocalBinder<>();
+        }
+        return new ThreadLocalBinder<>();
+    }
+}
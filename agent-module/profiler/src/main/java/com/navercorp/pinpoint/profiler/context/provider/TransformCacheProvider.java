@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.common.Version;
+import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.profiler.context.module.PluginJarPaths;
+import com.navercorp.pinpoint.profiler.instrument.config.TransformCacheConfig;
+import com.navercorp.pinpoint.profiler.instrument.transformer.DisableTransformCache;
+import com.navercorp.pinpoint.profiler.instrument.transformer.FileTransformCache;
+import com.navercorp.pinpoint.profiler.instrument.transformer.TransformCache;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The transform cache file is named after the hash of the agent version, the plugin jars
+ * and the {@code profiler.*} configuration, so that changing any of them starts a new cache.
+ */
+public class TransformCacheProvider implements Provider<TransformCache> {
+
+    static final String CONFIG_PREFIX = "profiler.";
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final TransformCacheConfig transformCacheConfig;
+    private final ProfilerConfig profilerConfig;
+    private final List<Path> pluginJarPaths;
+
+    @Inject
+    public TransformCacheProvider(TransformCacheConfig transformCacheConfig, ProfilerConfig profilerConfig, @PluginJarPaths List<Path> pluginJarPaths) {
+        this.transformCacheConfig = Objects.requireNonNull(transformCacheConfig, "transformCacheConfig");
+        this.profilerConfig = Objects.requireNonNull(profilerConfig, "profilerConfig");
+        this.pluginJarPaths = Objects.requireNonNull(pluginJarPaths, "pluginJarPaths");
+    }
+
+    @Override
+    public TransformCache get() {
+        if (!transformCacheConfig.isTransformCacheEnable()) {
+            return new DisableTransformCache();
+        }
+
+        final String context = context(Version.VERSION, pluginJarPaths, profilerConfig.getProperties());
+        final Path file = getCacheDir().resolve("transform-cache-" + context.substring(0, 16) + ".bin");
+
+        final FileTransformCache transformCache = new FileTransformCache(file, context, transformCacheConfig.getTransformCacheMaxEntries());
+        transformCache.load();
+        transformCache.scheduleSave(transformCacheConfig.getTransformCacheSaveDelay());
+        logger.info("{}", transformCache);
+        return transformCache;
+    }
+
+    private Path getCacheDir() {
+        final String dir = transformCacheConfig.getTransformCacheDir();
+        if (StringUtils.hasText(dir)) {
+            return Paths.get(dir);
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "pinpoint-agent", "transform-cache");
+    }
+
+    static String context(String agentVersion, List<Path> pluginJarPaths, Properties properties) {
+        final List<String> pluginJars = new ArrayList<>(pluginJarPaths.size());
+        for (Path pluginJarPath : pluginJarPaths) {
+            pluginJars.add(String.valueOf(pluginJarPath.getFileName()));
+        }
+        Collections.sort(pluginJars);
+
+        final List<String> configs = new ArrayList<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(CONFIG_PREFIX)) {
+                configs.add(key + '=' + properties.getProperty(key));
+            }
+        }
+        Collections.sort(configs);
+
+        final MessageDigest digest = newDigest();
+        update(digest, agentVersion);
+        for (String pluginJar : pluginJars) {
+            update(digest, pluginJar);
+        }
+        for (String config : configs) {
+            update(digest, config);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
@@ -22,7 +22,9 @@ import com.navercorp.pinpoint.profiler.context.monitor.config.MonitorConfig;
 import com.navercorp.pinpoint.profiler.context.storage.AsyncQueueingUriStatStorage;
 import com.navercorp.pinpoint.profiler.context.storage.DisabledUriStatStorage;
 import com.navercorp.pinpoint.profiler.context.storage.UriStatStorage;
+import com.navercorp.pinpoint.profiler.util.PathPatternTrie;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -42,9 +44,18 @@ public class UriStatStorageProvider implements Provider<UriStatStorage> {
     @Override
     public UriStatStorage get() {
         if (monitorConfig.isUriStatEnable()) {
-            return new AsyncQueueingUriStatStorage(monitorConfig.getUriStatCollectHttpMethod(), 5192, monitorConfig.getCompletedUriStatDataLimitSize(), URI_STAT_STORAGE_EXECUTOR_NAME);
+            final PathPatternTrie<String> uriTemplate = newUriTemplate(monitorConfig.getUriStatTemplatePatterns());
+            return new AsyncQueueingUriStatStorage(monitorConfig.getUriStatCollectHttpMethod(), 5192, monitorConfig.getCompletedUriStatDataLimitSize(), URI_STAT_STORAGE_EXECUTOR_NAME, uriTemplate);
         } else {
             return DisabledUriStatStorage.INSTANCE;
         }
     }
-}
\ No newline at end of file
+
+    private PathPatternTrie<String> newUriTemplate(List<String> patterns) {
+        final PathPatternTrie.Builder<String> builder = PathPatternTrie.newBuilder();
+        for (String pattern : patterns) {
+            builder.add(pattern, pattern);
+        }
+        return builder.build();
+    }
+}
@@ -33,6 +33,8 @@ import com.navercorp.pinpoint.grpc.client.interceptor.LoggingDiscardEventListene
 import com.navercorp.pinpoint.profiler.context.SpanType;
 import com.navercorp.pinpoint.profiler.context.grpc.config.GrpcTransportConfig;
 import com.navercorp.pinpoint.profiler.context.module.SpanDataSender;
+import com.navercorp.pinpoint.profiler.sender.grpc.AbstractGrpcDataSender;
+import com.navercorp.pinpoint.profiler.sender.grpc.MultiStreamSpanGrpcDataSender;
 import com.navercorp.pinpoint.profiler.sender.grpc.ReconnectExecutor;
 import com.navercorp.pinpoint.profiler.sender.grpc.SimpleStreamState;
 import com.navercorp.pinpoint.profiler.sender.grpc.SpanGrpcDataSender;
@@ -48,6 +50,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -108,9 +111,8 @@ public class SpanGrpcDataSenderProvider implements Provider<DataSender<SpanType>
         final StreamState failState = new SimpleStreamState(spanClientOption.getLimitCount(), spanClientOption.getLimitTime());
         logger.info("failState:{}", failState);
 
-        final SpanGrpcDataSender spanGrpcDataSender = new SpanGrpcDataSender(collectorIp, collectorPort,
-                senderExecutorQueueSize, messageConverter,
-                reconnectExecutor, channelFactory, failState, grpcTransportConfig.getSpanRpcMaxAgeMillis());
+        final AbstractGrpcDataSender<SpanType> spanGrpcDataSender = newSpanGrpcDataSender(collectorIp, collectorPort,
+                senderExecutorQueueSize, reconnectExecutor, channelFactory, failState, spanClientOption);
 
         if (grpcTransportConfig.isSpanEnableStatLogging()) {
             registerChannelzReporter(spanGrpcDataSender);
@@ -119,7 +121,29 @@ public class SpanGrpcDataSenderProvider implements Provider<DataSender<SpanType>
         return spanGrpcDataSender;
     }
 
-    private void registerChannelzReporter(SpanGrpcDataSender spanGrpcDataSender) {
+    private AbstractGrpcDataSender<SpanType> newSpanGrpcDataSender(String collectorIp, int collectorPort,
+                                                                  int senderExecutorQueueSize,
+                                                                  ReconnectExecutor reconnectExecutor,
+                                                                  ChannelFactory channelFactory,
+                                                                  StreamState failState,
+                                                                  ClientOption spanClientOption) {
+        final long spanRpcMaxAgeMillis = grpcTransportConfig.getSpanRpcMaxAgeMillis();
+        final int spanStreamCount = grpcTransportConfig.getSpanStreamCount();
+        if (spanStreamCount > 1) {
+            final int spanStreamDrainSize = grpcTransportConfig.getSpanStreamDrainSize();
+            logger.info("MultiStreamSpanGrpcDataSender streamCount:{} drainSize:{}", spanStreamCount, spanStreamDrainSize);
+            final Supplier<StreamState> failStateFactory = () -> new SimpleStreamState(spanClientOption.getLimitCount(), spanClientOption.getLimitTime());
+            return new MultiStreamSpanGrpcDataSender(collectorIp, collectorPort,
+                    senderExecutorQueueSize, messageConverter,
+                    reconnectExecutor, channelFactory, failStateFactory, spanRpcMaxAgeMillis,
+                    spanStreamCount, spanStreamDrainSize);
+        }
+        return new SpanGrpcDataSender(collectorIp, collectorPort,
+                senderExecutorQueueSize, messageConverter,
+                reconnectExecutor, channelFactory, failState, spanRpcMaxAgeMillis);
+    }
+
+    private void registerChannelzReporter(AbstractGrpcDataSender<SpanType> spanGrpcDataSender) {
         final Logger statChannelLogger = LogManager.getLogger(SPAN_CHANNELZ);
         ChannelzReporter statReporter = new DefaultChannelzReporter(statChannelLogger);
         reporter.registerRootChannel(spanGrpcDataSender.getLogId(), statReporter);
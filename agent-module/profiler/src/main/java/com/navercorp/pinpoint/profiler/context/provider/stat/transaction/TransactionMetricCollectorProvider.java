@@ -18,11 +18,18 @@ package com.navercorp.pinpoint.profiler.context.provider.stat.transaction;
 
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.sampler.Sampler;
+import com.navercorp.pinpoint.common.profiler.message.DataSender;
+import com.navercorp.pinpoint.profiler.context.SpanType;
+import com.navercorp.pinpoint.profiler.context.module.SpanDataSender;
 import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.UnsupportedMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.transaction.AdaptiveSamplingTransactionMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.transaction.DefaultTransactionMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.metric.transaction.TransactionMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.transaction.TransactionMetricSnapshot;
+import com.navercorp.pinpoint.profiler.sampler.AdaptiveSampler;
+import com.navercorp.pinpoint.profiler.sender.DataSenderQueueMetric;
 
 import java.util.Objects;
 
@@ -32,10 +39,16 @@ import java.util.Objects;
 public class TransactionMetricCollectorProvider implements Provider<AgentStatMetricCollector<TransactionMetricSnapshot>> {
 
     private final TransactionMetric transactionMetric;
+    private final Sampler sampler;
+    private final Provider<DataSender<SpanType>> spanDataSenderProvider;
 
     @Inject
-    public TransactionMetricCollectorProvider(TransactionMetric transactionMetric) {
+    public TransactionMetricCollectorProvider(TransactionMetric transactionMetric,
+                                              Sampler sampler,
+                                              @SpanDataSender Provider<DataSender<SpanType>> spanDataSenderProvider) {
         this.transactionMetric = Objects.requireNonNull(transactionMetric, "transactionMetric");
+        this.sampler = Objects.requireNonNull(sampler, "sampler");
+        this.spanDataSenderProvider = Objects.requireNonNull(spanDataSenderProvider, "spanDataSenderProvider");
     }
 
     @Override
@@ -43,6 +56,18 @@ public class TransactionMetricCollectorProvider implements Provider<AgentStatMet
         if (transactionMetric == TransactionMetric.UNSUPPORTED_TRANSACTION_METRIC) {
             return new UnsupportedMetricCollector<TransactionMetricSnapshot>();
         }
-        return new DefaultTransactionMetricCollector(transactionMetric);
+        final AgentStatMetricCollector<TransactionMetricSnapshot> collector = new DefaultTransactionMetricCollector(transactionMetric);
+        if (sampler instanceof AdaptiveSampler) {
+            return new AdaptiveSamplingTransactionMetricCollector(collector, (AdaptiveSampler) sampler, getSpanQueueMetric());
+        }
+        return collector;
+    }
+
+    private DataSenderQueueMetric getSpanQueueMetric() {
+        final DataSender<SpanType> spanDataSender = spanDataSenderProvider.get();
+        if (spanDataSender instanceof DataSenderQueueMetric) {
+            return (DataSenderQueueMetric) spanDataSender;
+        }
+        return null;
     }
 }
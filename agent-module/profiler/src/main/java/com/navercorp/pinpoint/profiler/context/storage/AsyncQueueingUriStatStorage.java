@@ -26,10 +26,12 @@ import com.navercorp.pinpoint.common.util.Assert;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.profiler.monitor.metric.uri.AgentUriStatData;
 import com.navercorp.pinpoint.profiler.monitor.metric.uri.UriStatInfo;
+import com.navercorp.pinpoint.profiler.util.PathPatternTrie;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
@@ -42,26 +44,44 @@ public class AsyncQueueingUriStatStorage extends AsyncQueueingExecutor<UriStatIn
     private static final ThrottledLogger TLogger = ThrottledLogger.getLogger(LOGGER, 100);
     private final UriStatConsumer consumer;
 
+    private static final PathPatternTrie<String> EMPTY_URI_TEMPLATE = PathPatternTrie.<String>newBuilder().build();
+
     private final boolean uriStatCollectHttpMethod;
+    private final PathPatternTrie<String> uriTemplate;
 
     public AsyncQueueingUriStatStorage(boolean uriStatCollectHttpMethod, int queueSize, int uriStatDataLimitSize, String executorName) {
-        this(uriStatCollectHttpMethod, queueSize, executorName, new UriStatConsumer(uriStatDataLimitSize));
+        this(uriStatCollectHttpMethod, queueSize, uriStatDataLimitSize, executorName, EMPTY_URI_TEMPLATE);
+    }
+
+    public AsyncQueueingUriStatStorage(boolean uriStatCollectHttpMethod, int queueSize, int uriStatDataLimitSize, String executorName, PathPatternTrie<String> uriTemplate) {
+        this(uriStatCollectHttpMethod, queueSize, executorName, new UriStatConsumer(uriStatDataLimitSize), uriTemplate);
     }
 
     public AsyncQueueingUriStatStorage(boolean uriStatCollectHttpMethod, int queueSize, int uriStatDataLimitSize, String executorName, int collectInterval) {
-        this(uriStatCollectHttpMethod, queueSize, executorName, new UriStatConsumer(uriStatDataLimitSize, collectInterval));
+        this(uriStatCollectHttpMethod, queueSize, executorName, new UriStatConsumer(uriStatDataLimitSize, collectInterval), EMPTY_URI_TEMPLATE);
     }
 
-    private AsyncQueueingUriStatStorage(boolean uriStatCollectHttpMethod, int queueSize, String executorName, UriStatConsumer consumer) {
+    public AsyncQueueingUriStatStorage(boolean uriStatCollectHttpMethod, int queueSize, int uriStatDataLimitSize, String executorName, int collectInterval, PathPatternTrie<String> uriTemplate) {
+        this(uriStatCollectHttpMethod, queueSize, executorName, new UriStatConsumer(uriStatDataLimitSize, collectInterval), uriTemplate);
+    }
+
+    private AsyncQueueingUriStatStorage(boolean uriStatCollectHttpMethod, int queueSize, String executorName, UriStatConsumer consumer, PathPatternTrie<String> uriTemplate) {
         super(queueSize, executorName, consumer);
         this.consumer = consumer;
         this.uriStatCollectHttpMethod = uriStatCollectHttpMethod;
+        this.uriTemplate = Objects.requireNonNull(uriTemplate, "uriTemplate");
     }
 
     @Override
     public void store(String uri, String httpMethod, boolean status, long startTime, long endTime) {
         if (uri == null) {
             uri = URITemplate.NULL_URI;
+        } else {
+            // collapse raw uris into the configured template to keep the uri cardinality bounded
+            final String template = uriTemplate.match(uri);
+            if (template != null) {
+                uri = template;
+            }
         }
 
         if (uriStatCollectHttpMethod && (httpMethod != null) && !httpMethod.isEmpty()) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.config;
+
+import com.navercorp.pinpoint.common.config.Value;
+
+public class DefaultTransformCacheConfig implements TransformCacheConfig {
+
+    @Value("${profiler.instrument.transform-cache.enable}")
+    private boolean transformCacheEnable = false;
+
+    @Value("${profiler.instrument.transform-cache.dir}")
+    private String transformCacheDir;
+
+    @Value("${profiler.instrument.transform-cache.max-entries}")
+    private int transformCacheMaxEntries = 200000;
+
+    @Value("${profiler.instrument.transform-cache.save-delay}")
+    private long transformCacheSaveDelay = 60000;
+
+    @Value("${profiler.instrument.transform-cache.verify}")
+    private boolean transformCacheVerify = false;
+
+    @Override
+    public boolean isTransformCacheEnable() {
+        return transformCacheEnable;
+    }
+
+    public void setTransformCacheEnable(boolean transformCacheEnable) {
+        this.transformCacheEnable = transformCacheEnable;
+    }
+
+    @Override
+    public String getTransformCacheDir() {
+        return transformCacheDir;
+    }
+
+    public void setTransformCacheDir(String transformCacheDir) {
+        this.transformCacheDir = transformCacheDir;
+    }
+
+    @Override
+    public int getTransformCacheMaxEntries() {
+        return transformCacheMaxEntries;
+    }
+
+    public void setTransformCacheMaxEntries(int transformCacheMaxEntries) {
+        this.transformCacheMaxEntries = transformCacheMaxEntries;
+    }
+
+    @Override
+    public long getTransformCacheSaveDelay() {
+        return transformCacheSaveDelay;
+    }
+
+    public void setTransformCacheSaveDelay(long transformCacheSaveDelay) {
+        this.transformCacheSaveDelay = transformCacheSaveDelay;
+    }
+
+    @Override
+    public boolean isTransformCacheVerify() {
+        return transformCacheVerify;
+    }
+
+    public void setTransformCacheVerify(boolean transformCacheVerify) {
+        this.transformCacheVerify = transformCacheVerify;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultTransformCacheConfig{" +
+                "transformCacheEnable=" + transformCacheEnable +
+                ", transformCacheDir='" + transformCacheDir + '\'' +
+                ", transformCacheMaxEntries=" + transformCacheMaxEntries +
+                ", transformCacheSaveDelay=" + transformCacheSaveDelay +
+                ", transformCacheVerify=" + transformCacheVerify +
+                '}';
+    }
+}
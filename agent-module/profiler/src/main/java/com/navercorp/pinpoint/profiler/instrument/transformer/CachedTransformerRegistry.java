@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import com.navercorp.pinpoint.profiler.instrument.classreading.InternalClassMetadata;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.util.Objects;
+
+/**
+ * Skips the transformer lookup for the classes the {@link TransformCache} knows to be unmodified.
+ * <p>
+ * A class is cached only if the lookup rejected it without reading another class file.
+ * A rejection that walked the supertypes or meta annotations through the class loader can change
+ * when one of those classes changes, while the bytes of the class itself stay the same.
+ * <p>
+ * With {@code verify}, the lookup still runs for cached classes and a cache entry that hides a transformer is evicted.
+ */
+public class CachedTransformerRegistry implements TransformerRegistry {
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final TransformerRegistry transformerRegistry;
+    private final TransformCache transformCache;
+    private final boolean verify;
+
+    public CachedTransformerRegistry(TransformerRegistry transformerRegistry, TransformCache transformCache, boolean verify) {
+        this.transformerRegistry = Objects.requireNonNull(transformerRegistry, "transformerRegistry");
+        this.transformCache = Objects.requireNonNull(transformCache, "transformCache");
+        this.verify = verify;
+    }
+
+    @Override
+    public ClassFileTransformer findTransformer(ClassLoader classLoader, String classInternalName, byte[] classFileBuffer) {
+        return findTransformer(classLoader, classInternalName, classFileBuffer, null);
+    }
+
+    @Override
+    public ClassFileTransformer findTransformer(ClassLoader classLoader, String classInternalName, byte[] classFileBuffer, InternalClassMetadata classMetadata) {
+        if (classFileBuffer == null) {
+            return transformerRegistry.findTransformer(classLoader, classInternalName, null, classMetadata);
+        }
+
+        if (transformCache.isUnmodified(classInternalName, classFileBuffer)) {
+            if (!verify) {
+                return null;
+            }
+            final ClassFileTransformer transformer = transformerRegistry.findTransformer(classLoader, classInternalName, classFileBuffer, classMetadata);
+            if (transformer != null) {
+                logger.warn("Transform cache mismatch, evict class:{} transformer:{}", classInternalName, transformer);
+                transformCache.remove(classInternalName, classFileBuffer);
+            }
+            return transformer;
+        }
+
+        final long hierarchyLookups = HierarchyLookupCounter.get();
+        final ClassFileTransformer transformer = transformerRegistry.findTransformer(classLoader, classInternalName, classFileBuffer, classMetadata);
+        if (transformer == null && HierarchyLookupCounter.get() == hierarchyLookups) {
+            transformCache.putUnmodified(classInternalName, classFileBuffer);
+        }
+        return transformer;
+    }
+}
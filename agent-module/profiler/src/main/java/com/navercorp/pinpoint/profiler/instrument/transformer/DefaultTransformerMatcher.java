@@ -233,6 +233,10 @@ public class DefaultTransformerMatcher implements TransformerMatcher {
             // root.
             return null;
         }
+        if (!OBJECT_CLASS_INTERNAL_NAME.equals(classInternalName)) {
+            // java/lang/Object has no supertypes.
+            HierarchyLookupCounter.increment();
+        }
 
         try {
             return InternalClassMetadataReader.readInternalClassMetadata(classLoader, classInternalName);
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * {@link TransformCache} persisted to a file, so that the next start of the same agent skips the transformer lookup
+ * of the classes that were left unmodified.
+ * <p>
+ * The file belongs to one context, the hash of the agent version, the plugin set and the profiler configuration.
+ * A file of another context, of another format or with a broken checksum is ignored.
+ * Classes are keyed by internal name, class file length and CRC32 of the class file.
+ */
+public class FileTransformCache implements TransformCache {
+
+    static final int MAGIC = 0x50505443;
+    static final int FORMAT_VERSION = 1;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Path file;
+    private final String context;
+    private final int maxEntries;
+
+    private volatile Set<ClassKey> loaded = Collections.emptySet();
+    private final Set<ClassKey> current = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger currentSize = new AtomicInteger();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private ScheduledThreadPoolExecutor saveExecutor;
+
+    public FileTransformCache(Path file, String context, int maxEntries) {
+        this.file = Objects.requireNonNull(file, "file");
+        this.context = Objects.requireNonNull(context, "context");
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than 0");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    public int load() {
+        try (InputStream input = Files.newInputStream(file)) {
+            this.loaded = read(input);
+            logger.info("Transform cache loaded file:{} entries:{}", file, loaded.size());
+        } catch (NoSuchFileException e) {
+            logger.info("Transform cache not found file:{}", file);
+        } catch (IOException | RuntimeException e) {
+            logger.info("Transform cache ignored file:{} cause:{}", file, e.getMessage());
+        }
+        return loaded.size();
+    }
+
+    Set<ClassKey> read(InputStream input) throws IOException {
+        final CRC32 checksum = new CRC32();
+        final BufferedInputStream buffered = new BufferedInputStream(input);
+        final DataInputStream in = new DataInputStream(new CheckedInputStream(buffered, checksum));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("invalid magic");
+        }
+        final int formatVersion = in.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("unsupported format version:" + formatVersion);
+        }
+        final String fileContext = in.readUTF();
+        if (!context.equals(fileContext)) {
+            throw new IOException("context changed");
+        }
+        final int size = in.readInt();
+        if (size < 0 || size > maxEntries) {
+            throw new IOException("invalid size:" + size);
+        }
+        final Set<ClassKey> keys = new HashSet<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            final String classInternalName = in.readUTF();
+            final int length = in.readInt();
+            final int crc = in.readInt();
+            keys.add(new ClassKey(classInternalName, length, crc));
+        }
+        final long expected = checksum.getValue();
+        // the trailer is not part of the checksum
+        final long actual = new DataInputStream(buffered).readLong();
+        if (expected != actual) {
+            throw new IOException("checksum mismatch");
+        }
+        return keys;
+    }
+
+    public void scheduleSave(long delayMillis) {
+        if (delayMillis <= 0) {
+            return;
+        }
+        final String threadName = PinpointThreadFactory.DEFAULT_THREAD_NAME_PREFIX + FileTransformCache.class.getSimpleName();
+        final ThreadFactory threadFactory = new PinpointThreadFactory(threadName, true);
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        executor.schedule(this::save, delayMillis, TimeUnit.MILLISECONDS);
+        // the delayed save still runs, the thread exits afterwards
+        executor.shutdown();
+        this.saveExecutor = executor;
+    }
+
+    @Override
+    public boolean isUnmodified(String classInternalName, byte[] classFileBuffer) {
+        final ClassKey key = ClassKey.of(classInternalName, classFileBuffer);
+        if (current.contains(key)) {
+            return true;
+        }
+        if (loaded.contains(key)) {
+            add(key);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void putUnmodified(String classInternalName, byte[] classFileBuffer) {
+        final ClassKey key = ClassKey.of(classInternalName, classFileBuffer);
+        if (add(key)) {
+            dirty.set(true);
+        }
+    }
+
+    private boolean add(ClassKey key) {
+        if (currentSize.get() >= maxEntries) {
+            return false;
+        }
+        if (current.add(key)) {
+            currentSize.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void remove(String classInternalName, byte[] classFileBuffer) {
+        final ClassKey key = ClassKey.of(classInternalName, classFileBuffer);
+        if (current.remove(key)) {
+            currentSize.decrementAndGet();
+        }
+        final Set<ClassKey> loaded = this.loaded;
+        if (loaded.contains(key)) {
+            final Set<ClassKey> copy = new HashSet<>(loaded);
+            copy.remove(key);
+            this.loaded = copy;
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * Writes the classes seen in this run, then the loaded classes not seen yet, up to {@code maxEntries}.
+     */
+    public synchronized void save() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        final List<ClassKey> keys = snapshot();
+        try {
+            Files.createDirectories(file.getParent());
+            final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream output = Files.newOutputStream(temp)) {
+                    write(output, keys);
+                }
+                move(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            logger.info("Transform cache saved file:{} entries:{}", file, keys.size());
+        } catch (IOException e) {
+            logger.warn("Transform cache save failed file:{}", file, e);
+        }
+    }
+
+    private List<ClassKey> snapshot() {
+        final List<ClassKey> keys = new ArrayList<>(Math.min(maxEntries, currentSize.get() + loaded.size()));
+        for (ClassKey key : current) {
+            if (keys.size() >= maxEntries) {
+                return keys;
+            }
+            keys.add(key);
+        }
+        for (ClassKey key : loaded) {
+            if (keys.size() >= maxEntries) {
+                return keys;
+            }
+            if (!current.contains(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    void write(OutputStream output, List<ClassKey> keys) throws IOException {
+        final CRC32 checksum = new CRC32();
+        final BufferedOutputStream buffered = new BufferedOutputStream(output);
+        final DataOutputStream out = new DataOutputStream(new CheckedOutputStream(buffered, checksum));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(context);
+        out.writeInt(keys.size());
+        for (ClassKey key : keys) {
+            out.writeUTF(key.classInternalName);
+            out.writeInt(key.length);
+            out.writeInt(key.crc);
+        }
+        out.flush();
+        final DataOutputStream trailer = new DataOutputStream(buffered);
+        trailer.writeLong(checksum.getValue());
+        trailer.flush();
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public boolean isActive() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        final ScheduledThreadPoolExecutor saveExecutor = this.saveExecutor;
+        if (saveExecutor != null) {
+            saveExecutor.shutdownNow();
+        }
+        save();
+    }
+
+    @Override
+    public String toString() {
+        return "FileTransformCache{" +
+                "file=" + file +
+                ", maxEntries=" + maxEntries +
+                ", loaded=" + loaded.size() +
+                ", current=" + currentSize.get() +
+                '}';
+    }
+
+    static final class ClassKey {
+        private final String classInternalName;
+        private final int length;
+        private final int crc;
+
+        ClassKey(String classInternalName, int length, int crc) {
+            this.classInternalName = Objects.requireNonNull(classInternalName, "classInternalName");
+            this.length = length;
+            this.crc = crc;
+        }
+
+        static ClassKey of(String classInternalName, byte[] classFileBuffer) {
+            final CRC32 crc32 = new CRC32();
+            crc32.update(classFileBuffer, 0, classFileBuffer.length);
+            return new ClassKey(classInternalName, classFileBuffer.length, (int) crc32.getValue());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            ClassKey classKey = (ClassKey) o;
+            return length == classKey.length && crc == classKey.crc && classInternalName.equals(classKey.classInternalName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = classInternalName.hashCode();
+            result = 31 * result + length;
+            result = 31 * result + crc;
+            return result;
+        }
+    }
+}
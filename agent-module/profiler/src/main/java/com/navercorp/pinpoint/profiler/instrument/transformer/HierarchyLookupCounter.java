@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+/**
+ * Counts, per thread, the classes {@link DefaultTransformerMatcher} reads through a class loader
+ * to match the supertypes or meta annotations of the class being transformed.
+ * <p>
+ * A "no transformer" result that needed such a lookup depends on other class files,
+ * so {@link CachedTransformerRegistry} does not cache it.
+ */
+final class HierarchyLookupCounter {
+
+    private static final ThreadLocal<long[]> COUNTER = ThreadLocal.withInitial(() -> new long[1]);
+
+    private HierarchyLookupCounter() {
+    }
+
+    static long get() {
+        return COUNTER.get()[0];
+    }
+
+    static void increment() {
+        COUNTER.get()[0]++;
+    }
+}
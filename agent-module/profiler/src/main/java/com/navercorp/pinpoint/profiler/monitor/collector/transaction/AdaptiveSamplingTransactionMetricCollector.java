@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.collector.transaction;
+
+import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.metric.transaction.TransactionMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.transaction.TransactionMetricSnapshot;
+import com.navercorp.pinpoint.profiler.sampler.AdaptiveSampler;
+import com.navercorp.pinpoint.profiler.sender.DataSenderQueueMetric;
+
+import java.util.Objects;
+
+/**
+ * Feeds the transaction throughput of every stat tick and the span sender load back into the {@link AdaptiveSampler}.
+ */
+public class AdaptiveSamplingTransactionMetricCollector implements AgentStatMetricCollector<TransactionMetricSnapshot> {
+
+    private final AgentStatMetricCollector<TransactionMetricSnapshot> delegate;
+    private final AdaptiveSampler adaptiveSampler;
+    // @Nullable
+    private final DataSenderQueueMetric spanQueueMetric;
+
+    public AdaptiveSamplingTransactionMetricCollector(AgentStatMetricCollector<TransactionMetricSnapshot> delegate,
+                                                      AdaptiveSampler adaptiveSampler,
+                                                      DataSenderQueueMetric spanQueueMetric) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.adaptiveSampler = Objects.requireNonNull(adaptiveSampler, "adaptiveSampler");
+        this.spanQueueMetric = spanQueueMetric;
+    }
+
+    @Override
+    public TransactionMetricSnapshot collect() {
+        final TransactionMetricSnapshot snapshot = delegate.collect();
+        adaptiveSampler.update(sampledCount(snapshot), queueUsage(), rejectedCount());
+        return snapshot;
+    }
+
+    private long sampledCount(TransactionMetricSnapshot snapshot) {
+        long sampledCount = 0;
+        if (snapshot.getSampledNewCount() != TransactionMetric.UNCOLLECTED) {
+            sampledCount += snapshot.getSampledNewCount();
+        }
+        if (snapshot.getSampledContinuationCount() != TransactionMetric.UNCOLLECTED) {
+            sampledCount += snapshot.getSampledContinuationCount();
+        }
+        return sampledCount;
+    }
+
+    private double queueUsage() {
+        if (spanQueueMetric == null || spanQueueMetric.getQueueCapacity() <= 0) {
+            return 0;
+        }
+        return (double) spanQueueMetric.getQueueSize() / spanQueueMetric.getQueueCapacity();
+    }
+
+    private long rejectedCount() {
+        if (spanQueueMetric == null) {
+            return 0;
+        }
+        return spanQueueMetric.getRejectedCount();
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveSamplingTransactionMetricCollector{" +
+                "delegate=" + delegate +
+                ", adaptiveSampler=" + adaptiveSampler +
+                '}';
+    }
+}
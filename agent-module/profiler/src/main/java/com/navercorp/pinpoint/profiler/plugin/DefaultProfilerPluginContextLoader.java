@@ -18,6 +18,8 @@ package com.navercorp.pinpoint.profiler.plugin;
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginGlobalContext;
+import com.navercorp.pinpoint.common.profiler.concurrent.ExecutorFactory;
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.CodeSourceUtils;
 import com.navercorp.pinpoint.profiler.instrument.classloading.ClassInjector;
@@ -34,6 +36,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * @author Jongho Moon
@@ -71,10 +78,15 @@ public class DefaultProfilerPluginContextLoader implements ProfilerPluginContext
         for (ProfilerPlugin profilerPlugin : profilerPlugins) {
             jarPluginComponents.addProfilerPlugin(profilerPlugin);
         }
-        Iterable<JarPlugin<ProfilerPlugin>> jarPlugins = jarPluginComponents.buildJarPlugins();
-        for (JarPlugin<ProfilerPlugin> jarPlugin : jarPlugins) {
-            List<PluginSetupResult> setupResults = setupPlugin(globalContext, jarPlugin);
-            pluginsSetupResult.addPluginSetupResults(setupResults);
+        Collection<JarPlugin<ProfilerPlugin>> jarPlugins = jarPluginComponents.buildJarPlugins();
+        final int parallelism = Math.min(pluginLoadingConfig.getPluginSetupParallelism(), jarPlugins.size());
+        if (parallelism > 1) {
+            setupPluginsInParallel(globalContext, jarPlugins, parallelism, pluginsSetupResult);
+        } else {
+            for (JarPlugin<ProfilerPlugin> jarPlugin : jarPlugins) {
+                List<PluginSetupResult> setupResults = setupPlugin(globalContext, jarPlugin);
+                pluginsSetupResult.addPluginSetupResults(setupResults);
+            }
         }
         ServiceType detectedApplicationType = globalContext.getApplicationType();
         pluginsSetupResult.setApplicationType(detectedApplicationType);
@@ -82,6 +94,61 @@ public class DefaultProfilerPluginContextLoader implements ProfilerPluginContext
         return pluginsSetupResult;
     }
 
+    /**
+     * Sets up the plugin jars on a bounded pool.
+     * The plugins of a jar are still set up one after another, and the results are collected in plugin order.
+     * Application type calls are ordered by {@link OrderedPluginGlobalContext}.
+     */
+    private void setupPluginsInParallel(ProfilerPluginGlobalContext globalContext, Collection<JarPlugin<ProfilerPlugin>> jarPlugins,
+                                        int parallelism, PluginsSetupResult pluginsSetupResult) {
+        logger.info("Parallel plugin setup jars:{} parallelism:{}", jarPlugins.size(), parallelism);
+
+        final ThreadFactory threadFactory = new PinpointThreadFactory(PinpointThreadFactory.DEFAULT_THREAD_NAME_PREFIX + "PluginSetup", true);
+        final ExecutorService executor = ExecutorFactory.newFixedThreadPool(parallelism, jarPlugins.size(), threadFactory);
+        try {
+            final List<Future<List<PluginSetupResult>>> futures = new ArrayList<>(jarPlugins.size());
+            OrderedPluginGlobalContext previous = null;
+            for (final JarPlugin<ProfilerPlugin> jarPlugin : jarPlugins) {
+                final OrderedPluginGlobalContext context = new OrderedPluginGlobalContext(globalContext, previous);
+                previous = context;
+                futures.add(executor.submit(new Callable<List<PluginSetupResult>>() {
+                    @Override
+                    public List<PluginSetupResult> call() {
+                        try {
+                            return setupPlugin(context, jarPlugin);
+                        } finally {
+                            context.setupFinished();
+                        }
+                    }
+                }));
+            }
+            for (Future<List<PluginSetupResult>> future : futures) {
+                pluginsSetupResult.addPluginSetupResults(getSetupResults(future));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<PluginSetupResult> getSetupResults(Future<List<PluginSetupResult>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("plugin setup interrupted", e);
+        } catch (ExecutionException e) {
+            // same failure as the serial setup
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("plugin setup failed", cause);
+        }
+    }
+
     private List<PluginSetupResult> setupPlugin(ProfilerPluginGlobalContext globalContext, JarPlugin<ProfilerPlugin> plugin) {
         List<String> pluginPackageList = plugin.getPackageList();
         List<String> pluginPackageRequirementList = plugin.getPackageRequirementList();
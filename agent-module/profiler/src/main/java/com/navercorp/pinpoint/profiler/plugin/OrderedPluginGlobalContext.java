@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.plugin;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginGlobalContext;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Global context view handed to a plugin jar during parallel setup.
+ * <p>
+ * Application type calls wait until every earlier plugin jar has finished its setup,
+ * and then go to the shared global context.
+ * A plugin therefore sees the same application type, and gets the same first-wins result from
+ * {@link #registerApplicationType(ServiceType)}, as in a serial setup.
+ * Plugins that do not touch the application type do not wait.
+ */
+public class OrderedPluginGlobalContext implements ProfilerPluginGlobalContext {
+
+    private final ProfilerPluginGlobalContext globalContext;
+    private final OrderedPluginGlobalContext previous;
+    private final CountDownLatch setupFinished = new CountDownLatch(1);
+
+    /**
+     * @param previous the context of the plugin jar set up before this one, or {@code null} for the first jar
+     */
+    public OrderedPluginGlobalContext(ProfilerPluginGlobalContext globalContext, OrderedPluginGlobalContext previous) {
+        this.globalContext = Objects.requireNonNull(globalContext, "globalContext");
+        this.previous = previous;
+    }
+
+    @Override
+    public ProfilerConfig getConfig() {
+        return globalContext.getConfig();
+    }
+
+    @Override
+    public ServiceType getConfiguredApplicationType() {
+        return globalContext.getConfiguredApplicationType();
+    }
+
+    @Override
+    public ServiceType getApplicationType() {
+        awaitPreviousSetup();
+        return globalContext.getApplicationType();
+    }
+
+    @Override
+    public boolean registerApplicationType(ServiceType applicationType) {
+        Objects.requireNonNull(applicationType, "applicationType");
+
+        awaitPreviousSetup();
+        return globalContext.registerApplicationType(applicationType);
+    }
+
+    /**
+     * Must be called once the setup of this plugin jar has finished, whether it succeeded or not.
+     */
+    public void setupFinished() {
+        setupFinished.countDown();
+    }
+
+    private void awaitPreviousSetup() {
+        // the setup tasks are started in plugin order, so an earlier jar is never waiting for a later one
+        for (OrderedPluginGlobalContext context = previous; context != null; context = context.previous) {
+            try {
+                context.setupFinished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("plugin setup interrupted", e);
+            }
+        }
+    }
+}
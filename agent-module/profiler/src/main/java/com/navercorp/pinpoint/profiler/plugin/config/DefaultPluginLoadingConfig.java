@@ -32,6 +32,10 @@ public class DefaultPluginLoadingConfig implements PluginLoadingConfig {
 
     private List<String> importPluginIds = Collections.emptyList();
 
+    // 1 : serial setup on the premain thread
+    @Value("${profiler.plugin.setup.parallelism}")
+    private int pluginSetupParallelism = 1;
+
     public DefaultPluginLoadingConfig() {
     }
 
@@ -65,12 +69,18 @@ public class DefaultPluginLoadingConfig implements PluginLoadingConfig {
         this.importPluginIds = StringUtils.tokenizeToStringList(importPluginIds, ARTIFACT_SEPARATOR);
     }
 
+    @Override
+    public int getPluginSetupParallelism() {
+        return pluginSetupParallelism;
+    }
+
     @Override
     public String toString() {
         return "DefaultPluginLoadingConfig{" +
                 "pluginLoadOrder=" + pluginLoadOrder +
                 ", disabledPlugins=" + disabledPlugins +
                 ", importPluginIds=" + importPluginIds +
+                ", pluginSetupParallelism=" + pluginSetupParallelism +
                 '}';
     }
 }
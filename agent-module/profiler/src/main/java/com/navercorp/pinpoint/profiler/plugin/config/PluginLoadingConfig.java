@@ -25,4 +25,6 @@ public interface PluginLoadingConfig {
     List<String> getDisabledPlugins();
 
     List<String> getImportPluginIds();
+
+    int getPluginSetupParallelism();
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import com.navercorp.pinpoint.bootstrap.sampler.Sampler;
+import com.navercorp.pinpoint.common.util.MathUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Percent sampler whose rate is retuned on every agent stat tick toward a target span throughput.
+ * <p>
+ * The rate is backed off by half while the span sender queue is congested or rejecting messages,
+ * and never drops below {@code minSamplingRate} so that a share of the traffic, including errors and slow requests,
+ * is always traced.
+ * Rates use the {@link PercentRateSampler#MULTIPLIER} scale.
+ */
+public class AdaptiveSampler implements Sampler {
+
+    static final double QUEUE_HIGH_WATERMARK = 0.5;
+    // limit the step per tick to damp oscillation
+    private static final double MAX_INCREASE_FACTOR = 2.0;
+
+    private final AtomicLong counter = new AtomicLong(0);
+
+    private final long targetThroughput;
+    private final long minSamplingRate;
+    private final long maxSamplingRate;
+    private final LongSupplier clock;
+
+    private volatile long samplingRate;
+
+    // updated by the stat monitor thread only
+    private long lastUpdateTime;
+    private long lastRejectedCount;
+
+    public AdaptiveSampler(long targetThroughput, long minSamplingRate, long maxSamplingRate) {
+        this(targetThroughput, minSamplingRate, maxSamplingRate, System::currentTimeMillis);
+    }
+
+    AdaptiveSampler(long targetThroughput, long minSamplingRate, long maxSamplingRate, LongSupplier clock) {
+        if (targetThroughput <= 0) {
+            throw new IllegalArgumentException("targetThroughput must be greater than 0");
+        }
+        if (minSamplingRate <= 0 || minSamplingRate > maxSamplingRate || maxSamplingRate > PercentRateSampler.MAX) {
+            throw new IllegalArgumentException("Invalid samplingRate min:" + minSamplingRate + " max:" + maxSamplingRate);
+        }
+        this.targetThroughput = targetThroughput;
+        this.minSamplingRate = minSamplingRate;
+        this.maxSamplingRate = maxSamplingRate;
+        this.clock = clock;
+        this.samplingRate = maxSamplingRate;
+        this.lastUpdateTime = clock.getAsLong();
+    }
+
+    @Override
+    public boolean isSampling() {
+        final long samplingRate = this.samplingRate;
+        if (samplingRate >= PercentRateSampler.MAX) {
+            return true;
+        }
+        final long seed = counter.addAndGet(samplingRate);
+        final long remainder = MathUtils.floorMod(seed, PercentRateSampler.MAX);
+        return remainder > 0 && remainder <= samplingRate;
+    }
+
+    /**
+     * Retunes the sampling rate. Must be called from a single thread.
+     *
+     * @param sampledCount   spans sampled since the previous call
+     * @param queueUsage     span sender queue occupancy, 0.0 ~ 1.0
+     * @param rejectedCount  total number of spans rejected by the span sender
+     */
+    public void update(long sampledCount, double queueUsage, long rejectedCount) {
+        final long now = clock.getAsLong();
+        final long elapsed = now - this.lastUpdateTime;
+        final long rejectedDelta = rejectedCount - this.lastRejectedCount;
+        this.lastUpdateTime = now;
+        this.lastRejectedCount = rejectedCount;
+        if (elapsed <= 0) {
+            return;
+        }
+
+        final long current = this.samplingRate;
+        final double next;
+        if (rejectedDelta > 0 || queueUsage >= QUEUE_HIGH_WATERMARK) {
+            next = current / 2.0;
+        } else if (sampledCount <= 0) {
+            next = current * MAX_INCREASE_FACTOR;
+        } else {
+            final double throughput = sampledCount * 1000.0 / elapsed;
+            final double factor = Math.min(targetThroughput / throughput, MAX_INCREASE_FACTOR);
+            next = current * factor;
+        }
+        this.samplingRate = clamp((long) next);
+    }
+
+    private long clamp(long samplingRate) {
+        return Math.max(minSamplingRate, Math.min(maxSamplingRate, samplingRate));
+    }
+
+    public long getSamplingRate() {
+        return samplingRate;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveSampler{" +
+                "targetThroughput=" + targetThroughput +
+                ", minSamplingRate=" + minSamplingRate +
+                ", maxSamplingRate=" + maxSamplingRate +
+                ", samplingRate=" + samplingRate +
+                '}';
+    }
+}
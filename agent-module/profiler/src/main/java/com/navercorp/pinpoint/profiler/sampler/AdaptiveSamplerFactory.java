@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.sampler.Sampler;
+
+public class AdaptiveSamplerFactory implements SamplerFactory {
+
+    public static final String TARGET_THROUGHPUT_NAME = "profiler.sampling.adaptive.target-throughput";
+    public static final String MIN_SAMPLING_RATE_NAME = "profiler.sampling.adaptive.min-sampling-rate";
+    public static final String MAX_SAMPLING_RATE_NAME = "profiler.sampling.adaptive.max-sampling-rate";
+
+    private final Config config;
+
+    public AdaptiveSamplerFactory(Config config) {
+        this.config = config;
+    }
+
+    @Override
+    public Sampler createSampler() {
+        if (config.getMaxSamplingRate() <= 0) {
+            return FalseSampler.INSTANCE;
+        }
+        final long maxSamplingRate = Math.min(config.getMaxSamplingRate(), PercentRateSampler.MAX);
+        final long minSamplingRate = Math.min(Math.max(config.getMinSamplingRate(), 1), maxSamplingRate);
+        return new AdaptiveSampler(config.getTargetThroughput(), minSamplingRate, maxSamplingRate);
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveSamplerFactory{" +
+                "config=" + config +
+                '}';
+    }
+
+    public static Config config(ProfilerConfig profilerConfig) {
+        final int targetThroughput = profilerConfig.readInt(TARGET_THROUGHPUT_NAME, 100);
+        final long minSamplingRate = PercentSamplerFactory.parseSamplingRate(profilerConfig.readString(MIN_SAMPLING_RATE_NAME, "1"));
+        final long maxSamplingRate = PercentSamplerFactory.parseSamplingRate(profilerConfig.readString(MAX_SAMPLING_RATE_NAME, "100"));
+        return new Config(Math.max(targetThroughput, 1), minSamplingRate, maxSamplingRate);
+    }
+
+    public static class Config {
+        private final int targetThroughput;
+        private final long minSamplingRate;
+        private final long maxSamplingRate;
+
+        public Config(int targetThroughput, long minSamplingRate, long maxSamplingRate) {
+            this.targetThroughput = targetThroughput;
+            this.minSamplingRate = minSamplingRate;
+            this.maxSamplingRate = maxSamplingRate;
+        }
+
+        public int getTargetThroughput() {
+            return targetThroughput;
+        }
+
+        public long getMinSamplingRate() {
+            return minSamplingRate;
+        }
+
+        public long getMaxSamplingRate() {
+            return maxSamplingRate;
+        }
+
+        @Override
+        public String toString() {
+            return "Config{" +
+                    "targetThroughput=" + targetThroughput +
+                    ", minSamplingRate=" + minSamplingRate +
+                    ", maxSamplingRate=" + maxSamplingRate +
+                    '}';
+        }
+    }
+}
@@ -16,7 +16,6 @@
 
 package com.navercorp.pinpoint.profiler.sampler;
 
-import com.google.common.util.concurrent.RateLimiter;
 import com.navercorp.pinpoint.bootstrap.sampler.TraceSampler;
 import com.navercorp.pinpoint.profiler.context.id.IdGenerator;
 
@@ -31,11 +30,11 @@ public class RateLimitTraceSampler implements TraceSampler {
     private final TraceSampler traceSampler;
 
     // @Nullable
-    private final RateLimiter newRateLimiter;
+    private final TokenBucketRateLimiter newRateLimiter;
     private final State newSkipState;
 
     // @Nullable
-    private final RateLimiter continueRateLimiter;
+    private final TokenBucketRateLimiter continueRateLimiter;
     private final State continueSkipState;
 
 
@@ -71,9 +70,9 @@ public class RateLimitTraceSampler implements TraceSampler {
         };
     }
 
-    private RateLimiter newRateLimiter(int newMaxThroughput) {
+    private TokenBucketRateLimiter newRateLimiter(int newMaxThroughput) {
         if (newMaxThroughput > 0) {
-            return RateLimiter.create(newMaxThroughput);
+            return new TokenBucketRateLimiter(newMaxThroughput);
         }
         return null;
     }
@@ -103,7 +102,7 @@ public class RateLimitTraceSampler implements TraceSampler {
     }
 
 
-    private State getState(RateLimiter rateLimiter, State successState, State failState) {
+    private State getState(TokenBucketRateLimiter rateLimiter, State successState, State failState) {
         if (rateLimiter == null) {
             return successState;
         }
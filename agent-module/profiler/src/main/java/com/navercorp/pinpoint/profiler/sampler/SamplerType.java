@@ -21,7 +21,8 @@ package com.navercorp.pinpoint.profiler.sampler;
 public enum SamplerType {
 
     COUNTING,
-    PERCENT;
+    PERCENT,
+    ADAPTIVE;
 
     public static final SamplerType DEFAULT_SAMPLER_TYPE = COUNTING;
 
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket holding up to one second of permits.
+ * <p>
+ * The bucket is tracked as the theoretical arrival time of the next permit in a single {@link AtomicLong},
+ * so a successful {@link #tryAcquire()} costs one CAS and a rejected one only reads.
+ * It starts empty and refills at {@code permitsPerSecond}, the same behavior as {@code RateLimiter.create(permitsPerSecond)}.
+ */
+public final class TokenBucketRateLimiter {
+
+    private static final long BURST_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongSupplier nanoClock;
+    private final long intervalNanos;
+    private final AtomicLong nextPermitNanos;
+
+    public TokenBucketRateLimiter(int permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int permitsPerSecond, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be greater than 0");
+        }
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        this.intervalNanos = Math.max(1, BURST_NANOS / permitsPerSecond);
+        // empty bucket : only one permit is available right away
+        this.nextPermitNanos = new AtomicLong(nanoClock.getAsLong() + BURST_NANOS - intervalNanos);
+    }
+
+    public boolean tryAcquire() {
+        final long now = nanoClock.getAsLong();
+        while (true) {
+            final long nextPermit = nextPermitNanos.get();
+            // nanoTime may overflow, compare by difference
+            final long base = nextPermit - now < 0 ? now : nextPermit;
+            final long newNextPermit = base + intervalNanos;
+            if (newNextPermit - now > BURST_NANOS) {
+                return false;
+            }
+            if (nextPermitNanos.compareAndSet(nextPermit, newNextPermit)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TokenBucketRateLimiter{" +
+                "intervalNanos=" + intervalNanos +
+                '}';
+    }
+}
@@ -22,20 +22,24 @@ import com.navercorp.pinpoint.common.profiler.concurrent.ExecutorFactory;
 import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
 import com.navercorp.pinpoint.common.profiler.message.MessageConverter;
 import com.navercorp.pinpoint.grpc.client.ChannelFactory;
+import com.navercorp.pinpoint.profiler.sender.DataSenderQueueMetric;
 
 import java.time.Duration;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * @author Woonduk Kang(emeroad)
  */
-public abstract class GrpcDataSender<T> extends AbstractGrpcDataSender<T> {
+public abstract class GrpcDataSender<T> extends AbstractGrpcDataSender<T> implements DataSenderQueueMetric {
 
     protected final ExecutorService executor;
     protected final BlockingQueue<T> queue;
+    private final int queueCapacity;
+    private final LongAdder rejectedCount = new LongAdder();
 
     public GrpcDataSender(String host, int port,
                           int executorQueueSize,
@@ -45,6 +49,7 @@ public abstract class GrpcDataSender<T> extends AbstractGrpcDataSender<T> {
 
         this.executor = newExecutorService(name + "-Executor", executorQueueSize);
         this.queue = new LinkedBlockingQueue<>(executorQueueSize);
+        this.queueCapacity = executorQueueSize;
     }
 
     protected ExecutorService newExecutorService(String name, int senderExecutorQueueSize) {
@@ -57,6 +62,7 @@ public abstract class GrpcDataSender<T> extends AbstractGrpcDataSender<T> {
         if (this.queue.offer(data)) {
             return true;
         }
+        rejectedCount.increment();
         if (logger.isDebugEnabled()) {
             logger.debug("reject message queue size:{}", this.queue.size());
         } else {
@@ -68,6 +74,21 @@ public abstract class GrpcDataSender<T> extends AbstractGrpcDataSender<T> {
     }
 
 
+    @Override
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
     protected void release() {
         if (!MoreExecutors.shutdownAndAwaitTermination(executor, Duration.ofSeconds(3))) {
             logger.warn("{} executor shutdown failed", name);
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender.grpc;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.Empty;
+import com.google.protobuf.GeneratedMessageV3;
+import com.navercorp.pinpoint.common.profiler.concurrent.ExecutorFactory;
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import com.navercorp.pinpoint.common.profiler.message.MessageConverter;
+import com.navercorp.pinpoint.grpc.client.ChannelFactory;
+import com.navercorp.pinpoint.grpc.stream.ClientCallStateStreamObserver;
+import com.navercorp.pinpoint.grpc.trace.PSpanMessage;
+import com.navercorp.pinpoint.grpc.trace.SpanGrpc;
+import com.navercorp.pinpoint.profiler.context.SpanType;
+import com.navercorp.pinpoint.profiler.sender.DataSenderQueueMetric;
+import com.navercorp.pinpoint.profiler.sender.grpc.stream.ClientStreamingProvider;
+import com.navercorp.pinpoint.profiler.sender.grpc.stream.DefaultStreamTask;
+import com.navercorp.pinpoint.profiler.sender.grpc.stream.StreamExecutorFactory;
+import com.navercorp.pinpoint.profiler.util.NamedRunnable;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Span sender that shards spans across several client streams on the same channel.
+ * Each stream owns a bounded {@link ArrayBlockingQueue} and a sender thread.
+ * The queue still takes one lock for both offer and drain,
+ * striping only spreads the producer threads over several of those locks.
+ */
+public class MultiStreamSpanGrpcDataSender extends AbstractGrpcDataSender<SpanType> implements DataSenderQueueMetric {
+
+    private final SpanGrpc.SpanStub spanStub;
+    private final ReconnectExecutor reconnectExecutor;
+    private final ExecutorService executor;
+    private final StreamExecutorFactory<PSpanMessage> streamExecutorFactory;
+
+    private final long maxRpcAgeMillis;
+    private final int drainSize;
+
+    private final SpanStream[] streams;
+    private final int queueCapacity;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public MultiStreamSpanGrpcDataSender(String host, int port,
+                                         int executorQueueSize,
+                                         MessageConverter<SpanType, GeneratedMessageV3> messageConverter,
+                                         ReconnectExecutor reconnectExecutor,
+                                         ChannelFactory channelFactory,
+                                         Supplier<StreamState> failStateFactory,
+                                         long maxRpcAgeMillis,
+                                         int streamCount,
+                                         int drainSize) {
+        super(host, port, messageConverter, channelFactory);
+        Objects.requireNonNull(failStateFactory, "failStateFactory");
+        if (streamCount < 1) {
+            throw new IllegalArgumentException("streamCount must be greater than 0");
+        }
+        if (drainSize < 1) {
+            throw new IllegalArgumentException("drainSize must be greater than 0");
+        }
+        this.spanStub = SpanGrpc.newStub(managedChannel);
+        this.reconnectExecutor = Objects.requireNonNull(reconnectExecutor, "reconnectExecutor");
+        this.executor = newExecutorService(name + "-Executor", streamCount, executorQueueSize);
+        this.streamExecutorFactory = new StreamExecutorFactory<>(executor);
+        this.maxRpcAgeMillis = maxRpcAgeMillis;
+        this.drainSize = drainSize;
+
+        // split the queue capacity so the total memory bound stays the same as the single stream sender
+        final int queueSize = Math.max(1, executorQueueSize / streamCount);
+        this.queueCapacity = queueSize * streamCount;
+        this.streams = new SpanStream[streamCount];
+        for (int i = 0; i < streamCount; i++) {
+            this.streams[i] = new SpanStream("SpanStream-" + i, queueSize, failStateFactory.get());
+        }
+        for (SpanStream stream : streams) {
+            stream.start();
+        }
+    }
+
+    private ExecutorService newExecutorService(String name, int streamCount, int senderExecutorQueueSize) {
+        ThreadFactory threadFactory = new PinpointThreadFactory(PinpointThreadFactory.DEFAULT_THREAD_NAME_PREFIX + name, true);
+        return ExecutorFactory.newFixedThreadPool(streamCount, senderExecutorQueueSize, threadFactory);
+    }
+
+    @Override
+    public boolean send(final SpanType data) {
+        final SpanStream[] streams = this.streams;
+        // stripe by producer thread, fall back to the other streams when the owner queue is full
+        final int start = (int) (Thread.currentThread().getId() % streams.length);
+        for (int i = 0; i < streams.length; i++) {
+            final SpanStream stream = streams[(start + i) % streams.length];
+            if (stream.queue.offer(data)) {
+                return true;
+            }
+        }
+        rejectedCount.increment();
+        if (logger.isDebugEnabled()) {
+            logger.debug("reject message queue size:{}", queueSize());
+        } else {
+            if (tLogger.isInfoEnabled()) {
+                tLogger.info("reject message queue size : {}", queueSize());
+            }
+        }
+        return false;
+    }
+
+    private int queueSize() {
+        int size = 0;
+        for (SpanStream stream : streams) {
+            size += stream.queue.size();
+        }
+        return size;
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queueSize();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private class SpanStream {
+        private final String id;
+        private final BlockingQueue<SpanType> queue;
+        // spans taken from the queue but not written yet, handed from one stream task to the next
+        private final Deque<SpanType> pending;
+        private final StreamState failState;
+        private final Reconnector reconnector;
+        private final ClientStreamingService<PSpanMessage, Empty> clientStreamService;
+
+        private volatile StreamTask<SpanType, PSpanMessage> currentStreamTask;
+
+        private final MessageDispatcher<SpanType, PSpanMessage> dispatcher;
+
+        private SpanStream(String id, int queueSize, StreamState failState) {
+            this.id = Objects.requireNonNull(id, "id");
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+            this.pending = new ArrayDeque<>(drainSize);
+            this.failState = Objects.requireNonNull(failState, "failState");
+            this.dispatcher = new SpanMessageDispatcher(id, messageConverter, maxRpcAgeMillis, () -> this.currentStreamTask);
+
+            final Runnable reconnectJob = new NamedRunnable(id) {
+                @Override
+                public void run() {
+                    startStream();
+                }
+            };
+            this.reconnector = reconnectExecutor.newReconnector(reconnectJob);
+
+            ClientStreamingProvider<PSpanMessage, Empty> clientStreamProvider = new ClientStreamingProvider<PSpanMessage, Empty>() {
+                @Override
+                public ClientCallStateStreamObserver<PSpanMessage> newStream(ResponseStreamObserver<PSpanMessage, Empty> response) {
+                    final ManagedChannel managedChannel = MultiStreamSpanGrpcDataSender.this.managedChannel;
+                    String authority = managedChannel.authority();
+                    final ConnectivityState state = managedChannel.getState(false);
+                    logger.info("newStream {}/{} state:{} isShutdown:{} isTerminated:{}", SpanStream.this.id, authority, state, managedChannel.isShutdown(), managedChannel.isTerminated());
+
+                    spanStub.sendSpan(response);
+
+                    return response.getRequestStream();
+                }
+            };
+            this.clientStreamService = new ClientStreamingService<>(clientStreamProvider, reconnector);
+        }
+
+        private void start() {
+            startStream();
+        }
+
+        private void startStream() {
+            try {
+                // the previous task must leave the dispatch loop before the next one takes over the pending spans
+                final StreamTask<SpanType, PSpanMessage> previousStreamTask = this.currentStreamTask;
+                if (previousStreamTask != null) {
+                    previousStreamTask.stop();
+                }
+                StreamTask<SpanType, PSpanMessage> streamTask = new DefaultStreamTask<>(id, clientStreamService,
+                        streamExecutorFactory, this.queue, this.dispatcher, failState, drainSize, this.pending);
+                streamTask.start();
+                this.currentStreamTask = streamTask;
+            } catch (Throwable th) {
+                logger.error("startStream error {}", id, th);
+            }
+        }
+
+        private void stop() {
+            final StreamTask<SpanType, PSpanMessage> currentStreamTask = this.currentStreamTask;
+            if (currentStreamTask != null) {
+                currentStreamTask.stop();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (shutdown) {
+            return;
+        }
+        this.shutdown = true;
+
+        logger.info("Stop {}, channel={}", name, managedChannel);
+        final ReconnectExecutor reconnectExecutor = this.reconnectExecutor;
+        if (reconnectExecutor != null) {
+            reconnectExecutor.close();
+        }
+
+        for (SpanStream stream : streams) {
+            stream.stop();
+        }
+        logger.info("{} close() streams:{}", name, streams.length);
+
+        if (!MoreExecutors.shutdownAndAwaitTermination(executor, Duration.ofSeconds(3))) {
+            logger.warn("{} executor shutdown failed", name);
+        }
+        releaseChannel();
+    }
+
+    @Override
+    public String toString() {
+        return "MultiStreamSpanGrpcDataSender{" +
+                "name='" + name + '\'' +
+                ", host='" + host + '\'' +
+                ", port=" + port +
+                ", streamCount=" + streams.length +
+                ", drainSize=" + drainSize +
+                "} " + super.toString();
+    }
+}
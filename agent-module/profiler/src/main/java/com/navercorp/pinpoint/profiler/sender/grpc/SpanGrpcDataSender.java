@@ -22,26 +22,17 @@ import com.google.protobuf.GeneratedMessageV3;
 import com.navercorp.pinpoint.common.profiler.message.MessageConverter;
 import com.navercorp.pinpoint.grpc.client.ChannelFactory;
 import com.navercorp.pinpoint.grpc.stream.ClientCallStateStreamObserver;
-import com.navercorp.pinpoint.grpc.trace.PSpan;
-import com.navercorp.pinpoint.grpc.trace.PSpanChunk;
 import com.navercorp.pinpoint.grpc.trace.PSpanMessage;
 import com.navercorp.pinpoint.grpc.trace.SpanGrpc;
 import com.navercorp.pinpoint.profiler.context.SpanType;
-import com.navercorp.pinpoint.profiler.context.grpc.config.GrpcTransportConfig;
 import com.navercorp.pinpoint.profiler.sender.grpc.stream.ClientStreamingProvider;
 import com.navercorp.pinpoint.profiler.sender.grpc.stream.DefaultStreamTask;
 import com.navercorp.pinpoint.profiler.sender.grpc.stream.StreamExecutorFactory;
 import com.navercorp.pinpoint.profiler.util.NamedRunnable;
-import io.github.resilience4j.core.IntervalFunction;
 import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
-import io.grpc.stub.ClientCallStreamObserver;
 
-import java.util.Date;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicLong;
-
-import static com.navercorp.pinpoint.grpc.MessageFormatUtils.debugLog;
 
 /**
  * @author jaehong.kim
@@ -60,34 +51,7 @@ public class SpanGrpcDataSender extends GrpcDataSender<SpanType> {
 
     private final ClientStreamingService<PSpanMessage, Empty> clientStreamService;
 
-    private final IntervalFunction interval;
-    private final AtomicLong rpcExpiredAt;
-
-    public final MessageDispatcher<SpanType, PSpanMessage> dispatcher = new MessageDispatcher<SpanType, PSpanMessage>() {
-        @Override
-        public void onDispatch(ClientCallStreamObserver<PSpanMessage> stream, SpanType data) {
-            final GeneratedMessageV3 message = messageConverter.toMessage(data);
-            if (isDebug) {
-                logger.debug("Send message={}", debugLog(message));
-            }
-            if (message instanceof PSpanChunk) {
-                final PSpanChunk spanChunk = (PSpanChunk) message;
-                final PSpanMessage spanMessage = PSpanMessage.newBuilder().setSpanChunk(spanChunk).build();
-                stream.onNext(spanMessage);
-                attemptRenew();
-                return;
-            }
-            if (message instanceof PSpan) {
-                final PSpan pSpan = (PSpan) message;
-                final PSpanMessage spanMessage = PSpanMessage.newBuilder().setSpan(pSpan).build();
-                stream.onNext(spanMessage);
-                attemptRenew();
-                return;
-            }
-            throw new IllegalStateException("unsupported message " + data);
-        }
-    };
-
+    public final MessageDispatcher<SpanType, PSpanMessage> dispatcher;
 
     public SpanGrpcDataSender(String host, int port,
                               int executorQueueSize,
@@ -99,8 +63,7 @@ public class SpanGrpcDataSender extends GrpcDataSender<SpanType> {
         super(host, port, executorQueueSize, messageConverter, channelFactory);
         this.spanStub = SpanGrpc.newStub(managedChannel);
 
-        this.interval = newIntervalFunction(maxRpcAgeMillis);
-        this.rpcExpiredAt = new AtomicLong(System.currentTimeMillis());
+        this.dispatcher = new SpanMessageDispatcher(this.id, messageConverter, maxRpcAgeMillis, () -> this.currentStreamTask);
 
         this.reconnectExecutor = Objects.requireNonNull(reconnectExecutor, "reconnectExecutor");
         final Runnable reconnectJob = new NamedRunnable(this.id) {
@@ -131,39 +94,6 @@ public class SpanGrpcDataSender extends GrpcDataSender<SpanType> {
         reconnectJob.run();
     }
 
-    private IntervalFunction newIntervalFunction(long maxRpcAgeMillis) {
-        if (maxRpcAgeMillis >= GrpcTransportConfig.DEFAULT_RENEW_TRANSPORT_PERIOD_MILLIS_DISABLE) {
-            return null;
-        }
-        return IntervalFunction.ofRandomized(maxRpcAgeMillis, 0.1);
-    }
-
-    private void attemptRenew() {
-        if (interval == null) {
-            return;
-        }
-
-        final long rpcExpiredAtValue = rpcExpiredAt.get();
-        final long now = System.currentTimeMillis();
-        if (now > rpcExpiredAtValue) {
-            final long nextRpcExpiredAt = now + interval.apply(1);
-            if (rpcExpiredAt.compareAndSet(rpcExpiredAtValue, nextRpcExpiredAt)) {
-                if (isDebug) {
-                    logger.debug("renewStream nextRpcExpiredAt:{}", new Date(nextRpcExpiredAt));
-                }
-                renewStream();
-            }
-        }
-    }
-
-    private void renewStream() {
-        logger.debug("renewStream {}", name);
-        if (this.currentStreamTask != null) {
-            logger.info("Aborting Span RPC to renew");
-            this.currentStreamTask.stop();
-        }
-    }
-
     private void startStream() {
         try {
             StreamTask<SpanType, PSpanMessage> streamTask = new DefaultStreamTask<>(id, clientStreamService,
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sender.grpc;
+
+import com.google.protobuf.GeneratedMessageV3;
+import com.navercorp.pinpoint.common.profiler.message.MessageConverter;
+import com.navercorp.pinpoint.grpc.trace.PSpan;
+import com.navercorp.pinpoint.grpc.trace.PSpanChunk;
+import com.navercorp.pinpoint.grpc.trace.PSpanMessage;
+import com.navercorp.pinpoint.profiler.context.SpanType;
+import com.navercorp.pinpoint.profiler.context.grpc.config.GrpcTransportConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.grpc.stub.ClientCallStreamObserver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.navercorp.pinpoint.grpc.MessageFormatUtils.debugLog;
+
+/**
+ * Sends spans and span chunks on a span stream,
+ * and stops the current stream task once the rpc is older than {@code maxRpcAgeMillis} so that it is renewed.
+ */
+class SpanMessageDispatcher implements MessageDispatcher<SpanType, PSpanMessage> {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+    private final boolean isDebug = logger.isDebugEnabled();
+
+    private final String id;
+    private final MessageConverter<SpanType, GeneratedMessageV3> messageConverter;
+    private final Supplier<StreamTask<SpanType, PSpanMessage>> currentStreamTask;
+
+    private final IntervalFunction interval;
+    private final AtomicLong rpcExpiredAt;
+
+    SpanMessageDispatcher(String id,
+                          MessageConverter<SpanType, GeneratedMessageV3> messageConverter,
+                          long maxRpcAgeMillis,
+                          Supplier<StreamTask<SpanType, PSpanMessage>> currentStreamTask) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.messageConverter = Objects.requireNonNull(messageConverter, "messageConverter");
+        this.currentStreamTask = Objects.requireNonNull(currentStreamTask, "currentStreamTask");
+        this.interval = newIntervalFunction(maxRpcAgeMillis);
+        this.rpcExpiredAt = new AtomicLong(System.currentTimeMillis());
+    }
+
+    private static IntervalFunction newIntervalFunction(long maxRpcAgeMillis) {
+        if (maxRpcAgeMillis >= GrpcTransportConfig.DEFAULT_RENEW_TRANSPORT_PERIOD_MILLIS_DISABLE) {
+            return null;
+        }
+        return IntervalFunction.ofRandomized(maxRpcAgeMillis, 0.1);
+    }
+
+    @Override
+    public void onDispatch(ClientCallStreamObserver<PSpanMessage> stream, SpanType data) {
+        final GeneratedMessageV3 message = messageConverter.toMessage(data);
+        if (isDebug) {
+            logger.debug("Send message={}", debugLog(message));
+        }
+        if (message instanceof PSpanChunk) {
+            final PSpanChunk spanChunk = (PSpanChunk) message;
+            final PSpanMessage spanMessage = PSpanMessage.newBuilder().setSpanChunk(spanChunk).build();
+            stream.onNext(spanMessage);
+            attemptRenew();
+            return;
+        }
+        if (message instanceof PSpan) {
+            final PSpan pSpan = (PSpan) message;
+            final PSpanMessage spanMessage = PSpanMessage.newBuilder().setSpan(pSpan).build();
+            stream.onNext(spanMessage);
+            attemptRenew();
+            return;
+        }
+        throw new IllegalStateException("unsupported message " + data);
+    }
+
+    private void attemptRenew() {
+        if (interval == null) {
+            return;
+        }
+
+        final long rpcExpiredAtValue = rpcExpiredAt.get();
+        final long now = System.currentTimeMillis();
+        if (now > rpcExpiredAtValue) {
+            final long nextRpcExpiredAt = now + interval.apply(1);
+            if (rpcExpiredAt.compareAndSet(rpcExpiredAtValue, nextRpcExpiredAt)) {
+                if (isDebug) {
+                    logger.debug("renewStream {} nextRpcExpiredAt:{}", id, new Date(nextRpcExpiredAt));
+                }
+                renewStream();
+            }
+        }
+    }
+
+    private void renewStream() {
+        final StreamTask<SpanType, PSpanMessage> currentStreamTask = this.currentStreamTask.get();
+        if (currentStreamTask != null) {
+            logger.info("Aborting Span RPC to renew {}", id);
+            currentStreamTask.stop();
+        }
+    }
+}
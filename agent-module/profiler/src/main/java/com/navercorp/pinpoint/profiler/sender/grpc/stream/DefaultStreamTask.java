@@ -11,6 +11,8 @@ import com.navercorp.pinpoint.profiler.util.NamedRunnable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -28,6 +30,8 @@ public class DefaultStreamTask<M, ReqT, ResT> implements StreamTask<M, ReqT> {
     private final BlockingQueue<M> queue;
     private final MessageDispatcher<M, ReqT> dispatcher;
     private final StreamState failState;
+    private final int drainSize;
+    private final Deque<M> pending;
 
     private volatile ClientCallStateStreamObserver<ReqT> stream;
     private volatile CountDownLatch latch;
@@ -36,12 +40,31 @@ public class DefaultStreamTask<M, ReqT, ResT> implements StreamTask<M, ReqT> {
     public DefaultStreamTask(String id, ClientStreamingService<ReqT, ResT> clientStreamingService,
                              StreamExecutorFactory<ReqT> streamExecutorFactory,
                              BlockingQueue<M> queue, MessageDispatcher<M, ReqT> dispatcher, StreamState failState) {
+        this(id, clientStreamingService, streamExecutorFactory, queue, dispatcher, failState, 1, new ArrayDeque<>(1));
+    }
+
+    /**
+     * @param drainSize max number of messages taken from the queue per wake-up.
+     *                  1 keeps the take() per message behavior
+     * @param pending   messages taken from the queue but not yet written to the stream.
+     *                  They are written first, in order, by the next dispatch loop.
+     *                  Pass the same deque to the next task of the same queue to keep them across reconnects
+     */
+    public DefaultStreamTask(String id, ClientStreamingService<ReqT, ResT> clientStreamingService,
+                             StreamExecutorFactory<ReqT> streamExecutorFactory,
+                             BlockingQueue<M> queue, MessageDispatcher<M, ReqT> dispatcher, StreamState failState,
+                             int drainSize, Deque<M> pending) {
         this.streamId = StreamId.newStreamId(id);
         this.clientStreamingService = Objects.requireNonNull(clientStreamingService, "clientStreamingService");
         this.streamExecutorFactory = Objects.requireNonNull(streamExecutorFactory, "streamExecutorFactory");
         this.queue = Objects.requireNonNull(queue, "queue");
         this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
         this.failState = Objects.requireNonNull(failState, "failState");
+        if (drainSize < 1) {
+            throw new IllegalArgumentException("drainSize must be greater than 0");
+        }
+        this.drainSize = drainSize;
+        this.pending = Objects.requireNonNull(pending, "pending");
     }
 
 
@@ -86,23 +109,16 @@ public class DefaultStreamTask<M, ReqT, ResT> implements StreamTask<M, ReqT> {
 //            while (true) {
                     final Thread thread = Thread.currentThread();
                     while (!thread.isInterrupted()) {
-                        final M message = queue.take();
-                        if (stream.isReady()) {
-                            try {
-                                dispatcher.onDispatch(stream, message);
-                            } catch (Exception e) {
-                                logger.warn("dispatch failed", e);
-                            }
-                            failState.success();
-                        } else {
-                            failState.fail();
-
-                            if (failState.isFailure()) {
-                                logger.info("isReadyState error {}", this);
-                                status = FinishStatus.ISREADY_ERROR;
-                                break;
+                        if (pending.isEmpty()) {
+                            pending.add(queue.take());
+                            if (drainSize > 1) {
+                                queue.drainTo(pending, drainSize - 1);
                             }
                         }
+                        if (!dispatchPending(stream)) {
+                            status = FinishStatus.ISREADY_ERROR;
+                            break;
+                        }
                     }
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
@@ -115,10 +131,47 @@ public class DefaultStreamTask<M, ReqT, ResT> implements StreamTask<M, ReqT> {
                     StreamUtils.onCompleted(stream, (ex) -> logger.info("stream stop", ex));
                 }
 
+                if (!pending.isEmpty()) {
+                    logger.info("dispatch end with {} pending messages {}", pending.size(), this);
+                }
                 logger.info("dispatch thread end status:{} {}", status, this);
                 latch.countDown();
             }
 
+            /**
+             * Writes the pending messages in order.
+             * The message that trips the failure state stays at the head of {@code pending}.
+             */
+            private boolean dispatchPending(ClientCallStateStreamObserver<ReqT> stream) {
+                M message;
+                while ((message = pending.peekFirst()) != null) {
+                    if (!dispatch0(stream, message)) {
+                        return false;
+                    }
+                    pending.pollFirst();
+                }
+                return true;
+            }
+
+            private boolean dispatch0(ClientCallStateStreamObserver<ReqT> stream, M message) {
+                if (stream.isReady()) {
+                    try {
+                        dispatcher.onDispatch(stream, message);
+                    } catch (Exception e) {
+                        logger.warn("dispatch failed", e);
+                    }
+                    failState.success();
+                    return true;
+                }
+                failState.fail();
+
+                if (failState.isFailure()) {
+                    logger.info("isReadyState error {}", this);
+                    return false;
+                }
+                return true;
+            }
+
         };
     }
 
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.util;
+
+import com.navercorp.pinpoint.bootstrap.util.AntPathMatcher;
+import com.navercorp.pinpoint.bootstrap.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Matches a path against an ordered set of ant-style patterns.
+ * <p>
+ * Patterns are compiled once into a trie keyed by path segment. Literal segments are resolved with a hash lookup,
+ * wildcard segments ({@code *}, {@code ?}, <code>{var}</code>) and {@code **} become dedicated child nodes,
+ * so the cost of a lookup depends on the number of path segments rather than the number of patterns.
+ * The trie only selects candidates; the candidates are confirmed with {@link AntPathMatcher} in registration order,
+ * so the result is always the same as a linear scan over the patterns.
+ *
+ * @param <T> value type
+ */
+public final class PathPatternTrie<T> {
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final String DOUBLE_WILDCARD = "**";
+
+    private final Rule<T>[] rules;
+    private final Map<String, Integer> exactRules;
+    private final Node root;
+
+    private PathPatternTrie(Rule<T>[] rules, Map<String, Integer> exactRules, Node root) {
+        this.rules = rules;
+        this.exactRules = exactRules;
+        this.root = root;
+    }
+
+    public static <T> Builder<T> newBuilder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return the value of the first registered pattern matching {@code path}, or {@code null}
+     */
+    public T match(String path) {
+        if (path == null) {
+            return null;
+        }
+        int best = Integer.MAX_VALUE;
+        final Integer exact = exactRules.get(path);
+        if (exact != null) {
+            best = exact;
+        }
+
+        if (root != null) {
+            final Candidates candidates = new Candidates();
+            collect(root, tokenize(path), 0, path.endsWith(PATH_SEPARATOR), candidates);
+            best = candidates.confirm(rules, path, best);
+        }
+
+        if (best == Integer.MAX_VALUE) {
+            return null;
+        }
+        return rules[best].value;
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    private static void collect(Node node, String[] tokens, int index, boolean trailingSeparator, Candidates candidates) {
+        if (index == tokens.length) {
+            candidates.addAll(node.terminals);
+            if (trailingSeparator && node.wildcard != null) {
+                // AntPathMatcher matches a trailing '*' segment against the empty segment after a trailing separator
+                // e.g. "/a/*" matches "/a/"
+                candidates.addAll(node.wildcard.terminals);
+            }
+        } else {
+            if (node.literals != null) {
+                final Node literal = node.literals.get(tokens[index]);
+                if (literal != null) {
+                    collect(literal, tokens, index + 1, trailingSeparator, candidates);
+                }
+            }
+            if (node.wildcard != null) {
+                collect(node.wildcard, tokens, index + 1, trailingSeparator, candidates);
+            }
+        }
+        final Node doubleWildcard = node.doubleWildcard;
+        if (doubleWildcard != null) {
+            // '**' consumes zero or more segments
+            for (int i = index; i <= tokens.length; i++) {
+                collect(doubleWildcard, tokens, i, trailingSeparator, candidates);
+            }
+        }
+    }
+
+    // same tokenizing rule as spring AntPathMatcher : trim tokens and ignore empty tokens
+    static String[] tokenize(String path) {
+        final List<String> tokens = new ArrayList<>();
+        final int length = path.length();
+        int start = 0;
+        while (start <= length) {
+            int end = path.indexOf(PATH_SEPARATOR, start);
+            if (end == -1) {
+                end = length;
+            }
+            final String token = trim(path, start, end);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+            start = end + 1;
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    private static String trim(String str, int start, int end) {
+        while (start < end && Character.isWhitespace(str.charAt(start))) {
+            start++;
+        }
+        while (start < end && Character.isWhitespace(str.charAt(end - 1))) {
+            end--;
+        }
+        return str.substring(start, end);
+    }
+
+    private static boolean isWildcardSegment(String segment) {
+        return segment.indexOf('*') != -1 || segment.indexOf('?') != -1 || segment.indexOf('{') != -1;
+    }
+
+    private static final class Rule<T> {
+        private final String pattern;
+        private final PathMatcher matcher;
+        private final T value;
+
+        private Rule(String pattern, PathMatcher matcher, T value) {
+            this.pattern = pattern;
+            this.matcher = matcher;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return pattern;
+        }
+    }
+
+    private static final class Node {
+        private static final int[] EMPTY = new int[0];
+
+        private Map<String, Node> literals;
+        private Node wildcard;
+        private Node doubleWildcard;
+        private int[] terminals = EMPTY;
+
+        private Node child(String segment) {
+            if (DOUBLE_WILDCARD.equals(segment)) {
+                if (doubleWildcard == null) {
+                    doubleWildcard = new Node();
+                }
+                return doubleWildcard;
+            }
+            if (isWildcardSegment(segment)) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            if (literals == null) {
+                literals = new HashMap<>();
+            }
+            return literals.computeIfAbsent(segment, key -> new Node());
+        }
+
+        private void addTerminal(int order) {
+            final int[] copy = Arrays.copyOf(terminals, terminals.length + 1);
+            copy[terminals.length] = order;
+            this.terminals = copy;
+        }
+    }
+
+    private static final class Candidates {
+        private int[] orders = new int[4];
+        private int size;
+
+        private void addAll(int[] terminals) {
+            for (int order : terminals) {
+                if (size == orders.length) {
+                    orders = Arrays.copyOf(orders, size * 2);
+                }
+                orders[size++] = order;
+            }
+        }
+
+        private int confirm(Rule<?>[] rules, String path, int best) {
+            if (size == 0) {
+                return best;
+            }
+            Arrays.sort(orders, 0, size);
+            for (int i = 0; i < size; i++) {
+                final int order = orders[i];
+                if (order >= best) {
+                    break;
+                }
+                if (rules[order].matcher.isMatched(path)) {
+                    return order;
+                }
+            }
+            return best;
+        }
+    }
+
+    public static final class Builder<T> {
+        private final List<Rule<T>> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> add(String pattern, T value) {
+            Objects.requireNonNull(pattern, "pattern");
+            Objects.requireNonNull(value, "value");
+            final PathMatcher matcher = AntPathMatcher.isAntStylePattern(pattern) ? new AntPathMatcher(pattern) : null;
+            rules.add(new Rule<>(pattern, matcher, value));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public PathPatternTrie<T> build() {
+            final Rule<T>[] rules = this.rules.toArray(new Rule[0]);
+            final Map<String, Integer> exactRules = new HashMap<>();
+            Node root = null;
+            for (int order = 0; order < rules.length; order++) {
+                final Rule<T> rule = rules[order];
+                if (rule.matcher == null) {
+                    exactRules.putIfAbsent(rule.pattern, order);
+                    continue;
+                }
+                if (root == null) {
+                    root = new Node();
+                }
+                Node node = root;
+                for (String segment : tokenize(rule.pattern)) {
+                    node = node.child(segment);
+                }
+                node.addTerminal(order);
+            }
+            return new PathPatternTrie<>(rules, exactRules, root);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PathPatternTrie{" +
+                "rules=" + Arrays.toString(rules) +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import com.navercorp.pinpoint.profiler.context.annotation.Annotations;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultSpanEventPoolTest {
+
+    @Test
+    public void recycle() {
+        SpanEventPool pool = new DefaultSpanEventPool(10, 1);
+
+        SpanEvent spanEvent = pool.acquire();
+        spanEvent.setStartTime(100);
+        spanEvent.setApiId(10);
+        spanEvent.setEndPoint("endPoint");
+        spanEvent.setDepth(3);
+        spanEvent.addAnnotation(Annotations.of(1, "value"));
+        spanEvent.attachFrameObject("frame");
+        final List<Annotation<?>> annotations = spanEvent.getAnnotations();
+
+        pool.release(Collections.singletonList(spanEvent));
+
+        SpanEvent recycled = pool.acquire();
+        assertSame(spanEvent, recycled);
+        assertEquals(0, recycled.getStartTime());
+        assertEquals(0, recycled.getApiId());
+        assertNull(recycled.getEndPoint());
+        assertEquals(-1, recycled.getDepth());
+        assertNull(recycled.getFrameObject());
+        assertSame(annotations, recycled.getAnnotations());
+        assertTrue(recycled.getAnnotations().isEmpty());
+    }
+
+    @Test
+    public void disableSpanEvent_notRecycled() {
+        SpanEventPool pool = new DefaultSpanEventPool(10, 1);
+
+        SpanEvent disable = new DisableSpanEvent();
+        pool.release(Collections.singletonList(disable));
+
+        assertNotSame(disable, pool.acquire());
+    }
+
+    @Test
+    public void bounded() {
+        SpanEventPool pool = new DefaultSpanEventPool(1, 1);
+
+        SpanEvent spanEvent1 = new SpanEvent();
+        SpanEvent spanEvent2 = new SpanEvent();
+        pool.release(Arrays.asList(spanEvent1, spanEvent2));
+
+        assertSame(spanEvent1, pool.acquire());
+        SpanEvent newSpanEvent = pool.acquire();
+        assertNotSame(spanEvent1, newSpanEvent);
+        assertNotSame(spanEvent2, newSpanEvent);
+    }
+
+    @Test
+    public void acquire_otherStripe() {
+        SpanEventPool pool = new DefaultSpanEventPool(8, 4);
+
+        // released by the sender to some stripe, not necessarily the stripe of this thread
+        SpanEvent spanEvent = new SpanEvent();
+        pool.release(Collections.singletonList(spanEvent));
+
+        assertSame(spanEvent, pool.acquire());
+    }
+}
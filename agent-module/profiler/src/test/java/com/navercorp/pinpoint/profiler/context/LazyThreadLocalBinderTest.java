@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LazyThreadLocalBinderTest {
+
+    @Test
+    void unbound() {
+        Binder<String> binder = new LazyThreadLocalBinder<>();
+
+        Reference<String> reference = binder.get();
+        Assertions.assertNull(reference.get());
+        Assertions.assertNull(reference.clear());
+        Assertions.assertSame(reference, binder.get());
+    }
+
+    @Test
+    void set() {
+        Binder<String> binder = new LazyThreadLocalBinder<>();
+
+        binder.get().set("trace");
+        Assertions.assertEquals("trace", binder.get().get());
+
+        Assertions.assertEquals("trace", binder.get().clear());
+        Assertions.assertNull(binder.get().get());
+    }
+
+    @Test
+    void set_reuseReference() {
+        Binder<String> binder = new LazyThreadLocalBinder<>();
+        binder.get().set("trace1");
+
+        Reference<String> reference = binder.get();
+        Assertions.assertEquals("trace1", reference.clear());
+
+        reference.set("trace2");
+        Assertions.assertEquals("trace2", binder.get().get());
+    }
+
+    @Test
+    void set_otherThread() throws InterruptedException {
+        Binder<String> binder = new LazyThreadLocalBinder<>();
+        binder.get().set("trace");
+
+        String[] otherThread = new String[1];
+        Thread thread = new Thread(() -> otherThread[0] = binder.get().get());
+        thread.start();
+        thread.join();
+
+        Assertions.assertNull(otherThread[0]);
+        Assertions.assertEquals("trace", binder.get().get());
+    }
+}
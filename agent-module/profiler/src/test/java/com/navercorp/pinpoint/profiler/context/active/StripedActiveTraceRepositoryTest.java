@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.active;
+
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeCollector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class StripedActiveTraceRepositoryTest {
+
+    @Test
+    void capacity() {
+        Assertions.assertEquals(16384, StripedActiveTraceRepository.capacity(1024 * 10));
+        Assertions.assertEquals(1024, StripedActiveTraceRepository.capacity(1024));
+        Assertions.assertEquals(StripedActiveTraceRepository.STRIPE_SIZE, StripedActiveTraceRepository.capacity(1));
+    }
+
+    @Test
+    void registerAndPurge() {
+        ResponseTimeCollector collector = Mockito.mock(ResponseTimeCollector.class);
+        ActiveTraceRepository repository = new StripedActiveTraceRepository(collector, 64);
+
+        List<ActiveTraceHandle> handles = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            handles.add(repository.register(newTraceRoot(1000, id)));
+        }
+        Assertions.assertEquals(10, repository.snapshot().size());
+        Assertions.assertEquals(10, repository.getThreadIdList().size());
+
+        ActiveTraceHistogram histogram = repository.getActiveTraceHistogram(1100);
+        Assertions.assertEquals(10, histogram.getFastCount());
+
+        handles.get(0).purge(1300);
+        Mockito.verify(collector).add(300);
+        // purge is idempotent
+        handles.get(0).purge(1400);
+        Mockito.verify(collector, Mockito.times(1)).add(Mockito.anyLong());
+
+        Assertions.assertEquals(9, repository.snapshot().size());
+        for (ActiveTraceHandle handle : handles) {
+            handle.purge(2000);
+        }
+        Assertions.assertTrue(repository.snapshot().isEmpty());
+        Assertions.assertEquals(0, repository.getActiveTraceHistogram(2000).getFastCount());
+    }
+
+    @Test
+    void register_stripeFull() {
+        ResponseTimeCollector collector = Mockito.mock(ResponseTimeCollector.class);
+        StripedActiveTraceRepository repository = new StripedActiveTraceRepository(collector, StripedActiveTraceRepository.STRIPE_SIZE);
+
+        for (long id = 1; id <= StripedActiveTraceRepository.STRIPE_SIZE; id++) {
+            Assertions.assertNotSame(ActiveTraceHandle.EMPTY_HANDLE, repository.register(newTraceRoot(1000, id)));
+        }
+        ActiveTraceHandle handle = repository.register(newTraceRoot(1000, 100));
+        Assertions.assertSame(ActiveTraceHandle.EMPTY_HANDLE, handle);
+        Assertions.assertEquals(StripedActiveTraceRepository.STRIPE_SIZE, repository.snapshot().size());
+    }
+
+    @Test
+    void snapshot_notStarted() {
+        ActiveTraceRepository repository = new StripedActiveTraceRepository(Mockito.mock(ResponseTimeCollector.class));
+        repository.register(newTraceRoot(0, 1));
+
+        Assertions.assertTrue(repository.snapshot().isEmpty());
+    }
+
+    @Test
+    void index_spread() {
+        StripedActiveTraceRepository repository = new StripedActiveTraceRepository(Mockito.mock(ResponseTimeCollector.class), 1024);
+        int stripe1 = repository.index(1) / StripedActiveTraceRepository.STRIPE_SIZE;
+        int stripe2 = repository.index(2) / StripedActiveTraceRepository.STRIPE_SIZE;
+        Assertions.assertNotEquals(stripe1, stripe2);
+    }
+
+    private LocalTraceRoot newTraceRoot(long startTime, long localTransactionId) {
+        return TraceRoot.local("agentId", startTime, localTransactionId);
+    }
+}
@@ -15,6 +15,7 @@ import com.navercorp.pinpoint.profiler.context.LocalAsyncId;
 import com.navercorp.pinpoint.profiler.context.Span;
 import com.navercorp.pinpoint.profiler.context.SpanChunk;
 import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.SpanEventPool;
 import com.navercorp.pinpoint.profiler.context.annotation.Annotations;
 import com.navercorp.pinpoint.profiler.context.compress.GrpcSpanProcessorV2;
 import com.navercorp.pinpoint.profiler.context.compress.SpanProcessor;
@@ -28,14 +29,17 @@ import com.navercorp.pinpoint.profiler.context.id.Shared;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
+import org.mockito.InOrder;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
 import static com.navercorp.pinpoint.profiler.context.grpc.MapperTestUtil.randomString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -164,6 +168,22 @@ class GrpcSpanMessageConverterTest {
         return traceRoot;
     }
 
+    @Test
+    void toMessage_detachSpanEvents() {
+        SpanEventPool spanEventPool = mock(SpanEventPool.class);
+        GrpcSpanMessageConverter converter = new GrpcSpanMessageConverter(
+                agentId, applicationServiceType, spanProcessorProtoV2, spanMessageMapper, spanEventPool
+        );
+        SpanChunk spanChunk = newSpanChunk();
+        List<SpanEvent> spanEventList = spanChunk.getSpanEventList();
+
+        converter.toMessage(spanChunk);
+
+        InOrder inOrder = inOrder(spanChunk, spanEventPool);
+        inOrder.verify(spanChunk).setSpanEventList(Collections.emptyList());
+        inOrder.verify(spanEventPool).release(spanEventList);
+    }
+
     @Test
     void testMapSpan() {
         Span span = newSpan();
@@ -74,6 +74,8 @@ public class GrpcTransportConfigTest {
         assertEquals(3, config.getSpanRequestTimeout());
         assertEquals(3, config.getSpanChannelExecutorQueueSize());
         assertEquals(3, config.getSpanSenderExecutorQueueSize());
+        assertEquals(3, config.getSpanStreamCount());
+        assertEquals(3, config.getSpanStreamDrainSize());
 
         assertEquals(3, config.getSpanClientOption().getKeepAliveTime());
         assertEquals(3, config.getSpanClientOption().getKeepAliveTimeout());
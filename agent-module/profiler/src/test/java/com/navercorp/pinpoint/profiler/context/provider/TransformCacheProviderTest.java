@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+public class TransformCacheProviderTest {
+
+    @Test
+    public void context() {
+        List<Path> plugins = Arrays.asList(Paths.get("plugin/b.jar"), Paths.get("plugin/a.jar"));
+        Properties properties = new Properties();
+        properties.setProperty("profiler.plugin.disable", "tomcat");
+
+        String context = TransformCacheProvider.context("3.1.0", plugins, properties);
+        Assertions.assertEquals(64, context.length());
+
+        // order and directory of the plugin jars do not matter
+        List<Path> reordered = Arrays.asList(Paths.get("other/a.jar"), Paths.get("other/b.jar"));
+        Assertions.assertEquals(context, TransformCacheProvider.context("3.1.0", reordered, properties));
+
+        // only profiler.* keys are part of the context
+        Properties agent = new Properties();
+        agent.putAll(properties);
+        agent.setProperty("pinpoint.agentId", "agent-1");
+        Assertions.assertEquals(context, TransformCacheProvider.context("3.1.0", plugins, agent));
+
+        Assertions.assertNotEquals(context, TransformCacheProvider.context("3.1.1", plugins, properties));
+        Assertions.assertNotEquals(context, TransformCacheProvider.context("3.1.0", Collections.singletonList(Paths.get("a.jar")), properties));
+
+        Properties changed = new Properties();
+        changed.setProperty("profiler.plugin.disable", "jetty");
+        Assertions.assertNotEquals(context, TransformCacheProvider.context("3.1.0", plugins, changed));
+    }
+}
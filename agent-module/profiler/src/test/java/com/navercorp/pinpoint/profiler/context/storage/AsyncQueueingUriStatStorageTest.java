@@ -21,13 +21,17 @@ import com.navercorp.pinpoint.profiler.monitor.metric.uri.AgentUriStatData;
 import com.navercorp.pinpoint.profiler.monitor.metric.uri.EachUriStatData;
 import com.navercorp.pinpoint.profiler.monitor.metric.uri.URIKey;
 import com.navercorp.pinpoint.profiler.monitor.metric.uri.UriStatHistogram;
+import com.navercorp.pinpoint.profiler.util.PathPatternTrie;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author Taejin Koo
@@ -82,6 +86,38 @@ public class AsyncQueueingUriStatStorageTest {
         }
     }
 
+    @Test
+    public void uriTemplateTest() {
+        int collectInterval = 100;
+        PathPatternTrie<String> uriTemplate = PathPatternTrie.<String>newBuilder()
+                .add("/users/*", "/users/*")
+                .add("/static/**", "/static/**")
+                .build();
+        try (AsyncQueueingUriStatStorage storage
+                     = new AsyncQueueingUriStatStorage(false, 5012, 1000, "Test-Executor", collectInterval, uriTemplate)) {
+
+            long sleepTime = System.currentTimeMillis() % collectInterval;
+            Uninterruptibles.sleepUninterruptibly(sleepTime + 2, TimeUnit.MILLISECONDS);
+
+            final long timestamp = System.currentTimeMillis();
+            storage.store("/users/1", "GET", true, timestamp - 10, timestamp);
+            storage.store("/users/2", "GET", true, timestamp - 10, timestamp);
+            storage.store("/static/js/app.js", "GET", true, timestamp - 10, timestamp);
+            storage.store("/main", "GET", true, timestamp - 10, timestamp);
+
+            Uninterruptibles.sleepUninterruptibly(collectInterval, TimeUnit.MILLISECONDS);
+            storage.pollTimeout(collectInterval);
+
+            AgentUriStatData poll = storage.poll();
+            Assertions.assertNotNull(poll);
+            Set<String> uris = poll.getAllUriStatData()
+                    .stream()
+                    .map(entry -> entry.getKey().getUri())
+                    .collect(Collectors.toSet());
+            Assertions.assertEquals(new HashSet<>(Arrays.asList("/users/*", "/static/**", "/main")), uris);
+        }
+    }
+
     private void storeRandomValue(AsyncQueueingUriStatStorage storage, long timestamp) {
         storage.store(URI_EXAMPLES[RANDOM.nextInt(URI_EXAMPLES.length)],
                 HTTP_METHODS[RANDOM.nextInt(HTTP_METHODS.length)],
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.Matcher;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.Matchers;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.InterfaceInternalNameMatcherOperand;
+import com.navercorp.pinpoint.profiler.instrument.config.DefaultInstrumentMatcherCacheConfig;
+import com.navercorp.pinpoint.profiler.plugin.MatchableClassFileTransformer;
+import com.navercorp.pinpoint.profiler.util.BytecodeUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachedTransformerRegistryTest {
+
+    private static final byte[] CLASS_FILE = "class".getBytes(StandardCharsets.UTF_8);
+
+    private final TransformCache transformCache = new FileTransformCache(Paths.get("unused"), "context", 100);
+
+    @Test
+    public void findTransformer_unmodified() {
+        TransformerRegistry registry = mock(TransformerRegistry.class);
+        CachedTransformerRegistry cachedRegistry = new CachedTransformerRegistry(registry, transformCache, false);
+
+        Assertions.assertNull(cachedRegistry.findTransformer(null, "test/A", CLASS_FILE));
+        Assertions.assertNull(cachedRegistry.findTransformer(null, "test/A", CLASS_FILE));
+
+        verify(registry, times(1)).findTransformer(any(), anyString(), any(), any());
+    }
+
+    @Test
+    public void findTransformer_transformed() {
+        TransformerRegistry registry = mock(TransformerRegistry.class);
+        ClassFileTransformer transformer = mock(ClassFileTransformer.class);
+        when(registry.findTransformer(any(), anyString(), any(), any())).thenReturn(transformer);
+        CachedTransformerRegistry cachedRegistry = new CachedTransformerRegistry(registry, transformCache, false);
+
+        Assertions.assertSame(transformer, cachedRegistry.findTransformer(null, "test/A", CLASS_FILE));
+        Assertions.assertFalse(transformCache.isUnmodified("test/A", CLASS_FILE));
+    }
+
+    @Test
+    public void findTransformer_verify() {
+        transformCache.putUnmodified("test/A", CLASS_FILE);
+
+        TransformerRegistry registry = mock(TransformerRegistry.class);
+        ClassFileTransformer transformer = mock(ClassFileTransformer.class);
+        when(registry.findTransformer(any(), anyString(), any(), any())).thenReturn(transformer);
+        CachedTransformerRegistry cachedRegistry = new CachedTransformerRegistry(registry, transformCache, true);
+
+        Assertions.assertSame(transformer, cachedRegistry.findTransformer(null, "test/A", CLASS_FILE));
+        // the stale entry is evicted
+        Assertions.assertFalse(transformCache.isUnmodified("test/A", CLASS_FILE));
+    }
+
+    @Test
+    public void findTransformer_hierarchyLookup() {
+        Matcher matcher = Matchers.newPackageBasedMatcher(this.getClass().getPackage().getName(),
+                new InterfaceInternalNameMatcherOperand("java.io.Serializable", true));
+        MatchableClassFileTransformer transformer = mock(MatchableClassFileTransformer.class);
+        when(transformer.getMatcher()).thenReturn(matcher);
+        TransformerRegistry registry = new MatchableTransformerRegistry(new DefaultInstrumentMatcherCacheConfig(), Collections.singletonList(transformer));
+        CachedTransformerRegistry cachedRegistry = new CachedTransformerRegistry(registry, transformCache, false);
+
+        ClassLoader classLoader = this.getClass().getClassLoader();
+        String baseName = Base.class.getName();
+        byte[] base = BytecodeUtils.getClassFile(classLoader, baseName);
+        Assertions.assertNull(cachedRegistry.findTransformer(classLoader, toInternalName(baseName), base));
+        // rejected without reading another class file
+        Assertions.assertTrue(transformCache.isUnmodified(toInternalName(baseName), base));
+
+        String childName = Child.class.getName();
+        byte[] child = BytecodeUtils.getClassFile(classLoader, childName);
+        Assertions.assertNull(cachedRegistry.findTransformer(classLoader, toInternalName(childName), child));
+        // the result depends on the class file of Base
+        Assertions.assertFalse(transformCache.isUnmodified(toInternalName(childName), child));
+    }
+
+    private static String toInternalName(String className) {
+        return className.replace('.', '/');
+    }
+
+    static class Base {
+    }
+
+    static class Child extends Base {
+    }
+}
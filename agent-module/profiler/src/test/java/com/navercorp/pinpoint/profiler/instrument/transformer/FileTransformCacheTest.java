@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class FileTransformCacheTest {
+
+    private static final byte[] CLASS_A = "classA".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLASS_B = "classB".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void saveAndLoad() {
+        Path file = tempDir.resolve("cache.bin");
+
+        FileTransformCache cache = new FileTransformCache(file, "context", 100);
+        Assertions.assertEquals(0, cache.load());
+        Assertions.assertFalse(cache.isUnmodified("test/A", CLASS_A));
+        cache.putUnmodified("test/A", CLASS_A);
+        Assertions.assertTrue(cache.isUnmodified("test/A", CLASS_A));
+        cache.close();
+
+        FileTransformCache reload = new FileTransformCache(file, "context", 100);
+        Assertions.assertEquals(1, reload.load());
+        Assertions.assertTrue(reload.isUnmodified("test/A", CLASS_A));
+        // same name, other bytes
+        Assertions.assertFalse(reload.isUnmodified("test/A", CLASS_B));
+        Assertions.assertFalse(reload.isUnmodified("test/B", CLASS_A));
+    }
+
+    @Test
+    public void load_contextChanged() {
+        Path file = tempDir.resolve("cache.bin");
+
+        FileTransformCache cache = new FileTransformCache(file, "context", 100);
+        cache.putUnmodified("test/A", CLASS_A);
+        cache.close();
+
+        FileTransformCache reload = new FileTransformCache(file, "newContext", 100);
+        Assertions.assertEquals(0, reload.load());
+        Assertions.assertFalse(reload.isUnmodified("test/A", CLASS_A));
+    }
+
+    @Test
+    public void load_corrupted() throws IOException {
+        Path file = tempDir.resolve("cache.bin");
+
+        FileTransformCache cache = new FileTransformCache(file, "context", 100);
+        cache.putUnmodified("test/A", CLASS_A);
+        cache.close();
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 12] ^= 0x1;
+        Files.write(file, bytes);
+
+        Assertions.assertEquals(0, new FileTransformCache(file, "context", 100).load());
+
+        try (OutputStream output = Files.newOutputStream(file)) {
+            output.write(bytes, 0, bytes.length / 2);
+        }
+        Assertions.assertEquals(0, new FileTransformCache(file, "context", 100).load());
+    }
+
+    @Test
+    public void maxEntries() {
+        Path file = tempDir.resolve("cache.bin");
+
+        FileTransformCache cache = new FileTransformCache(file, "context", 1);
+        cache.putUnmodified("test/A", CLASS_A);
+        cache.putUnmodified("test/B", CLASS_B);
+        Assertions.assertTrue(cache.isUnmodified("test/A", CLASS_A));
+        Assertions.assertFalse(cache.isUnmodified("test/B", CLASS_B));
+    }
+
+    @Test
+    public void remove() {
+        Path file = tempDir.resolve("cache.bin");
+
+        FileTransformCache cache = new FileTransformCache(file, "context", 100);
+        cache.putUnmodified("test/A", CLASS_A);
+        cache.close();
+
+        FileTransformCache reload = new FileTransformCache(file, "context", 100);
+        reload.load();
+        reload.remove("test/A", CLASS_A);
+        Assertions.assertFalse(reload.isUnmodified("test/A", CLASS_A));
+        reload.close();
+
+        Assertions.assertEquals(0, new FileTransformCache(file, "context", 100).load());
+    }
+
+    @Test
+    public void save_keepLoadedEntries() {
+        Path file = tempDir.resolve("cache.bin");
+
+        FileTransformCache cache = new FileTransformCache(file, "context", 100);
+        cache.putUnmodified("test/A", CLASS_A);
+        cache.close();
+
+        // test/A is not loaded in this run
+        FileTransformCache reload = new FileTransformCache(file, "context", 100);
+        reload.load();
+        reload.putUnmodified("test/B", CLASS_B);
+        reload.close();
+
+        Assertions.assertEquals(2, new FileTransformCache(file, "context", 100).load());
+    }
+}
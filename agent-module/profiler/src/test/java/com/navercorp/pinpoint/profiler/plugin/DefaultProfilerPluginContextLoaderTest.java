@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.plugin;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
+import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.JdbcUrlParserV2;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.trace.ServiceTypeFactory;
+import com.navercorp.pinpoint.common.util.IOUtils;
+import com.navercorp.pinpoint.profiler.instrument.classloading.ClassInjectorFactory;
+import com.navercorp.pinpoint.profiler.plugin.config.PluginLoadingConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+class DefaultProfilerPluginContextLoaderTest {
+
+    private static final ServiceType TOMCAT = ServiceTypeFactory.of(1010, "TOMCAT");
+    private static final ServiceType SPRING_BOOT = ServiceTypeFactory.of(1210, "SPRING_BOOT");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void load_parallel() throws Exception {
+        // the first jar is the slowest and the later jars try to register another application type
+        ServiceType[] applicationTypes = {TOMCAT, null, SPRING_BOOT, null};
+        long[] setupDelays = {200, 0, 0, 0};
+
+        Set<String> setupThreads = ConcurrentHashMap.newKeySet();
+        List<PluginJar> pluginJars = new ArrayList<>();
+        List<ProfilerPlugin> plugins = new ArrayList<>();
+        List<JdbcUrlParserV2> markers = new ArrayList<>();
+        for (int i = 0; i < applicationTypes.length; i++) {
+            PluginJar pluginJar = newPluginJar("plugin-" + i + ".jar");
+            JdbcUrlParserV2 marker = Mockito.mock(JdbcUrlParserV2.class);
+            pluginJars.add(pluginJar);
+            plugins.add(newPlugin(pluginJar.getURL(), applicationTypes[i], setupDelays[i], marker, setupThreads));
+            markers.add(marker);
+        }
+
+        PluginLoadingConfig pluginLoadingConfig = Mockito.mock(PluginLoadingConfig.class);
+        Mockito.when(pluginLoadingConfig.getPluginSetupParallelism()).thenReturn(4);
+        Mockito.when(pluginLoadingConfig.getDisabledPlugins()).thenReturn(Collections.emptyList());
+
+        PluginSetup pluginSetup = (globalContext, plugin, classInjector) -> {
+            DefaultProfilerPluginSetupContext setupContext = new DefaultProfilerPluginSetupContext(globalContext);
+            plugin.setup(setupContext);
+            return new PluginSetupResult(setupContext, null);
+        };
+        DefaultProfilerPluginContextLoader loader = new DefaultProfilerPluginContextLoader(Mockito.mock(ProfilerConfig.class),
+                pluginLoadingConfig, ServiceType.UNDEFINED, Mockito.mock(ClassInjectorFactory.class), pluginSetup, pluginJars);
+
+        PluginsSetupResult result = loader.load(plugins);
+
+        Assertions.assertEquals(TOMCAT, result.getApplicationType());
+        List<JdbcUrlParserV2> resultOrder = new ArrayList<>();
+        for (PluginSetupResult setupResult : result.getPluginSetupResults()) {
+            resultOrder.addAll(setupResult.getJdbcUrlParserList());
+        }
+        Assertions.assertEquals(markers, resultOrder);
+        Assertions.assertEquals(applicationTypes.length, setupThreads.size());
+    }
+
+    private PluginJar newPluginJar(String name) throws IOException {
+        Path path = tempDir.resolve(name);
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+        try (OutputStream out = Files.newOutputStream(path);
+             JarOutputStream jar = new JarOutputStream(out, manifest)) {
+            jar.flush();
+        }
+        return PluginJar.fromFilePath(path);
+    }
+
+    /**
+     * Defines {@link TestPlugin} with the jar as its code source, so that the loader matches the plugin to the jar.
+     */
+    private ProfilerPlugin newPlugin(URL jarUrl, ServiceType applicationType, long setupDelay,
+                                     JdbcUrlParserV2 marker, Set<String> setupThreads) throws Exception {
+        Class<?> pluginClass = new JarCodeSourceClassLoader(getClass().getClassLoader(), jarUrl).loadClass(TestPlugin.class.getName());
+        Assertions.assertNotSame(TestPlugin.class, pluginClass);
+        return (ProfilerPlugin) pluginClass.getConstructor(ServiceType.class, long.class, JdbcUrlParserV2.class, Set.class)
+                .newInstance(applicationType, setupDelay, marker, setupThreads);
+    }
+
+    private static class JarCodeSourceClassLoader extends ClassLoader {
+        private final URL jarUrl;
+
+        private JarCodeSourceClassLoader(ClassLoader parent, URL jarUrl) {
+            super(parent);
+            this.jarUrl = jarUrl;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!TestPlugin.class.getName().equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                byte[] bytes = readClass(name);
+                ProtectionDomain protectionDomain = new ProtectionDomain(new CodeSource(jarUrl, (Certificate[]) null), null);
+                return defineClass(name, bytes, 0, bytes.length, protectionDomain);
+            }
+        }
+
+        private byte[] readClass(String name) throws ClassNotFoundException {
+            String resource = name.replace('.', '/') + ".class";
+            try (InputStream in = getParent().getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return IOUtils.toByteArray(in);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+
+    public static class TestPlugin implements ProfilerPlugin {
+        private final ServiceType applicationType;
+        private final long setupDelay;
+        private final JdbcUrlParserV2 marker;
+        private final Set<String> setupThreads;
+
+        public TestPlugin(ServiceType applicationType, long setupDelay, JdbcUrlParserV2 marker, Set<String> setupThreads) {
+            this.applicationType = applicationType;
+            this.setupDelay = setupDelay;
+            this.marker = marker;
+            this.setupThreads = setupThreads;
+        }
+
+        @Override
+        public void setup(ProfilerPluginSetupContext context) {
+            setupThreads.add(Thread.currentThread().getName());
+            if (setupDelay > 0) {
+                try {
+                    Thread.sleep(setupDelay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (applicationType != null) {
+                context.registerApplicationType(applicationType);
+            }
+            context.addJdbcUrlParser(marker);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.plugin;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginGlobalContext;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.trace.ServiceTypeFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class OrderedPluginGlobalContextTest {
+
+    private static final ServiceType TOMCAT = ServiceTypeFactory.of(1010, "TOMCAT");
+    private static final ServiceType SPRING_BOOT = ServiceTypeFactory.of(1210, "SPRING_BOOT");
+
+    @Test
+    void registerApplicationType_pluginOrder() throws Exception {
+        DefaultProfilerPluginGlobalContext globalContext = newGlobalContext();
+        OrderedPluginGlobalContext first = new OrderedPluginGlobalContext(globalContext, null);
+        OrderedPluginGlobalContext second = new OrderedPluginGlobalContext(globalContext, first);
+
+        ApplicationTypePlugin tomcatPlugin = new ApplicationTypePlugin(TOMCAT);
+        ApplicationTypePlugin springBootPlugin = new ApplicationTypePlugin(SPRING_BOOT);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // the later plugin starts its setup first
+            Future<?> secondSetup = executor.submit(() -> setup(springBootPlugin, second));
+            Assertions.assertThrows(TimeoutException.class, () -> secondSetup.get(100, TimeUnit.MILLISECONDS));
+
+            setup(tomcatPlugin, first);
+            secondSetup.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(TOMCAT, globalContext.getApplicationType());
+        Assertions.assertEquals(Collections.singletonList("TOMCAT transformer"), tomcatPlugin.transformers);
+        // the losing plugin does not add its transformers
+        Assertions.assertEquals(Collections.emptyList(), springBootPlugin.transformers);
+    }
+
+    @Test
+    void registerApplicationType_firstWins() {
+        DefaultProfilerPluginGlobalContext globalContext = newGlobalContext();
+        OrderedPluginGlobalContext context = new OrderedPluginGlobalContext(globalContext, null);
+
+        Assertions.assertTrue(context.registerApplicationType(TOMCAT));
+        Assertions.assertFalse(context.registerApplicationType(SPRING_BOOT));
+        Assertions.assertEquals(TOMCAT, context.getApplicationType());
+        Assertions.assertEquals(TOMCAT, globalContext.getApplicationType());
+    }
+
+    private void setup(ApplicationTypePlugin plugin, OrderedPluginGlobalContext context) {
+        try {
+            plugin.setup(context);
+        } finally {
+            context.setupFinished();
+        }
+    }
+
+    private DefaultProfilerPluginGlobalContext newGlobalContext() {
+        return new DefaultProfilerPluginGlobalContext(Mockito.mock(ProfilerConfig.class), ServiceType.UNDEFINED);
+    }
+
+    /**
+     * Adds its transformers only if it wins the application type registration, like the JBoss plugin.
+     */
+    private static class ApplicationTypePlugin {
+        private final ServiceType applicationType;
+        private final List<String> transformers = new ArrayList<>();
+
+        private ApplicationTypePlugin(ServiceType applicationType) {
+            this.applicationType = applicationType;
+        }
+
+        void setup(ProfilerPluginGlobalContext context) {
+            if (context.registerApplicationType(applicationType)) {
+                transformers.add(applicationType.getName() + " transformer");
+            }
+        }
+    }
+}
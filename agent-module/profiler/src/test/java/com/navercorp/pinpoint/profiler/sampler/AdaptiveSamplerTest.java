@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AdaptiveSamplerTest {
+
+    private static final long MIN = 1 * PercentRateSampler.MULTIPLIER;
+    private static final long MAX = PercentRateSampler.MAX;
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    public void startWithMaxRate() {
+        AdaptiveSampler sampler = new AdaptiveSampler(100, MIN, MAX, clock::get);
+        Assertions.assertEquals(MAX, sampler.getSamplingRate());
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(sampler.isSampling());
+        }
+    }
+
+    @Test
+    public void decreaseTowardTarget() {
+        AdaptiveSampler sampler = new AdaptiveSampler(100, MIN, MAX, clock::get);
+
+        // 1000 spans/sec at 100%
+        clock.addAndGet(1000);
+        sampler.update(1000, 0, 0);
+        Assertions.assertEquals(10 * PercentRateSampler.MULTIPLIER, sampler.getSamplingRate());
+
+        Assertions.assertEquals(100, countSampled(sampler, 1000));
+    }
+
+    @Test
+    public void increaseIsDamped() {
+        AdaptiveSampler sampler = new AdaptiveSampler(100, MIN, MAX, clock::get);
+        clock.addAndGet(1000);
+        sampler.update(10000, 0, 0);
+        Assertions.assertEquals(MIN, sampler.getSamplingRate());
+
+        // traffic dropped, at most twice per tick
+        clock.addAndGet(1000);
+        sampler.update(1, 0, 0);
+        Assertions.assertEquals(2 * MIN, sampler.getSamplingRate());
+
+        clock.addAndGet(1000);
+        sampler.update(0, 0, 0);
+        Assertions.assertEquals(4 * MIN, sampler.getSamplingRate());
+    }
+
+    @Test
+    public void backOffOnSenderPressure() {
+        AdaptiveSampler sampler = new AdaptiveSampler(100, MIN, MAX, clock::get);
+
+        clock.addAndGet(1000);
+        sampler.update(10, 0.9, 0);
+        Assertions.assertEquals(MAX / 2, sampler.getSamplingRate());
+
+        clock.addAndGet(1000);
+        sampler.update(10, 0, 5);
+        Assertions.assertEquals(MAX / 4, sampler.getSamplingRate());
+
+        // no new rejects
+        clock.addAndGet(1000);
+        sampler.update(10, 0, 5);
+        Assertions.assertEquals(MAX / 2, sampler.getSamplingRate());
+    }
+
+    @Test
+    public void floor() {
+        AdaptiveSampler sampler = new AdaptiveSampler(1, MIN, MAX, clock::get);
+        for (int i = 0; i < 20; i++) {
+            clock.addAndGet(1000);
+            sampler.update(1000000, 1, i);
+        }
+        Assertions.assertEquals(MIN, sampler.getSamplingRate());
+        Assertions.assertEquals(1, countSampled(sampler, 100));
+    }
+
+    @Test
+    public void factory() {
+        AdaptiveSamplerFactory factory = new AdaptiveSamplerFactory(new AdaptiveSamplerFactory.Config(100, 0, MAX * 2));
+        AdaptiveSampler sampler = (AdaptiveSampler) factory.createSampler();
+        Assertions.assertEquals(MAX, sampler.getSamplingRate());
+
+        factory = new AdaptiveSamplerFactory(new AdaptiveSamplerFactory.Config(100, MIN, 0));
+        Assertions.assertSame(FalseSampler.INSTANCE, factory.createSampler());
+    }
+
+    private int countSampled(AdaptiveSampler sampler, int count) {
+        int sampled = 0;
+        for (int i = 0; i < count; i++) {
+            if (sampler.isSampling()) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+}
@@ -41,6 +41,23 @@ public class ThroughputSamplerTest {
     }
 
 
+    @Test
+    public void isSampling_skippedId() {
+        IdGenerator atomicIdGenerator = new AtomicIdGenerator();
+        TraceSampler basicSampler = new BasicTraceSampler(atomicIdGenerator, TrueSampler.INSTANCE);
+        TraceSampler sampler = new RateLimitTraceSampler(1, 1, atomicIdGenerator, basicSampler);
+
+        Assertions.assertTrue(sampler.isNewSampled().isSampled());
+        TraceSampler.State skipped = sampler.isNewSampled();
+        Assertions.assertFalse(skipped.isSampled());
+        Assertions.assertEquals(AtomicIdGenerator.INITIAL_SKIPPED_ID, skipped.nextId());
+
+        Assertions.assertTrue(sampler.isContinueSampled().isSampled());
+        TraceSampler.State continueSkipped = sampler.isContinueSampled();
+        Assertions.assertFalse(continueSkipped.isSampled());
+        Assertions.assertEquals(AtomicIdGenerator.INITIAL_CONTINUED_SKIPPED_ID, continueSkipped.nextId());
+    }
+
     private TraceSampler newTraceSampler(int throughput) {
         IdGenerator atomicIdGenerator = new AtomicIdGenerator();
         Sampler trueSampler = TrueSampler.INSTANCE;
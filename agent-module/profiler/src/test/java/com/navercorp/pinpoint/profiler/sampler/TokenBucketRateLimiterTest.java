@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void startEmpty() {
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, clock::get);
+
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertFalse(limiter.tryAcquire());
+
+        clock.addAndGet(SECOND / 10);
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void burstUpToOneSecond() {
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, clock::get);
+
+        // idle long enough to fill the bucket more than once
+        clock.addAndGet(5 * SECOND);
+        Assertions.assertEquals(10, acquireAll(limiter));
+    }
+
+    @Test
+    public void nanoTimeOverflow() {
+        AtomicLong clock = new AtomicLong(Long.MAX_VALUE - SECOND / 2);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, clock::get);
+
+        Assertions.assertTrue(limiter.tryAcquire());
+        clock.addAndGet(2 * SECOND);
+        Assertions.assertEquals(10, acquireAll(limiter));
+    }
+
+    @Test
+    public void concurrentAcquire() throws InterruptedException {
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1000, clock::get);
+        clock.addAndGet(SECOND);
+
+        final int threads = 8;
+        final AtomicInteger acquired = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        if (limiter.tryAcquire()) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                    latch.countDown();
+                });
+            }
+            Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1000, acquired.get());
+    }
+
+    @Test
+    public void invalidPermits() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0));
+    }
+
+    private int acquireAll(TokenBucketRateLimiter limiter) {
+        int count = 0;
+        while (limiter.tryAcquire()) {
+            count++;
+        }
+        return count;
+    }
+}
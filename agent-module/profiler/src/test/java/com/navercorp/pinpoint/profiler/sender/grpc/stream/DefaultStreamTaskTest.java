@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sender.grpc.stream;
+
+import com.navercorp.pinpoint.grpc.stream.ClientCallStateStreamObserver;
+import com.navercorp.pinpoint.profiler.sender.grpc.ClientStreamingService;
+import com.navercorp.pinpoint.profiler.sender.grpc.MessageDispatcher;
+import com.navercorp.pinpoint.profiler.sender.grpc.StreamState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DefaultStreamTaskTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void pendingMessagesAreDispatchedFirstByTheNextTask() throws Exception {
+        BlockingQueue<Integer> queue = new ArrayBlockingQueue<>(10);
+        Deque<Integer> pending = new ArrayDeque<>();
+        List<Integer> dispatched = new CopyOnWriteArrayList<>();
+        MessageDispatcher<Integer, Integer> dispatcher = (stream, message) -> dispatched.add(message);
+        StreamState failState = mock(StreamState.class);
+        when(failState.isFailure()).thenReturn(true);
+
+        for (int i = 1; i <= 5; i++) {
+            queue.add(i);
+        }
+        ClientCallStateStreamObserver<Integer> brokenStream = mock(ClientCallStateStreamObserver.class);
+        when(brokenStream.isReady()).thenReturn(true, true, false);
+
+        CountDownLatch brokenLatch = new CountDownLatch(1);
+        newStreamTask(queue, dispatcher, failState, pending).newRunnable(brokenStream, brokenLatch).run();
+
+        assertThat(brokenLatch.getCount()).isZero();
+        assertThat(dispatched).containsExactly(1, 2);
+        assertThat(pending).containsExactly(3, 4, 5);
+        assertThat(queue).isEmpty();
+
+        queue.add(6);
+        ClientCallStateStreamObserver<Integer> stream = mock(ClientCallStateStreamObserver.class);
+        when(stream.isReady()).thenReturn(true);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread thread = new Thread(newStreamTask(queue, dispatcher, failState, pending).newRunnable(stream, latch));
+        thread.start();
+        try {
+            for (int i = 0; i < 100 && dispatched.size() < 6; i++) {
+                Thread.sleep(10);
+            }
+        } finally {
+            thread.interrupt();
+        }
+        assertThat(latch.await(3000, TimeUnit.MILLISECONDS)).isTrue();
+
+        assertThat(dispatched).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(pending).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private DefaultStreamTask<Integer, Integer, Object> newStreamTask(BlockingQueue<Integer> queue,
+                                                                     MessageDispatcher<Integer, Integer> dispatcher,
+                                                                     StreamState failState, Deque<Integer> pending) {
+        return new DefaultStreamTask<>("test", mock(ClientStreamingService.class), mock(StreamExecutorFactory.class),
+                queue, dispatcher, failState, 5, pending);
+    }
+}
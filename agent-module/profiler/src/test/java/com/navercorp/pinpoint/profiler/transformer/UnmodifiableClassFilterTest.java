@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.Arrays;
 
 
 public class UnmodifiableClassFilterTest {
@@ -39,6 +40,14 @@ public class UnmodifiableClassFilterTest {
     }
 
 
+    @Test
+    public void testDoFilter_AllowJdkClassName() {
+        ClassFileFilter filter = new UnmodifiableClassFilter(Arrays.asList("java.util.concurrent.ThreadPerTaskExecutor$TaskRunner"));
+
+        Assertions.assertSame(filter.accept(null, "java/util/concurrent/ThreadPerTaskExecutor$TaskRunner", null, null, null), ClassFileFilter.CONTINUE);
+        Assertions.assertSame(filter.accept(null, "java/util/concurrent/ThreadPerTaskExecutor$ThreadBoundFuture", null, null, null), ClassFileFilter.SKIP);
+    }
+
     @Test
     public void testDoFilter_ClassLoader() {
         ClassFileFilter filter = new UnmodifiableClassFilter();
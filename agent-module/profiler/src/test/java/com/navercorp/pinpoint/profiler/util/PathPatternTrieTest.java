@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.util;
+
+import com.navercorp.pinpoint.bootstrap.util.AntPathMatcher;
+import com.navercorp.pinpoint.bootstrap.util.EqualsPathMatcher;
+import com.navercorp.pinpoint.bootstrap.util.PathMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathPatternTrieTest {
+
+    private static final String[] PATTERNS = {
+            "/health",
+            "/api/users/*",
+            "/api/users/*/orders/**",
+            "/api/**/items",
+            "/api/orders/{id}",
+            "/static/**",
+            "/**/*.jsp",
+            "/baz/**",
+            "/v?/ping",
+            "/api/users/admin",
+            "/api/users/ad*",
+            "/**",
+    };
+
+    private static final String[] PATHS = {
+            "/", "", "/health", "/health/", "/api", "/api/users/1", "/api/users/admin", "/api/users/1/orders",
+            "/api/users/1/orders/2/items", "/api/items", "/api/a/b/items", "/api/orders/3", "/static/js/app.js",
+            "/index.jsp", "/a/b/c.jsp", "/baz", "/v1/ping", "/v10/ping", "//api//users/ 1", "api/users/1", "/unknown/path"
+    };
+
+    @Test
+    public void match_registration_order() {
+        PathPatternTrie<String> trie = PathPatternTrie.<String>newBuilder()
+                .add("/api/users/*", "users")
+                .add("/api/users/admin", "admin")
+                .add("/api/**", "api")
+                .build();
+
+        assertThat(trie.match("/api/users/admin")).isEqualTo("users");
+        assertThat(trie.match("/api/users")).isEqualTo("api");
+        assertThat(trie.match("/api")).isEqualTo("api");
+        assertThat(trie.match("/other")).isNull();
+        assertThat(trie.match(null)).isNull();
+    }
+
+    @Test
+    public void match_exact_before_wildcard() {
+        PathPatternTrie<String> trie = PathPatternTrie.<String>newBuilder()
+                .add("/api/users/admin", "admin")
+                .add("/api/users/*", "users")
+                .build();
+
+        assertThat(trie.match("/api/users/admin")).isEqualTo("admin");
+        assertThat(trie.match("/api/users/guest")).isEqualTo("users");
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void match_same_as_linear_scan() {
+        for (int i = 0; i < PATTERNS.length; i++) {
+            // rotate the rule order so every pattern gets the highest priority once
+            List<String> patterns = new ArrayList<>();
+            for (int j = 0; j < PATTERNS.length; j++) {
+                patterns.add(PATTERNS[(i + j) % PATTERNS.length]);
+            }
+
+            PathPatternTrie.Builder<String> builder = PathPatternTrie.newBuilder();
+            for (String pattern : patterns) {
+                builder.add(pattern, pattern);
+            }
+            PathPatternTrie<String> trie = builder.build();
+
+            for (String path : PATHS) {
+                assertThat(trie.match(path)).as("path:%s patterns:%s", path, patterns).isEqualTo(linearScan(patterns, path));
+            }
+        }
+    }
+
+    @Test
+    public void match_trailing_separator_same_as_linear_scan() {
+        final String[] patterns = {
+                "/a/*", "/a/*/", "/a/b*", "/a/{id}", "/a/?", "/a/**", "/a/**/*", "/a/*/c", "/*", "/**/*", "/a/b", "/a/b/"
+        };
+        final String[] paths = {
+                "/", "", "/a", "/a/", "/a//", "/a/ /", "/a/b", "/a/b/", "/a/b/c", "/a/b/c/", "a/", "/b/"
+        };
+        for (String pattern : patterns) {
+            final List<String> single = Collections.singletonList(pattern);
+            PathPatternTrie<String> trie = PathPatternTrie.<String>newBuilder()
+                    .add(pattern, pattern)
+                    .build();
+            for (String path : paths) {
+                assertThat(trie.match(path)).as("path:%s pattern:%s", path, pattern).isEqualTo(linearScan(single, path));
+            }
+        }
+    }
+
+    @Test
+    public void tokenize() {
+        assertThat(PathPatternTrie.tokenize("/a/b")).containsExactly("a", "b");
+        assertThat(PathPatternTrie.tokenize("//a/ b /")).containsExactly("a", "b");
+        assertThat(PathPatternTrie.tokenize("/")).isEmpty();
+        assertThat(PathPatternTrie.tokenize("")).isEmpty();
+    }
+
+    private String linearScan(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            PathMatcher matcher = AntPathMatcher.isAntStylePattern(pattern) ? new AntPathMatcher(pattern) : new EqualsPathMatcher(pattern);
+            if (matcher.isMatched(path)) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+}
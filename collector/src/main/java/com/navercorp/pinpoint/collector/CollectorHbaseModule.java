@@ -6,6 +6,9 @@ import com.navercorp.pinpoint.collector.config.SchedulerConfiguration;
 import com.navercorp.pinpoint.collector.dao.hbase.encode.ApplicationIndexRowKeyEncoderV1;
 import com.navercorp.pinpoint.collector.dao.hbase.encode.ApplicationIndexRowKeyEncoderV2;
 import com.navercorp.pinpoint.collector.util.DurabilityApplier;
+import com.navercorp.pinpoint.common.hbase.async.AsyncPollerOption;
+import com.navercorp.pinpoint.common.hbase.async.BatchingHbasePutWriter;
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriter;
 import com.navercorp.pinpoint.common.hbase.config.DistributorConfiguration;
 import com.navercorp.pinpoint.common.hbase.config.HbaseNamespaceConfiguration;
 import com.navercorp.pinpoint.common.hbase.config.HbasePutWriterConfiguration;
@@ -20,6 +23,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -71,4 +75,33 @@ public class CollectorHbaseModule {
         return new DurabilityApplier(spanDurability);
     }
 
+    @ConfigurationProperties(prefix = "collector.span.batch")
+    @Bean
+    public AsyncPollerOption spanBatchOption() {
+        return new AsyncPollerOption();
+    }
+
+    @Bean
+    public HbasePutWriter spanBatchPutWriter(@Qualifier("spanPutWriter") HbasePutWriter putWriter,
+                                             @Value("${collector.span.batch.enable:false}") boolean enable,
+                                             @Qualifier("spanBatchOption") AsyncPollerOption option) {
+        return newBatchPutWriter("spanBatch-", putWriter, enable, option);
+    }
+
+    @Bean
+    public HbasePutWriter traceIndexBatchPutWriter(HbasePutWriter putWriter,
+                                                   @Value("${collector.span.batch.enable:false}") boolean enable,
+                                                   @Qualifier("spanBatchOption") AsyncPollerOption option) {
+        return newBatchPutWriter("traceIndexBatch-", putWriter, enable, option);
+    }
+
+    private HbasePutWriter newBatchPutWriter(String name, HbasePutWriter putWriter, boolean enable, AsyncPollerOption option) {
+        if (!enable) {
+            return putWriter;
+        }
+        HbasePutWriter batchPutWriter = new BatchingHbasePutWriter(name, putWriter, option);
+        logger.info("BatchPutWriter {}", batchPutWriter);
+        return batchPutWriter;
+    }
+
 }
@@ -21,6 +21,6 @@ package com.navercorp.pinpoint.collector.dao;
  * @author netspider
  * 
  */
-public interface HostApplicationMapDao {
+public interface HostApplicationMapDao extends CachedStatisticsDao {
     void insert(String host, String bindApplicationName, short bindServiceType, String parentApplicationName, short parentServiceType);
 }
@@ -18,8 +18,8 @@ package com.navercorp.pinpoint.collector.dao.hbase;
 
 import com.navercorp.pinpoint.collector.dao.ApplicationTraceIndexDao;
 import com.navercorp.pinpoint.collector.util.CollectorUtils;
-import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
 import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.ThreadLocalBufferPool;
 import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.hbase.HbaseTableConstants;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
@@ -34,6 +34,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 
@@ -56,8 +57,10 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
 
     private final RowKeyEncoder<SpanBo> applicationIndexRowKeyEncoder;
 
+    private final ThreadLocalBufferPool indexValuePool = new ThreadLocalBufferPool(10 + HbaseTableConstants.AGENT_ID_MAX_LEN);
+    private final ThreadLocalBufferPool metaDataPool = new ThreadLocalBufferPool(64);
 
-    public HbaseApplicationTraceIndexDao(HbasePutWriter putWriter,
+    public HbaseApplicationTraceIndexDao(@Qualifier("traceIndexBatchPutWriter") HbasePutWriter putWriter,
                                          TableNameProvider tableNameProvider,
                                          @Qualifier("applicationIndexRowKeyEncoder") RowKeyEncoder<SpanBo> applicationIndexRowKeyEncoder) {
         this.putWriter = Objects.requireNonNull(putWriter, "putWriter");
@@ -86,29 +89,30 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
 
         final byte[] qualifier = SpanUtils.getVarTransactionId(span);
 
-        final byte[] indexValue = buildIndexValue(span);
-        put.addColumn(INDEX.getName(), qualifier, acceptedTime, indexValue);
+        // addColumn copies the pooled buffers into the KeyValue
+        final Buffer indexValue = buildIndexValue(span);
+        put.addColumn(INDEX.getName(), ByteBuffer.wrap(qualifier), acceptedTime, indexValue.wrapByteBuffer());
 
-        final byte[] metaDataValue = buildMetaData(span);
-        put.addColumn(META.getName(), qualifier, metaDataValue);
+        final Buffer metaDataValue = buildMetaData(span);
+        put.addColumn(META.getName(), ByteBuffer.wrap(qualifier), put.getTimestamp(), metaDataValue.wrapByteBuffer());
 
         final TableName applicationTraceIndexTableName = tableNameProvider.getTableName(INDEX.getTable());
         putWriter.put(applicationTraceIndexTableName, put);
     }
 
-    private byte[] buildIndexValue(SpanBo span) {
-        final Buffer buffer = new AutomaticBuffer(10 + HbaseTableConstants.AGENT_ID_MAX_LEN);
+    private Buffer buildIndexValue(SpanBo span) {
+        final Buffer buffer = indexValuePool.acquire();
         buffer.putVInt(span.getElapsed());
         buffer.putSVInt(span.getErrCode());
         buffer.putPrefixedString(span.getAgentId());
-        return buffer.getBuffer();
+        return buffer;
     }
 
     /**
      * DotMetaData.Builder.read();
      */
-    private byte[] buildMetaData(SpanBo span) {
-        Buffer buffer = new AutomaticBuffer(64);
+    private Buffer buildMetaData(SpanBo span) {
+        final Buffer buffer = metaDataPool.acquire();
         buffer.putByte((byte) 0);
         buffer.putLong(span.getSpanId());
         buffer.putLong(span.getStartTime());
@@ -120,7 +124,7 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         buffer.putPrefixedString(span.getEndPoint());
         buffer.putPrefixedString(span.getAgentName());
 
-        return buffer.getBuffer();
+        return buffer;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase;
+
+import com.navercorp.pinpoint.collector.dao.HeatMapDao;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.BulkWriter;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.ColumnName;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.HeatMapColumnName;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.HeatMapRowKey;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.RowKey;
+import com.navercorp.pinpoint.common.server.util.HeatMapStatisticsUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.Objects;
+
+/**
+ * Save scatter chart counters of an application so that the web heatmap
+ * does not need to scan every dot of the ApplicationTraceIndex.
+ */
+@Repository
+public class HbaseHeatMapDao implements HeatMapDao {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final boolean enable;
+    private final BulkWriter bulkWriter;
+
+    public HbaseHeatMapDao(@Value("${collector.heatmap.enable:false}") boolean enable,
+                           @Qualifier("heatMapBulkWriter") BulkWriter bulkWriter) {
+        this.enable = enable;
+        this.bulkWriter = Objects.requireNonNull(bulkWriter, "bulkWriter");
+        logger.info("HeatMap statistics enable:{}", enable);
+    }
+
+    @Override
+    public void update(String applicationName, long acceptedTime, int elapsed, boolean isError) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        if (!enable) {
+            return;
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("[HeatMap] {} acceptedTime:{} elapsed:{} isError:{}", applicationName, acceptedTime, elapsed, isError);
+        }
+
+        final long rowTimeSlot = HeatMapStatisticsUtils.getRowTimeSlot(acceptedTime);
+        final RowKey rowKey = new HeatMapRowKey(applicationName, rowTimeSlot);
+
+        final short timeSlot = HeatMapStatisticsUtils.getTimeSlot(acceptedTime);
+        final short elapsedSlot = HeatMapStatisticsUtils.getElapsedSlot(elapsed, isError);
+        final ColumnName columnName = new HeatMapColumnName(timeSlot, elapsedSlot);
+        this.bulkWriter.increment(rowKey, columnName);
+    }
+
+    @Override
+    public void flushLink() {
+        this.bulkWriter.flushLink();
+    }
+
+    @Override
+    public void flushAvgMax() {
+        this.bulkWriter.flushAvgMax();
+    }
+}
@@ -17,7 +17,7 @@
 package com.navercorp.pinpoint.collector.dao.hbase;
 
 import com.navercorp.pinpoint.collector.dao.HostApplicationMapDao;
-import com.navercorp.pinpoint.collector.util.AtomicLongUpdateMap;
+import com.navercorp.pinpoint.collector.util.TimeSlotKeyBuffer;
 import com.navercorp.pinpoint.common.annotations.VisibleForTesting;
 import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
 import com.navercorp.pinpoint.common.buffer.Buffer;
@@ -35,8 +35,11 @@ import org.apache.hadoop.hbase.client.Put;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -59,20 +62,22 @@ public class HbaseHostApplicationMapDao implements HostApplicationMapDao {
 
     private final AbstractRowKeyDistributor rowKeyDistributor;
 
-    // FIXME should modify to save a cachekey at each 30~50 seconds instead of saving at each time
-    private final AtomicLongUpdateMap<CacheKey> updater = new AtomicLongUpdateMap<>();
+    // keys are written once per slot on flushLink() instead of at each insert
+    private final TimeSlotKeyBuffer<CacheKey> writeBuffer;
 
 
     public HbaseHostApplicationMapDao(HbaseOperations hbaseTemplate,
                                       TableNameProvider tableNameProvider,
                                       @Qualifier("acceptApplicationRowKeyDistributor") AbstractRowKeyDistributor rowKeyDistributor,
                                       AcceptedTimeService acceptedTimeService,
-                                      TimeSlot timeSlot) {
+                                      TimeSlot timeSlot,
+                                      @Value("${collector.cachedStatDao.hostApplicationMap.limit:100000}") int limitSize) {
         this.hbaseTemplate = Objects.requireNonNull(hbaseTemplate, "hbaseTemplate");
         this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
         this.rowKeyDistributor = Objects.requireNonNull(rowKeyDistributor, "rowKeyDistributor");
         this.acceptedTimeService = Objects.requireNonNull(acceptedTimeService, "acceptedTimeService");
         this.timeSlot = Objects.requireNonNull(timeSlot, "timeSlot");
+        this.writeBuffer = new TimeSlotKeyBuffer<>(limitSize);
     }
 
 
@@ -87,12 +92,33 @@ public class HbaseHostApplicationMapDao implements HostApplicationMapDao {
         final long statisticsRowSlot = getSlotTime();
 
         final CacheKey cacheKey = new CacheKey(host, bindApplicationName, bindServiceType, parentApplicationName, parentServiceType);
-        final boolean needUpdate = updater.update(cacheKey, statisticsRowSlot);
-        if (needUpdate) {
-            insertHostVer2(host, bindApplicationName, bindServiceType, statisticsRowSlot, parentApplicationName, parentServiceType);
+        if (!writeBuffer.offer(cacheKey, statisticsRowSlot)) {
+            // buffer is full, write through
+            insertHostVer2(cacheKey, statisticsRowSlot);
         }
     }
 
+    @Override
+    public void flushLink() {
+        final List<TimeSlotKeyBuffer.SlotKey<CacheKey>> slotKeys = writeBuffer.drain();
+        if (slotKeys.isEmpty()) {
+            return;
+        }
+        final List<Put> puts = new ArrayList<>(slotKeys.size());
+        for (TimeSlotKeyBuffer.SlotKey<CacheKey> slotKey : slotKeys) {
+            puts.add(newPut(slotKey.getKey(), slotKey.getSlot()));
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("flush HostApplicationMap size:{}", puts.size());
+        }
+        final TableName hostApplicationMapTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        this.hbaseTemplate.put(hostApplicationMapTableName, puts);
+    }
+
+    @Override
+    public void flushAvgMax() {
+    }
+
 
     private long getSlotTime() {
         final long acceptedTime = acceptedTimeService.getAcceptedTime();
@@ -100,7 +126,19 @@ public class HbaseHostApplicationMapDao implements HostApplicationMapDao {
     }
 
 
-    private void insertHostVer2(String host, String bindApplicationName, short bindServiceType, long statisticsRowSlot, String parentApplicationName, short parentServiceType) {
+    private void insertHostVer2(CacheKey cacheKey, long statisticsRowSlot) {
+        Put put = newPut(cacheKey, statisticsRowSlot);
+
+        TableName hostApplicationMapTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        this.hbaseTemplate.put(hostApplicationMapTableName, put);
+    }
+
+    private Put newPut(CacheKey cacheKey, long statisticsRowSlot) {
+        final String host = cacheKey.host;
+        final String bindApplicationName = cacheKey.applicationName;
+        final short bindServiceType = cacheKey.serviceType;
+        final String parentApplicationName = cacheKey.parentApplicationName;
+        final short parentServiceType = cacheKey.parentServiceType;
         if (logger.isDebugEnabled()) {
             logger.debug("Insert host-application map. host={}, bindApplicationName={}, bindServiceType={}, parentApplicationName={}, parentServiceType={}",
                     host, bindApplicationName, bindServiceType, parentApplicationName, parentServiceType);
@@ -113,11 +151,7 @@ public class HbaseHostApplicationMapDao implements HostApplicationMapDao {
 
         byte[] columnName = createColumnName(host, bindApplicationName, bindServiceType);
 
-        TableName hostApplicationMapTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
-
-        Put put = Puts.put(rowKey, DESCRIPTOR.getName(), columnName, null);
-        this.hbaseTemplate.put(hostApplicationMapTableName, put);
-
+        return Puts.put(rowKey, DESCRIPTOR.getName(), columnName, null);
     }
 
     private byte[] createColumnName(String host, String bindApplicationName, short bindServiceType) {
@@ -65,7 +65,7 @@ public class HbaseTraceDaoV2 implements TraceDao {
 
     private final DurabilityApplier durabilityApplier;
 
-    public HbaseTraceDaoV2(@Qualifier("spanPutWriter")
+    public HbaseTraceDaoV2(@Qualifier("spanBatchPutWriter")
                            HbasePutWriter putWriter,
                            TableNameProvider tableNameProvider,
                            @Qualifier("traceRowKeyEncoderV2") RowKeyEncoder<TransactionId> rowKeyEncoder,
@@ -34,17 +34,28 @@ public class BulkConfiguration {
 
     private final int selfLimitSize;
 
+    private final int heatMapLimitSize;
+
     private final boolean enableBulk;
 
+    private final int stripeCount;
+
+    private final boolean enableRollup;
 
     public BulkConfiguration(@Value("${collector.cachedStatDao.caller.limit:-1}") int callerLimitSize,
                              @Value("${collector.cachedStatDao.callee.limit:-1}") int calleeLimitSize,
                              @Value("${collector.cachedStatDao.self.limit:-1}") int selfLimitSize,
-                             @Value("${collector.cachedStatDao.bulk.enable:true}") boolean enableBulk) {
+                             @Value("${collector.cachedStatDao.heatmap.limit:-1}") int heatMapLimitSize,
+                             @Value("${collector.cachedStatDao.bulk.enable:true}") boolean enableBulk,
+                             @Value("${collector.cachedStatDao.bulk.stripe.count:0}") int stripeCount,
+                             @Value("${collector.cachedStatDao.rollup.enable:false}") boolean enableRollup) {
         this.callerLimitSize = callerLimitSize;
         this.calleeLimitSize = calleeLimitSize;
         this.selfLimitSize = selfLimitSize;
+        this.heatMapLimitSize = heatMapLimitSize;
         this.enableBulk = enableBulk;
+        this.stripeCount = stripeCount;
+        this.enableRollup = enableRollup;
     }
 
     public int getCallerLimitSize() {
@@ -59,10 +70,26 @@ public class BulkConfiguration {
         return selfLimitSize;
     }
 
+    public int getHeatMapLimitSize() {
+        return heatMapLimitSize;
+    }
+
     public boolean enableBulk() {
         return enableBulk;
     }
 
+    public int getStripeCount() {
+        return stripeCount;
+    }
+
+    public boolean enableStripe() {
+        return stripeCount > 0;
+    }
+
+    public boolean enableRollup() {
+        return enableRollup;
+    }
+
     @PostConstruct
     public void log() {
         logger.info("{}", this);
@@ -74,7 +101,10 @@ public class BulkConfiguration {
                 "callerLimitSize=" + callerLimitSize +
                 ", calleeLimitSize=" + calleeLimitSize +
                 ", selfLimitSize=" + selfLimitSize +
+                ", heatMapLimitSize=" + heatMapLimitSize +
                 ", enableBulk=" + enableBulk +
+                ", stripeCount=" + stripeCount +
+                ", enableRollup=" + enableRollup +
                 '}';
     }
 }
@@ -1,5 +1,6 @@
 package com.navercorp.pinpoint.collector.dao.hbase.statistics;
 
+import com.navercorp.pinpoint.collector.dao.hbase.HbaseHeatMapDao;
 import com.navercorp.pinpoint.collector.dao.hbase.HbaseMapResponseTimeDao;
 import com.navercorp.pinpoint.collector.dao.hbase.HbaseMapStatisticsCalleeDao;
 import com.navercorp.pinpoint.collector.dao.hbase.HbaseMapStatisticsCallerDao;
@@ -8,12 +9,16 @@ import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
 import com.navercorp.pinpoint.common.hbase.async.HbaseAsyncTemplate;
+import com.navercorp.pinpoint.common.server.util.MapStatisticsRollup;
 import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * @author emeroad
@@ -37,15 +42,29 @@ public class BulkFactory {
     private BulkIncrementer newBulkIncrementer(String reporterName, HbaseColumnFamily hbaseColumnFamily, int limitSize) {
         BulkOperationReporter reporter = bulkOperationReporterFactory.getBulkOperationReporter(reporterName);
         RowKeyMerge merge = new RowKeyMerge(hbaseColumnFamily);
-        BulkIncrementer bulkIncrementer = new DefaultBulkIncrementer(merge);
+        BulkIncrementer bulkIncrementer = newBulkIncrementer(merge);
 
         return bulkIncrementerFactory.wrap(bulkIncrementer, limitSize, reporter);
     }
 
 
+    private BulkIncrementer newBulkIncrementer(RowKeyMerge merge) {
+        if (bulkConfiguration.enableStripe()) {
+            return new StripedBulkIncrementer(merge, bulkConfiguration.getStripeCount());
+        }
+        return new DefaultBulkIncrementer(merge);
+    }
+
+    private BulkUpdater newBulkUpdater() {
+        if (bulkConfiguration.enableStripe()) {
+            return new StripedBulkUpdater(bulkConfiguration.getStripeCount());
+        }
+        return new DefaultBulkUpdater();
+    }
+
     private BulkUpdater getBulkUpdater(String reporterName) {
         BulkOperationReporter reporter = bulkOperationReporterFactory.getBulkOperationReporter(reporterName);
-        BulkUpdater bulkUpdater = new DefaultBulkUpdater();
+        BulkUpdater bulkUpdater = newBulkUpdater();
         return bulkIncrementerFactory.wrap(bulkUpdater, bulkConfiguration.getCalleeLimitSize(), reporter);
     }
 
@@ -65,6 +84,33 @@ public class BulkFactory {
         }
     }
 
+    private BulkWriter newRollupBulkWriter(BulkWriter bulkWriter,
+                                           String name,
+                                           HbaseOperations hbaseTemplate,
+                                           HbaseAsyncTemplate asyncTemplate,
+                                           Function<MapStatisticsRollup, HbaseColumnFamily> descriptor,
+                                           TableNameProvider tableNameProvider,
+                                           RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix,
+                                           int limitSize) {
+        if (!bulkConfiguration.enableRollup()) {
+            return bulkWriter;
+        }
+        List<RollupBulkWriter.Rollup> rollups = new ArrayList<>();
+        for (MapStatisticsRollup rollup : MapStatisticsRollup.values()) {
+            if (rollup == MapStatisticsRollup.ONE_MINUTE) {
+                continue;
+            }
+            final String rollupName = name + rollup.name();
+            final HbaseColumnFamily columnFamily = descriptor.apply(rollup);
+            BulkIncrementer bulkIncrementer = newBulkIncrementer(rollupName + "BulkIncrementerReporter", columnFamily, limitSize);
+            BulkUpdater bulkUpdater = getBulkUpdater(rollupName + "BulkUpdaterReporter");
+            BulkWriter rollupWriter = newBulkWriter(rollupName + "-writer", hbaseTemplate, asyncTemplate, columnFamily,
+                    tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
+            rollups.add(new RollupBulkWriter.Rollup(rollup.getTimeSlot(), rollupWriter));
+        }
+        return new RollupBulkWriter(bulkWriter, rollups);
+    }
+
     @Bean
     public BulkIncrementer callerBulkIncrementer() {
         String reporterName = "callerBulkIncrementerReporter";
@@ -89,7 +135,9 @@ public class BulkFactory {
                                        @Qualifier("callerBulkIncrementer") BulkIncrementer bulkIncrementer,
                                        @Qualifier("callerBulkUpdater") BulkUpdater bulkUpdater) {
         String loggerName = newBulkWriterName(HbaseMapStatisticsCallerDao.class.getName());
-        return newBulkWriter(loggerName, hbaseTemplate, asyncTemplate, HbaseColumnFamily.MAP_STATISTICS_CALLEE_VER2_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
+        BulkWriter bulkWriter = newBulkWriter(loggerName, hbaseTemplate, asyncTemplate, HbaseColumnFamily.MAP_STATISTICS_CALLEE_VER2_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
+        return newRollupBulkWriter(bulkWriter, "caller", hbaseTemplate, asyncTemplate, MapStatisticsRollup::getCalleeStatMap,
+                tableNameProvider, rowKeyDistributorByHashPrefix, bulkConfiguration.getCallerLimitSize());
     }
 
 
@@ -117,7 +165,9 @@ public class BulkFactory {
                                        @Qualifier("calleeBulkIncrementer") BulkIncrementer bulkIncrementer,
                                        @Qualifier("calleeBulkUpdater") BulkUpdater bulkUpdater) {
         String loggerName = newBulkWriterName(HbaseMapStatisticsCalleeDao.class.getName());
-        return newBulkWriter(loggerName, hbaseTemplate, asyncTemplate, HbaseColumnFamily.MAP_STATISTICS_CALLER_VER2_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
+        BulkWriter bulkWriter = newBulkWriter(loggerName, hbaseTemplate, asyncTemplate, HbaseColumnFamily.MAP_STATISTICS_CALLER_VER2_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
+        return newRollupBulkWriter(bulkWriter, "callee", hbaseTemplate, asyncTemplate, MapStatisticsRollup::getCallerStatMap,
+                tableNameProvider, rowKeyDistributorByHashPrefix, bulkConfiguration.getCalleeLimitSize());
     }
 
     @Bean
@@ -143,7 +193,35 @@ public class BulkFactory {
                                      @Qualifier("selfBulkIncrementer") BulkIncrementer bulkIncrementer,
                                      @Qualifier("selfBulkUpdater") BulkUpdater bulkUpdater) {
         String loggerName = newBulkWriterName(HbaseMapResponseTimeDao.class.getName());
-        return newBulkWriter(loggerName, hbaseTemplate, asyncTemplate, HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
+        BulkWriter bulkWriter = newBulkWriter(loggerName, hbaseTemplate, asyncTemplate, HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
+        return newRollupBulkWriter(bulkWriter, "self", hbaseTemplate, asyncTemplate, MapStatisticsRollup::getSelfStatMap,
+                tableNameProvider, rowKeyDistributorByHashPrefix, bulkConfiguration.getSelfLimitSize());
+    }
+
+    @Bean
+    public BulkIncrementer heatMapBulkIncrementer() {
+        String reporterName = "heatMapBulkIncrementerReporter";
+        HbaseColumnFamily hbaseColumnFamily = HbaseColumnFamily.APPLICATION_HEATMAP_COUNTER;
+        int limitSize = bulkConfiguration.getHeatMapLimitSize();
+
+        return newBulkIncrementer(reporterName, hbaseColumnFamily, limitSize);
+    }
+
+    @Bean
+    public BulkUpdater heatMapBulkUpdater() {
+        String reporterName = "heatMapBulkUpdaterReporter";
+        return getBulkUpdater(reporterName);
+    }
+
+    @Bean
+    public BulkWriter heatMapBulkWriter(HbaseOperations hbaseTemplate,
+                                        HbaseAsyncTemplate asyncTemplate,
+                                        TableNameProvider tableNameProvider,
+                                        @Qualifier("statisticsSelfRowKeyDistributor") RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix,
+                                        @Qualifier("heatMapBulkIncrementer") BulkIncrementer bulkIncrementer,
+                                        @Qualifier("heatMapBulkUpdater") BulkUpdater bulkUpdater) {
+        String loggerName = newBulkWriterName(HbaseHeatMapDao.class.getName());
+        return newBulkWriter(loggerName, hbaseTemplate, asyncTemplate, HbaseColumnFamily.APPLICATION_HEATMAP_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
     }
 
     private String newBulkWriterName(String className) {
@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.collector.dao.hbase.statistics;
 
 import com.navercorp.pinpoint.common.server.util.ApplicationMapStatisticsUtils;
+import com.navercorp.pinpoint.common.server.util.TimeSlot;
 
 import java.util.Objects;
 
@@ -40,6 +41,17 @@ public class CallRowKey implements RowKey {
         return ApplicationMapStatisticsUtils.makeRowKey(callApplicationName, callServiceType, rowTimeSlot);
     }
 
+    /**
+     * Returns the row key of the coarser slot that contains this row.
+     */
+    public CallRowKey rollup(TimeSlot timeSlot) {
+        final long slot = timeSlot.getTimeSlot(rowTimeSlot);
+        if (slot == rowTimeSlot) {
+            return this;
+        }
+        return new CallRowKey(callApplicationName, callServiceType, slot);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import com.navercorp.pinpoint.common.server.util.HeatMapStatisticsUtils;
+
+public class HeatMapColumnName implements ColumnName {
+
+    private final short timeSlot;
+    private final short elapsedSlot;
+
+    private long callCount;
+
+    public HeatMapColumnName(short timeSlot, short elapsedSlot) {
+        this.timeSlot = timeSlot;
+        this.elapsedSlot = elapsedSlot;
+    }
+
+    @Override
+    public byte[] getColumnName() {
+        return HeatMapStatisticsUtils.makeColumnName(timeSlot, elapsedSlot);
+    }
+
+    @Override
+    public long getCallCount() {
+        return callCount;
+    }
+
+    @Override
+    public void setCallCount(long callCount) {
+        this.callCount = callCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        HeatMapColumnName that = (HeatMapColumnName) o;
+
+        if (timeSlot != that.timeSlot) return false;
+        return elapsedSlot == that.elapsedSlot;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = timeSlot;
+        result = 31 * result + elapsedSlot;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "HeatMapColumnName{" +
+                "timeSlot=" + timeSlot +
+                ", elapsedSlot=" + elapsedSlot +
+                ", callCount=" + callCount +
+                '}';
+    }
+}
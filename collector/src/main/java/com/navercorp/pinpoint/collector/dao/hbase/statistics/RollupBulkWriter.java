@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import com.navercorp.pinpoint.common.server.util.TimeSlot;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes every update to the delegate and again to the row of each coarser slot,
+ * so that the coarser column families hold pre-aggregated statistics.
+ */
+public class RollupBulkWriter implements BulkWriter {
+
+    private final BulkWriter delegate;
+    private final Rollup[] rollups;
+
+    public RollupBulkWriter(BulkWriter delegate, List<Rollup> rollups) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        Objects.requireNonNull(rollups, "rollups");
+        this.rollups = rollups.toArray(new Rollup[0]);
+    }
+
+    @Override
+    public void increment(RowKey rowKey, ColumnName columnName) {
+        this.delegate.increment(rowKey, columnName);
+        if (rowKey instanceof CallRowKey callRowKey) {
+            for (Rollup rollup : rollups) {
+                rollup.writer.increment(callRowKey.rollup(rollup.timeSlot), columnName);
+            }
+        }
+    }
+
+    @Override
+    public void increment(RowKey rowKey, ColumnName columnName, long addition) {
+        this.delegate.increment(rowKey, columnName, addition);
+        if (rowKey instanceof CallRowKey callRowKey) {
+            for (Rollup rollup : rollups) {
+                rollup.writer.increment(callRowKey.rollup(rollup.timeSlot), columnName, addition);
+            }
+        }
+    }
+
+    @Override
+    public void updateMax(RowKey rowKey, ColumnName columnName, long value) {
+        this.delegate.updateMax(rowKey, columnName, value);
+        if (rowKey instanceof CallRowKey callRowKey) {
+            for (Rollup rollup : rollups) {
+                rollup.writer.updateMax(callRowKey.rollup(rollup.timeSlot), columnName, value);
+            }
+        }
+    }
+
+    @Override
+    public void flushLink() {
+        // the writers share the column names, flush them one after another
+        this.delegate.flushLink();
+        for (Rollup rollup : rollups) {
+            rollup.writer.flushLink();
+        }
+    }
+
+    @Override
+    public void flushAvgMax() {
+        this.delegate.flushAvgMax();
+        for (Rollup rollup : rollups) {
+            rollup.writer.flushAvgMax();
+        }
+    }
+
+    public static class Rollup {
+        private final TimeSlot timeSlot;
+        private final BulkWriter writer;
+
+        public Rollup(TimeSlot timeSlot, BulkWriter writer) {
+            this.timeSlot = Objects.requireNonNull(timeSlot, "timeSlot");
+            this.writer = Objects.requireNonNull(writer, "writer");
+        }
+    }
+}
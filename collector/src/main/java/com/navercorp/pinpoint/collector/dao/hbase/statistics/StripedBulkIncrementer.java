@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link BulkIncrementer} backed by {@link StripedRowInfoCounter}.
+ * Increments of an already known row/column do not allocate and do not contend with other writer threads.
+ */
+class StripedBulkIncrementer implements BulkIncrementer {
+
+    private final RowKeyMerge rowKeyMerge;
+
+    private final StripedRowInfoCounter counter;
+
+    StripedBulkIncrementer(RowKeyMerge rowKeyMerge, int stripeCount) {
+        this.rowKeyMerge = Objects.requireNonNull(rowKeyMerge, "rowKeyMerge");
+        this.counter = new StripedRowInfoCounter(stripeCount);
+    }
+
+    @Override
+    public void increment(TableName tableName, RowKey rowKey, ColumnName columnName) {
+        increment(tableName, rowKey, columnName, 1L);
+    }
+
+    @Override
+    public void increment(TableName tableName, RowKey rowKey, ColumnName columnName, long addition) {
+        counter.accumulate(tableName, rowKey, columnName, addition, Long::sum);
+    }
+
+    @Override
+    public Map<TableName, List<Increment>> getIncrements(RowKeyDistributorByHashPrefix rowKeyDistributor) {
+        final Map<RowInfo, Long> snapshot = counter.drain(Long::sum);
+        // an increment by 0 is an empty HBase call
+        snapshot.values().removeIf(value -> value == 0);
+        return rowKeyMerge.createBulkIncrement(snapshot, rowKeyDistributor);
+    }
+
+    @Override
+    public int getSize() {
+        return counter.size();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import org.apache.hadoop.hbase.TableName;
+
+import java.util.Map;
+
+/**
+ * {@link BulkUpdater} backed by {@link StripedRowInfoCounter}.
+ */
+class StripedBulkUpdater implements BulkUpdater {
+
+    private final StripedRowInfoCounter max;
+
+    StripedBulkUpdater(int stripeCount) {
+        this.max = new StripedRowInfoCounter(stripeCount);
+    }
+
+    @Override
+    public void updateMax(TableName tableName, RowKey rowKey, ColumnName columnName, long value) {
+        max.accumulate(tableName, rowKey, columnName, value, Long::max);
+    }
+
+    @Override
+    public Map<RowInfo, Long> getMaxUpdate() {
+        return max.drain(Long::max);
+    }
+
+    @Override
+    public int getSize() {
+        return max.size();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import org.apache.hadoop.hbase.TableName;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * {@link RowInfo} counter split into per-thread stripes.
+ * <p>
+ * A writer thread always lands on the same stripe, so its counters are updated without contention.
+ * {@link RowInfo} is interned per stripe : existing counters are looked up with a thread local key
+ * and a {@link DefaultRowInfo} is only created the first time a row/column is seen.
+ * Stripes are merged when {@link #drain(LongBinaryOperator)} is called by the flush thread.
+ */
+final class StripedRowInfoCounter {
+
+    // marks a counter that has been drained, writers must create a new one
+    private static final long RETIRED = Long.MIN_VALUE;
+    // marks a counter that has not been accumulated yet
+    private static final long EMPTY = Long.MIN_VALUE + 1;
+
+    private final Stripe[] stripes;
+    private final ThreadLocal<LookupKey> lookupKey = ThreadLocal.withInitial(LookupKey::new);
+
+    StripedRowInfoCounter(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("stripeCount must be greater than 0");
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    void accumulate(TableName tableName, RowKey rowKey, ColumnName columnName, long value, LongBinaryOperator operator) {
+        final ConcurrentMap<RowInfo, Counter> counters = stripe().counters;
+        final LookupKey key = lookupKey.get().set(tableName, rowKey, columnName);
+        try {
+            while (true) {
+                Counter counter = counters.get(key);
+                if (counter == null) {
+                    final RowInfo rowInfo = new DefaultRowInfo(tableName, rowKey, columnName);
+                    final Counter newCounter = new Counter(rowInfo);
+                    counter = counters.putIfAbsent(rowInfo, newCounter);
+                    if (counter == null) {
+                        counter = newCounter;
+                    }
+                }
+                if (counter.accumulate(value, operator)) {
+                    return;
+                }
+                // drained by the flush thread in the meantime
+                counters.remove(counter.rowInfo, counter);
+            }
+        } finally {
+            key.clear();
+        }
+    }
+
+    Map<RowInfo, Long> drain(LongBinaryOperator merger) {
+        final Map<RowInfo, Long> snapshot = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            final ConcurrentMap<RowInfo, Counter> counters = stripe.counters;
+            for (Counter counter : counters.values()) {
+                final long value = counter.retire();
+                counters.remove(counter.rowInfo, counter);
+                if (value == RETIRED || value == EMPTY) {
+                    // created, but drained before the writer accumulated
+                    continue;
+                }
+                snapshot.merge(counter.rowInfo, value, merger::applyAsLong);
+            }
+        }
+        return snapshot;
+    }
+
+    int size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.counters.mappingCount();
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private Stripe stripe() {
+        final Stripe[] stripes = this.stripes;
+        return stripes[(int) (Thread.currentThread().getId() % stripes.length)];
+    }
+
+    private static class Stripe {
+        private final ConcurrentHashMap<RowInfo, Counter> counters = new ConcurrentHashMap<>();
+    }
+
+    private static class Counter {
+        private final RowInfo rowInfo;
+        private final AtomicLong value = new AtomicLong(EMPTY);
+
+        private Counter(RowInfo rowInfo) {
+            this.rowInfo = rowInfo;
+        }
+
+        private boolean accumulate(long x, LongBinaryOperator operator) {
+            while (true) {
+                final long current = value.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+                final long next = current == EMPTY ? x : operator.applyAsLong(current, x);
+                if (value.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        private long retire() {
+            return value.getAndSet(RETIRED);
+        }
+    }
+
+    /**
+     * Mutable lookup key, equal to a {@link DefaultRowInfo} with the same table, row and column.
+     * Only passed to {@link ConcurrentMap#get(Object)}, which calls {@code key.equals(storedKey)}.
+     */
+    private static class LookupKey implements RowInfo {
+        private TableName tableName;
+        private RowKey rowKey;
+        private ColumnName columnName;
+
+        private LookupKey set(TableName tableName, RowKey rowKey, ColumnName columnName) {
+            this.tableName = tableName;
+            this.rowKey = rowKey;
+            this.columnName = columnName;
+            return this;
+        }
+
+        private void clear() {
+            this.tableName = null;
+            this.rowKey = null;
+            this.columnName = null;
+        }
+
+        @Override
+        public TableName getTableName() {
+            return tableName;
+        }
+
+        @Override
+        public RowKey getRowKey() {
+            return rowKey;
+        }
+
+        @Override
+        public ColumnName getColumnName() {
+            return columnName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RowInfo)) return false;
+
+            RowInfo that = (RowInfo) o;
+            return tableName.equals(that.getTableName())
+                    && rowKey.equals(that.getRowKey())
+                    && columnName.equals(that.getColumnName());
+        }
+
+        @Override
+        public int hashCode() {
+            // must stay in sync with DefaultRowInfo.hashCode()
+            int result = tableName.hashCode();
+            result = 31 * result + rowKey.hashCode();
+            result = 31 * result + columnName.hashCode();
+            return result;
+        }
+    }
+}
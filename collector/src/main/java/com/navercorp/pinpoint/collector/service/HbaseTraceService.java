@@ -211,6 +211,8 @@ public class HbaseTraceService implements TraceService {
         // the data may be different due to timeout or network error.
 
         statisticsService.updateResponseTime(span.getApplicationId(), applicationServiceType, span.getAgentId(), span.getElapsed(), isError);
+        // same dot as the ApplicationTraceIndex, pre-aggregated for the heatmap
+        statisticsService.updateHeatMap(span.getApplicationId(), span.getCollectorAcceptTime(), span.getElapsed(), isError);
 
         if (bugCheck != 1) {
             logger.info("ambiguous span found(bug). span:{}", span);
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.collector.service;
 
+import com.navercorp.pinpoint.collector.dao.HeatMapDao;
 import com.navercorp.pinpoint.collector.dao.MapResponseTimeDao;
 import com.navercorp.pinpoint.collector.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.collector.dao.MapStatisticsCallerDao;
@@ -36,11 +37,14 @@ public class StatisticsService {
     private final MapStatisticsCalleeDao mapStatisticsCalleeDao;
     private final MapStatisticsCallerDao mapStatisticsCallerDao;
     private final MapResponseTimeDao mapResponseTimeDao;
+    private final HeatMapDao heatMapDao;
 
-    public StatisticsService(MapStatisticsCalleeDao mapStatisticsCalleeDao, MapStatisticsCallerDao mapStatisticsCallerDao, MapResponseTimeDao mapResponseTimeDao) {
+    public StatisticsService(MapStatisticsCalleeDao mapStatisticsCalleeDao, MapStatisticsCallerDao mapStatisticsCallerDao,
+                             MapResponseTimeDao mapResponseTimeDao, HeatMapDao heatMapDao) {
         this.mapStatisticsCalleeDao = Objects.requireNonNull(mapStatisticsCalleeDao, "mapStatisticsCalleeDao");
         this.mapStatisticsCallerDao = Objects.requireNonNull(mapStatisticsCallerDao, "mapStatisticsCallerDao");
         this.mapResponseTimeDao = Objects.requireNonNull(mapResponseTimeDao, "mapResponseTimeDao");
+        this.heatMapDao = Objects.requireNonNull(heatMapDao, "heatMapDao");
     }
 
     /**
@@ -106,6 +110,22 @@ public class StatisticsService {
         mapResponseTimeDao.received(applicationName, serviceType, agentId, elapsed, isError);
     }
 
+    /**
+     * Counts the scatter dot of the span for the heatmap.
+     * @param applicationName applicationName
+     * @param acceptedTime collector accept time of the span
+     * @param elapsed elapsed
+     * @param isError isError
+     */
+    public void updateHeatMap(
+            @NotBlank String applicationName,
+            long acceptedTime,
+            int elapsed,
+            boolean isError
+    ) {
+        heatMapDao.update(applicationName, acceptedTime, elapsed, isError);
+    }
+
     public void updateAgentState(
             @NotBlank final String callerApplicationName,
             final ServiceType callerServiceType,
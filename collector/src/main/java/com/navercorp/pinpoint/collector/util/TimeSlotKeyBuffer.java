@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind buffer that keeps each key once per time slot.
+ * The first {@link #offer(Object, long)} of a key within a slot queues it for the next {@link #drain()},
+ * repeated offers within the same slot only cost a set lookup.
+ * The number of keys per slot is bounded by {@code maxSize}; beyond it {@code offer} returns false
+ * and the caller is expected to write the key by itself.
+ */
+public class TimeSlotKeyBuffer<T> {
+
+    private final int maxSize;
+
+    private volatile SlotKeys<T> current;
+
+    private final Queue<SlotKey<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingSize = new AtomicInteger();
+
+    public TimeSlotKeyBuffer(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.current = new SlotKeys<>(Long.MIN_VALUE);
+    }
+
+    /**
+     * @return false if the buffer is full and the key was not taken
+     */
+    public boolean offer(final T key, final long slot) {
+        Objects.requireNonNull(key, "key");
+
+        final SlotKeys<T> slotKeys = getSlotKeys(slot);
+        if (slotKeys == null) {
+            // late arrival for a slot that was already rotated out
+            return enqueue(key, slot);
+        }
+        if (slotKeys.keys.contains(key)) {
+            return true;
+        }
+        if (slotKeys.keys.size() >= maxSize) {
+            return false;
+        }
+        if (slotKeys.keys.add(key)) {
+            if (enqueue(key, slot)) {
+                return true;
+            }
+            // not queued, let the next offer retry
+            slotKeys.keys.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    private SlotKeys<T> getSlotKeys(long slot) {
+        SlotKeys<T> slotKeys = this.current;
+        while (slotKeys.slot != slot) {
+            if (slot < slotKeys.slot) {
+                return null;
+            }
+            final SlotKeys<T> newSlotKeys = new SlotKeys<>(slot);
+            synchronized (this) {
+                if (this.current == slotKeys) {
+                    this.current = newSlotKeys;
+                }
+            }
+            slotKeys = this.current;
+        }
+        return slotKeys;
+    }
+
+    private boolean enqueue(T key, long slot) {
+        if (pendingSize.incrementAndGet() > maxSize) {
+            pendingSize.decrementAndGet();
+            return false;
+        }
+        pending.offer(new SlotKey<>(key, slot));
+        return true;
+    }
+
+    public List<SlotKey<T>> drain() {
+        final List<SlotKey<T>> drain = new ArrayList<>(pendingSize.get());
+        SlotKey<T> slotKey;
+        while ((slotKey = pending.poll()) != null) {
+            pendingSize.decrementAndGet();
+            drain.add(slotKey);
+        }
+        return drain;
+    }
+
+    public int getPendingSize() {
+        return pendingSize.get();
+    }
+
+    private static final class SlotKeys<T> {
+        private final long slot;
+        private final Set<T> keys = ConcurrentHashMap.newKeySet(1024);
+
+        private SlotKeys(long slot) {
+            this.slot = slot;
+        }
+    }
+
+    public static final class SlotKey<T> {
+        private final T key;
+        private final long slot;
+
+        private SlotKey(T key, long slot) {
+            this.key = key;
+            this.slot = slot;
+        }
+
+        public T getKey() {
+            return key;
+        }
+
+        public long getSlot() {
+            return slot;
+        }
+
+        @Override
+        public String toString() {
+            return "SlotKey{" +
+                    "key=" + key +
+                    ", slot=" + slot +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSlotKeyBuffer{" +
+                "maxSize=" + maxSize +
+                ", pendingSize=" + pendingSize.get() +
+                '}';
+    }
+}
@@ -18,15 +18,31 @@ package com.navercorp.pinpoint.collector.dao.hbase;
 
 import com.navercorp.pinpoint.common.buffer.Buffer;
 import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations;
+import com.navercorp.pinpoint.common.hbase.HbaseTable;
 import com.navercorp.pinpoint.common.hbase.HbaseTableConstants;
+import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.util.AcceptedTimeService;
 import com.navercorp.pinpoint.common.server.util.DefaultTimeSlot;
 import com.navercorp.pinpoint.common.server.util.TimeSlot;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.TimeUtils;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class HbaseHostApplicationMapDaoTest {
 
@@ -49,4 +65,29 @@ public class HbaseHostApplicationMapDaoTest {
         Assertions.assertEquals(code, ServiceType.STAND_ALONE.getCode(), "serviceType check");
         Assertions.assertEquals(statisticsRowSlot, time, "time check");
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void insert_flushLink() {
+        HbaseOperations hbaseTemplate = mock(HbaseOperations.class);
+        TableNameProvider tableNameProvider = mock(TableNameProvider.class);
+        when(tableNameProvider.getTableName(any(HbaseTable.class))).thenReturn(TableName.valueOf("HostApplicationMap_Ver2"));
+        AbstractRowKeyDistributor rowKeyDistributor = mock(AbstractRowKeyDistributor.class);
+        when(rowKeyDistributor.getDistributedKey(any(byte[].class))).then(invocation -> invocation.getArgument(0));
+        AcceptedTimeService acceptedTimeService = mock(AcceptedTimeService.class);
+        when(acceptedTimeService.getAcceptedTime()).thenReturn(System.currentTimeMillis());
+
+        HbaseHostApplicationMapDao dao = new HbaseHostApplicationMapDao(hbaseTemplate, tableNameProvider, rowKeyDistributor, acceptedTimeService, timeSlot, 100);
+        short serviceType = ServiceType.STAND_ALONE.getCode();
+        for (int i = 0; i < 10; i++) {
+            dao.insert("host1", "app", serviceType, "parentApp", serviceType);
+            dao.insert("host2", "app", serviceType, "parentApp", serviceType);
+        }
+        verify(hbaseTemplate, never()).put(any(TableName.class), any(Put.class));
+
+        dao.flushLink();
+        ArgumentCaptor<List<Put>> captor = ArgumentCaptor.forClass(List.class);
+        verify(hbaseTemplate).put(any(TableName.class), captor.capture());
+        Assertions.assertEquals(2, captor.getValue().size());
+    }
+}
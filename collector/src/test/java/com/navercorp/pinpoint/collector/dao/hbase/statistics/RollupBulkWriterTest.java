@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import com.navercorp.pinpoint.common.server.util.DefaultTimeSlot;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RollupBulkWriterTest {
+
+    private static final long FIVE_MINUTES = TimeUnit.MINUTES.toMillis(5);
+    private static final long ONE_HOUR = TimeUnit.HOURS.toMillis(1);
+
+    private final BulkWriter delegate = mock(BulkWriter.class);
+    private final BulkWriter fiveMinutes = mock(BulkWriter.class);
+    private final BulkWriter oneHour = mock(BulkWriter.class);
+
+    private final RollupBulkWriter writer = new RollupBulkWriter(delegate, List.of(
+            new RollupBulkWriter.Rollup(new DefaultTimeSlot(FIVE_MINUTES), fiveMinutes),
+            new RollupBulkWriter.Rollup(new DefaultTimeSlot(ONE_HOUR), oneHour)
+    ));
+
+    @Test
+    void increment() {
+        final long slot = 10 * ONE_HOUR + TimeUnit.MINUTES.toMillis(17);
+        RowKey rowKey = new CallRowKey("app", (short) 1000, slot);
+        ColumnName columnName = new ResponseColumnName("agent", (short) 100);
+
+        writer.increment(rowKey, columnName);
+        writer.increment(rowKey, columnName, 10);
+        writer.updateMax(rowKey, columnName, 20);
+
+        verify(delegate).increment(rowKey, columnName);
+        verify(delegate).increment(rowKey, columnName, 10);
+        verify(delegate).updateMax(rowKey, columnName, 20);
+
+        RowKey fiveMinutesRowKey = new CallRowKey("app", (short) 1000, 10 * ONE_HOUR + 3 * FIVE_MINUTES);
+        verify(fiveMinutes).increment(fiveMinutesRowKey, columnName);
+        verify(fiveMinutes).increment(fiveMinutesRowKey, columnName, 10);
+        verify(fiveMinutes).updateMax(fiveMinutesRowKey, columnName, 20);
+
+        RowKey oneHourRowKey = new CallRowKey("app", (short) 1000, 10 * ONE_HOUR);
+        verify(oneHour).increment(oneHourRowKey, columnName);
+        verify(oneHour).increment(oneHourRowKey, columnName, 10);
+        verify(oneHour).updateMax(oneHourRowKey, columnName, 20);
+    }
+
+    @Test
+    void flush() {
+        writer.flushLink();
+        writer.flushAvgMax();
+
+        InOrder inOrder = inOrder(delegate, fiveMinutes, oneHour);
+        inOrder.verify(delegate).flushLink();
+        inOrder.verify(fiveMinutes).flushLink();
+        inOrder.verify(oneHour).flushLink();
+        inOrder.verify(delegate).flushAvgMax();
+        inOrder.verify(fiveMinutes).flushAvgMax();
+        inOrder.verify(oneHour).flushAvgMax();
+    }
+}
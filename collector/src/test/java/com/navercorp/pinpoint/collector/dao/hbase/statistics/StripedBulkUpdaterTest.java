@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.BulkIncrementerTestClazz.TestDataSet;
+import org.apache.hadoop.hbase.TableName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StripedBulkUpdaterTest {
+
+    @Test
+    public void updateMax() {
+        BulkUpdater bulkUpdater = new StripedBulkUpdater(4);
+        TableName tableA = TableName.valueOf("A");
+        TestDataSet column0 = new TestDataSet(tableA, 0, 0, 1);
+        TestDataSet column1 = new TestDataSet(tableA, 0, 1, 1);
+
+        bulkUpdater.updateMax(tableA, column0.getRowKey(), column0.getColumnName(), 10);
+        bulkUpdater.updateMax(tableA, column0.getRowKey(), column0.getColumnName(), 30);
+        bulkUpdater.updateMax(tableA, column0.getRowKey(), column0.getColumnName(), 20);
+        bulkUpdater.updateMax(tableA, column1.getRowKey(), column1.getColumnName(), 5);
+        assertThat(bulkUpdater.getSize()).isEqualTo(2);
+
+        Map<RowInfo, Long> maxUpdate = bulkUpdater.getMaxUpdate();
+        assertThat(maxUpdate)
+                .containsEntry(new DefaultRowInfo(tableA, column0.getRowKey(), column0.getColumnName()), 30L)
+                .containsEntry(new DefaultRowInfo(tableA, column1.getRowKey(), column1.getColumnName()), 5L)
+                .hasSize(2);
+
+        assertThat(bulkUpdater.getSize()).isZero();
+        assertThat(bulkUpdater.getMaxUpdate()).isEmpty();
+    }
+}
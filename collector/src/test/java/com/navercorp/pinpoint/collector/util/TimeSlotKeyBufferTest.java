@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeSlotKeyBufferTest {
+
+    @Test
+    void offer_sameSlot() {
+        TimeSlotKeyBuffer<String> buffer = new TimeSlotKeyBuffer<>(10);
+        assertThat(buffer.offer("a", 1000)).isTrue();
+        assertThat(buffer.offer("a", 1000)).isTrue();
+        assertThat(buffer.offer("b", 1000)).isTrue();
+
+        List<TimeSlotKeyBuffer.SlotKey<String>> drain = buffer.drain();
+        assertThat(drain).extracting(TimeSlotKeyBuffer.SlotKey::getKey).containsExactly("a", "b");
+        assertThat(buffer.getPendingSize()).isZero();
+
+        // already written in this slot
+        assertThat(buffer.offer("a", 1000)).isTrue();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void offer_nextSlot() {
+        TimeSlotKeyBuffer<String> buffer = new TimeSlotKeyBuffer<>(10);
+        buffer.offer("a", 1000);
+        buffer.offer("a", 2000);
+        // late arrival for the previous slot
+        buffer.offer("a", 1000);
+
+        List<TimeSlotKeyBuffer.SlotKey<String>> drain = buffer.drain();
+        assertThat(drain).extracting(TimeSlotKeyBuffer.SlotKey::getSlot).containsExactly(1000L, 2000L, 1000L);
+    }
+
+    @Test
+    void offer_full() {
+        TimeSlotKeyBuffer<String> buffer = new TimeSlotKeyBuffer<>(2);
+        assertThat(buffer.offer("a", 1000)).isTrue();
+        assertThat(buffer.offer("b", 1000)).isTrue();
+        assertThat(buffer.offer("c", 1000)).isFalse();
+        assertThat(buffer.offer("a", 1000)).isTrue();
+
+        assertThat(buffer.drain()).hasSize(2);
+    }
+}
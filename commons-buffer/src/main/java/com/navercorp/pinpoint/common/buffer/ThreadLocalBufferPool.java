@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.buffer;
+
+/**
+ * Per-thread reusable {@link AutomaticBuffer}.
+ * For encoders whose result is copied out right away, e.g. Put.addColumn(family, qualifier, ts, {@link Buffer#wrapByteBuffer()}),
+ * so the buffer keeps its high-water size instead of growing a new array for every value.
+ */
+public class ThreadLocalBufferPool {
+
+    public static final int DEFAULT_MAX_RETAINED_SIZE = 1024 * 1024;
+
+    private final int initialSize;
+    private final int maxRetainedSize;
+    private final ThreadLocal<Buffer> pool;
+
+    public ThreadLocalBufferPool(int initialSize) {
+        this(initialSize, DEFAULT_MAX_RETAINED_SIZE);
+    }
+
+    public ThreadLocalBufferPool(int initialSize, int maxRetainedSize) {
+        if (initialSize <= 0) {
+            throw new IllegalArgumentException("initialSize must be positive");
+        }
+        if (maxRetainedSize < initialSize) {
+            throw new IllegalArgumentException("maxRetainedSize must not be less than initialSize");
+        }
+        this.initialSize = initialSize;
+        this.maxRetainedSize = maxRetainedSize;
+        this.pool = ThreadLocal.withInitial(() -> new AutomaticBuffer(initialSize));
+    }
+
+    /**
+     * @return the buffer of the current thread, reset to offset 0.
+     * The content is only valid until the next acquire() on the same thread, copy it out before that.
+     */
+    public Buffer acquire() {
+        Buffer buffer = pool.get();
+        if (buffer.getInternalBuffer().length > maxRetainedSize) {
+            // do not pin the array of one oversized value for the lifetime of the thread
+            buffer = new AutomaticBuffer(initialSize);
+            pool.set(buffer);
+        }
+        buffer.setOffset(0);
+        return buffer;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadLocalBufferPool{" +
+                "initialSize=" + initialSize +
+                ", maxRetainedSize=" + maxRetainedSize +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.buffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+class ThreadLocalBufferPoolTest {
+
+    @Test
+    void acquire_reset() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool(16);
+
+        Buffer buffer = pool.acquire();
+        buffer.putPrefixedString("agentId");
+
+        Buffer reused = pool.acquire();
+        Assertions.assertSame(buffer, reused);
+        Assertions.assertEquals(0, reused.getOffset());
+    }
+
+    @Test
+    void acquire_perThread() throws Exception {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool(16);
+        Buffer buffer = pool.acquire();
+
+        Buffer other = CompletableFuture.supplyAsync(pool::acquire).get();
+        Assertions.assertNotSame(buffer, other);
+    }
+
+    @Test
+    void acquire_dropOversized() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool(16, 64);
+
+        Buffer buffer = pool.acquire();
+        buffer.putBytes(new byte[128]);
+
+        Buffer next = pool.acquire();
+        Assertions.assertNotSame(buffer, next);
+        Assertions.assertEquals(16, next.getInternalBuffer().length);
+    }
+
+    @Test
+    void wrapByteBuffer_noCopy() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool(16);
+        Buffer buffer = pool.acquire();
+        buffer.putInt(1);
+
+        Assertions.assertSame(buffer.getInternalBuffer(), buffer.wrapByteBuffer().array());
+        Assertions.assertEquals(4, buffer.wrapByteBuffer().remaining());
+    }
+
+    @Test
+    void illegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ThreadLocalBufferPool(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ThreadLocalBufferPool(64, 16));
+    }
+}
@@ -72,6 +72,13 @@ public class HbaseColumnFamily {
         }
     }
 
+    public static final ApplicationHeatMap APPLICATION_HEATMAP_COUNTER = new ApplicationHeatMap(HbaseTable.APPLICATION_HEATMAP, Bytes.toBytes("C"));
+    public static class ApplicationHeatMap extends HbaseColumnFamily {
+        private ApplicationHeatMap(HbaseTable hBaseTable, byte[] columnFamilyName) {
+            super(hBaseTable, columnFamilyName);
+        }
+    }
+
     public static final ApplicationIndex APPLICATION_INDEX_AGENTS = new ApplicationIndex(HbaseTable.APPLICATION_INDEX, Bytes.toBytes("Agents"));
     public static class ApplicationIndex extends HbaseColumnFamily {
         private ApplicationIndex(HbaseTable hBaseTable, byte[] columnFamilyName) {
@@ -97,6 +104,8 @@ public class HbaseColumnFamily {
     }
 
     public static final CalleeStatMap MAP_STATISTICS_CALLEE_VER2_COUNTER = new CalleeStatMap(HbaseTable.MAP_STATISTICS_CALLEE_VER2, Bytes.toBytes("C"));
+    public static final CalleeStatMap MAP_STATISTICS_CALLEE_VER2_COUNTER_5M = new CalleeStatMap(HbaseTable.MAP_STATISTICS_CALLEE_VER2, Bytes.toBytes("F"));
+    public static final CalleeStatMap MAP_STATISTICS_CALLEE_VER2_COUNTER_1H = new CalleeStatMap(HbaseTable.MAP_STATISTICS_CALLEE_VER2, Bytes.toBytes("H"));
     public static class CalleeStatMap extends HbaseColumnFamily {
         private CalleeStatMap(HbaseTable hBaseTable, byte[] columnFamilyName) {
             super(hBaseTable, columnFamilyName);
@@ -104,6 +113,8 @@ public class HbaseColumnFamily {
     }
 
     public static final CallerStatMap MAP_STATISTICS_CALLER_VER2_COUNTER = new CallerStatMap(HbaseTable.MAP_STATISTICS_CALLER_VER2, Bytes.toBytes("C"));
+    public static final CallerStatMap MAP_STATISTICS_CALLER_VER2_COUNTER_5M = new CallerStatMap(HbaseTable.MAP_STATISTICS_CALLER_VER2, Bytes.toBytes("F"));
+    public static final CallerStatMap MAP_STATISTICS_CALLER_VER2_COUNTER_1H = new CallerStatMap(HbaseTable.MAP_STATISTICS_CALLER_VER2, Bytes.toBytes("H"));
     public static class CallerStatMap extends HbaseColumnFamily {
         private CallerStatMap(HbaseTable hBaseTable, byte[] columnFamilyName) {
             super(hBaseTable, columnFamilyName);
@@ -111,6 +122,8 @@ public class HbaseColumnFamily {
     }
 
     public static final SelfStatMap MAP_STATISTICS_SELF_VER2_COUNTER = new SelfStatMap(HbaseTable.MAP_STATISTICS_SELF_VER2, Bytes.toBytes("C"));
+    public static final SelfStatMap MAP_STATISTICS_SELF_VER2_COUNTER_5M = new SelfStatMap(HbaseTable.MAP_STATISTICS_SELF_VER2, Bytes.toBytes("F"));
+    public static final SelfStatMap MAP_STATISTICS_SELF_VER2_COUNTER_1H = new SelfStatMap(HbaseTable.MAP_STATISTICS_SELF_VER2, Bytes.toBytes("H"));
     public static class SelfStatMap extends HbaseColumnFamily {
         private SelfStatMap(HbaseTable hBaseTable, byte[] columnFamilyName) {
             super(hBaseTable, columnFamilyName);
@@ -27,6 +27,7 @@ public enum HbaseTable {
     AGENT_LIFECYCLE("AgentLifeCycle"),
     AGENT_URI_STAT("AgentUriStat"),
     API_METADATA("ApiMetaData"),
+    APPLICATION_HEATMAP("ApplicationHeatMap"),
     APPLICATION_INDEX("ApplicationIndex"),
     APPLICATION_TRACE_INDEX("ApplicationTraceIndex"),
     HOST_APPLICATION_MAP_VER2("HostApplicationMap_Ver2"),
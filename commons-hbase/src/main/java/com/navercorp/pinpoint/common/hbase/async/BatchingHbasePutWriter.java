@@ -0,0 +1,311 @@
+package com.navercorp.pinpoint.common.hbase.async;
+
+import com.navercorp.pinpoint.common.hbase.RequestNotPermittedException;
+import com.navercorp.pinpoint.common.profiler.logging.ThrottledLogger;
+import com.navercorp.pinpoint.common.util.concurrent.FutureUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects single puts over a short window and hands them to the delegate as one {@code List<Put>} per table.
+ * Puts for the same row within a window are merged into a single Put,
+ * so the spans and span chunks of one transaction cost one mutation instead of one per span.
+ * Puts are striped to the batchers by row, so puts for the same row always meet in the same batch.
+ */
+public class BatchingHbasePutWriter implements HbasePutWriter, Closeable {
+
+    public static final RequestNotPermittedException OVERFLOW = new RequestNotPermittedException("batch queue is full", false);
+
+    private final HbasePutWriter delegate;
+    private final Batcher[] batchers;
+
+    public BatchingHbasePutWriter(String name, HbasePutWriter delegate, AsyncPollerOption option) {
+        Objects.requireNonNull(name, "name");
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        Objects.requireNonNull(option, "option");
+
+        this.batchers = newBatchers(name, option);
+    }
+
+    private Batcher[] newBatchers(String name, AsyncPollerOption option) {
+        final Batcher[] batchers = new Batcher[option.getParallelism()];
+        for (int i = 0; i < batchers.length; i++) {
+            batchers[i] = new Batcher(name + i, option);
+        }
+        return batchers;
+    }
+
+    @Override
+    public CompletableFuture<Void> put(TableName tableName, Put put) {
+        Objects.requireNonNull(tableName, "tableName");
+        Objects.requireNonNull(put, "put");
+
+        final int mod = mod(tableName.hashCode(), put.getRow());
+        return batchers[mod].write(tableName, put);
+    }
+
+    int mod(int hbaseCode, byte[] row) {
+        int hashcode = hbaseCode + Arrays.hashCode(row);
+        return Math.floorMod(hashcode, batchers.length);
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> put(TableName tableName, List<Put> puts) {
+        // already batched by the caller
+        return delegate.put(tableName, puts);
+    }
+
+    /**
+     * Merges the puts of each row in arrival order.
+     * Puts with a different durability are never merged, the merged put keeps the durability of its row.
+     */
+    static List<RowGroup> groupByRow(List<WriteRequest> requests) {
+        final Map<ByteBuffer, RowGroup> rows = new LinkedHashMap<>();
+        final List<RowGroup> result = new ArrayList<>(requests.size());
+        for (WriteRequest request : requests) {
+            final List<Put> puts = request.getPuts();
+            final List<CompletableFuture<Void>> futures = request.getFutures();
+            for (int i = 0; i < puts.size(); i++) {
+                final Put put = puts.get(i);
+                final CompletableFuture<Void> future = futures.get(i);
+
+                final ByteBuffer row = ByteBuffer.wrap(put.getRow());
+                final RowGroup group = rows.get(row);
+                if (group != null && group.merge(put)) {
+                    group.add(future);
+                    continue;
+                }
+                final RowGroup newGroup = new RowGroup(put, future);
+                if (group == null) {
+                    rows.put(row, newGroup);
+                }
+                result.add(newGroup);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        IOUtils.closeQuietly(batchers);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchingHbasePutWriter{" +
+                "delegate=" + delegate +
+                ", parallelism=" + batchers.length +
+                ", " + batchers[0] +
+                '}';
+    }
+
+    static class RowGroup {
+        private Put put;
+        private boolean copied;
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>(1);
+
+        RowGroup(Put put, CompletableFuture<Void> future) {
+            this.put = Objects.requireNonNull(put, "put");
+            this.futures.add(future);
+        }
+
+        boolean merge(Put other) {
+            if (put.getDurability() != other.getDurability()) {
+                return false;
+            }
+            if (!copied) {
+                // do not modify the caller's put
+                this.put = new Put(put);
+                this.copied = true;
+            }
+            try {
+                for (List<Cell> cells : other.getFamilyCellMap().values()) {
+                    for (Cell cell : cells) {
+                        this.put.add(cell);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }
+
+        void add(CompletableFuture<Void> future) {
+            this.futures.add(future);
+        }
+
+        Put getPut() {
+            return put;
+        }
+
+        List<CompletableFuture<Void>> getFutures() {
+            return futures;
+        }
+    }
+
+    private class Batcher implements Closeable {
+        private final Logger logger = LogManager.getLogger(this.getClass());
+        private final ThrottledLogger tLogger = ThrottledLogger.getLogger(logger, 100);
+
+        private final BlockingQueue<WriteRequest> queue;
+        private final int queueSize;
+        private final int writeBufferSize;
+        private final int writeBufferPeriodicFlush;
+        private final int pollTimeout;
+
+        private final Thread thread;
+        private final AtomicBoolean runState = new AtomicBoolean(true);
+
+        private Batcher(String id, AsyncPollerOption option) {
+            this.queueSize = option.getQueueSize();
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+
+            this.writeBufferSize = option.getWriteBufferSize();
+            this.writeBufferPeriodicFlush = option.getWriteBufferPeriodicFlush();
+            this.pollTimeout = Math.max(writeBufferPeriodicFlush / 4, 1);
+
+            this.thread = new Thread(this::dispatch, id);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private CompletableFuture<Void> write(TableName tableName, Put put) {
+            if (!runState.get()) {
+                return CompletableFuture.failedFuture(new IllegalStateException("closed"));
+            }
+            WriteRequest writeRequest = new WriteRequest(tableName, List.of(put));
+            if (this.queue.offer(writeRequest)) {
+                return writeRequest.getFutures().get(0);
+            }
+            tLogger.info("batch queue overflow");
+            return CompletableFuture.failedFuture(OVERFLOW);
+        }
+
+        private void dispatch() {
+            while (runState.get()) {
+                try {
+                    List<WriteRequest> requests = poll();
+                    if (requests == null) {
+                        break;
+                    }
+                    flush(requests);
+                } catch (Throwable th) {
+                    logger.warn("Dispatch Error {}", this.thread.getName(), th);
+                }
+            }
+            // flush what is left so that no caller waits forever
+            List<WriteRequest> remaining = new ArrayList<>(queue.size());
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                flush(remaining);
+            }
+            logger.info("dispatch terminated {}", this.thread.getName());
+        }
+
+        private void flush(List<WriteRequest> requests) {
+            Map<TableName, List<WriteRequest>> tables = new HashMap<>();
+            for (WriteRequest request : requests) {
+                tables.computeIfAbsent(request.getTableName(), key -> new ArrayList<>()).add(request);
+            }
+            for (Map.Entry<TableName, List<WriteRequest>> entry : tables.entrySet()) {
+                final TableName tableName = entry.getKey();
+                final List<RowGroup> groups = groupByRow(entry.getValue());
+                final List<Put> puts = new ArrayList<>(groups.size());
+                for (RowGroup group : groups) {
+                    puts.add(group.getPut());
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug("write {} {} requests:{} puts:{}", this.thread.getName(), tableName, entry.getValue().size(), puts.size());
+                }
+                try {
+                    List<CompletableFuture<Void>> results = delegate.put(tableName, puts);
+                    for (int i = 0; i < groups.size(); i++) {
+                        final CompletableFuture<Void> result = results.get(i);
+                        for (CompletableFuture<Void> future : groups.get(i).getFutures()) {
+                            FutureUtils.addListener(result, future);
+                        }
+                    }
+                } catch (Throwable th) {
+                    for (RowGroup group : groups) {
+                        group.getFutures().forEach(future -> future.completeExceptionally(th));
+                    }
+                    if (th instanceof RequestNotPermittedException) {
+                        tLogger.info("write not permitted {}", tableName);
+                    } else {
+                        logger.warn("write failed {} {}", this.thread.getName(), tableName, th);
+                    }
+                }
+            }
+        }
+
+        private List<WriteRequest> poll() {
+            final long startTime = System.currentTimeMillis();
+
+            List<WriteRequest> drain = new ArrayList<>(writeBufferSize);
+            while (runState.get()) {
+                WriteRequest request = null;
+                try {
+                    request = queue.poll(pollTimeout, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (!runState.get()) {
+                        return drain.isEmpty() ? null : drain;
+                    }
+                }
+                if (request != null) {
+                    drain.add(request);
+                    if (drain.size() >= writeBufferSize) {
+                        return drain;
+                    }
+                }
+                if (!drain.isEmpty() && System.currentTimeMillis() - startTime >= writeBufferPeriodicFlush) {
+                    return drain;
+                }
+            }
+            return drain.isEmpty() ? null : drain;
+        }
+
+        @Override
+        public void close() {
+            logger.debug("Close {}", this.thread.getName());
+            this.runState.set(false);
+            this.thread.interrupt();
+            try {
+                this.thread.join(3000);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Batcher{" +
+                    "queueSize=" + queueSize +
+                    ", writeBufferSize=" + writeBufferSize +
+                    ", writeBufferPeriodicFlush=" + writeBufferPeriodicFlush +
+                    ", thread=" + thread +
+                    '}';
+        }
+    }
+}
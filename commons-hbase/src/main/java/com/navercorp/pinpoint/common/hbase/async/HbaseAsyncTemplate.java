@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.future.FutureDecorator;
 import com.navercorp.pinpoint.common.hbase.future.FutureLoggingDecorator;
+import com.navercorp.pinpoint.common.hbase.scan.MergeResultScanner;
 import com.navercorp.pinpoint.common.hbase.scan.ResultScannerFactory;
 import com.navercorp.pinpoint.common.hbase.scan.ScanUtils;
 import com.navercorp.pinpoint.common.hbase.scan.Scanner;
@@ -415,6 +416,37 @@ public class HbaseAsyncTemplate implements DisposableBean, AsyncHbaseOperations
     }
 
 
+    /**
+     * Starts the scans of every salt bucket at once and merges them in row key order of the original scan.
+     * The remaining bucket scans are cancelled as soon as the extractor stops reading,
+     * so a limited extractor does not wait for the buckets it does not need.
+     */
+    public <T> T executeMergeDistributedScan(TableName tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, final ResultsExtractor<T> action) {
+        Objects.requireNonNull(tableName, "tableName");
+        Objects.requireNonNull(scan, "scan");
+        Objects.requireNonNull(rowKeyDistributor, "rowKeyDistributor");
+        Objects.requireNonNull(action, "action");
+
+        return execute(tableName, new AsyncTableCallback<>() {
+            @Override
+            public T doInTable(AsyncTable<ScanResultConsumer> table) throws Throwable {
+                final StopWatch watch = StopWatch.createStarted();
+
+                final Scan[] scans = ScanUtils.splitScans(scan, rowKeyDistributor);
+                final ScanMetricReporter.Reporter reporter = scanMetric.newReporter(tableName, "async-merge", scans);
+                final ResultScanner[] splitScanners = ScanUtils.newScanners(table, scans);
+                try (ResultScanner scanner = new MergeResultScanner(rowKeyDistributor, splitScanners, scan.isReversed())) {
+                    return action.extractData(scanner);
+                } finally {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("MergeResultScanner scanTime: {}ms", watch.stop());
+                    }
+                    reporter.report(splitScanners);
+                }
+            }
+        });
+    }
+
     public AsyncTable<ScanResultConsumer> getAsyncTable(TableName tableName) {
         return getAsyncTableFactory().getTable(tableName, executor);
     }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.hbase.scan;
+
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Merges the scanners of a distributed scan in original row key order using a heap.
+ * Unlike {@link com.sematext.hbase.wd.DistributedScanner} a reversed scan is merged in descending key order,
+ * and the original key of each head row is decoded only once.
+ * The scanners are expected to be already running, e.g. async table scanners, so that the merge only waits
+ * for the slowest head row instead of reading each bucket in turn.
+ */
+public class MergeResultScanner implements ResultScanner {
+
+    private static final Comparator<Head> ASCENDING = MergeResultScanner::compare;
+    private static final Comparator<Head> DESCENDING = ASCENDING.reversed();
+
+    private final AbstractRowKeyDistributor keyDistributor;
+    private final ResultScanner[] scanners;
+    private final PriorityQueue<Head> heap;
+    private boolean initialized = false;
+
+    public MergeResultScanner(AbstractRowKeyDistributor keyDistributor, ResultScanner[] scanners, boolean reversed) {
+        this.keyDistributor = Objects.requireNonNull(keyDistributor, "keyDistributor");
+        this.scanners = Objects.requireNonNull(scanners, "scanners");
+        this.heap = new PriorityQueue<>(Math.max(1, scanners.length), reversed ? DESCENDING : ASCENDING);
+    }
+
+    private static int compare(Head h1, Head h2) {
+        int compare = Bytes.compareTo(h1.originalKey, h2.originalKey);
+        if (compare != 0) {
+            return compare;
+        }
+        return Integer.compare(h1.index, h2.index);
+    }
+
+    @Override
+    public Result next() throws IOException {
+        if (!initialized) {
+            for (int i = 0; i < scanners.length; i++) {
+                advance(i);
+            }
+            initialized = true;
+        }
+        final Head head = heap.poll();
+        if (head == null) {
+            return null;
+        }
+        advance(head.index);
+        return head.result;
+    }
+
+    private void advance(int index) throws IOException {
+        final Result result = scanners[index].next();
+        if (result != null) {
+            byte[] originalKey = keyDistributor.getOriginalKey(result.getRow());
+            heap.add(new Head(index, result, originalKey));
+        }
+    }
+
+    @Override
+    public Result[] next(int nbRows) throws IOException {
+        final ArrayList<Result> resultSets = new ArrayList<>(nbRows);
+        for (int i = 0; i < nbRows; i++) {
+            Result next = next();
+            if (next == null) {
+                break;
+            }
+            resultSets.add(next);
+        }
+        return resultSets.toArray(new Result[0]);
+    }
+
+    @Override
+    public void close() {
+        ScanUtils.closeScanner(scanners);
+    }
+
+    @Override
+    public boolean renewLease() {
+        return false;
+    }
+
+    @Override
+    public ScanMetrics getScanMetrics() {
+        return null;
+    }
+
+    @Override
+    public Iterator<Result> iterator() {
+        return new Iterator<>() {
+            private Result next = null;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = MergeResultScanner.this.next();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Result next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Result temp = next;
+                next = null;
+                return temp;
+            }
+        };
+    }
+
+    private static final class Head {
+        private final int index;
+        private final Result result;
+        private final byte[] originalKey;
+
+        private Head(int index, Result result, byte[] originalKey) {
+            this.index = index;
+            this.result = result;
+            this.originalKey = originalKey;
+        }
+    }
+}
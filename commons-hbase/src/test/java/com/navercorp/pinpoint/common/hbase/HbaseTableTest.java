@@ -58,6 +58,13 @@ public class HbaseTableTest {
         Assertions.assertArrayEquals(Bytes.toBytes("P_api_signature"), apiMetadataApi.QUALIFIER_SIGNATURE);
     }
 
+    @Test
+    public void applicationHeatMapCounterTest() {
+        HbaseColumnFamily applicationHeatMapCounter = HbaseColumnFamily.APPLICATION_HEATMAP_COUNTER;
+        Assertions.assertArrayEquals(Bytes.toBytes("C"), applicationHeatMapCounter.getName());
+        Assertions.assertEquals("ApplicationHeatMap", applicationHeatMapCounter.getTable().getName());
+    }
+
     @Test
     public void applicationIndexAgentsTest() {
         HbaseColumnFamily applicationIndexAgents = HbaseColumnFamily.APPLICATION_INDEX_AGENTS;
@@ -0,0 +1,145 @@
+package com.navercorp.pinpoint.common.hbase.async;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Durability;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+class BatchingHbasePutWriterTest {
+
+    private static final byte[] FAMILY = Bytes.toBytes("S");
+
+    TableName table = TableName.valueOf("table");
+
+    @Test
+    void groupByRow() {
+        Put put1 = newPut("tx1", "span1");
+        Put put2 = newPut("tx2", "span1");
+        Put put3 = newPut("tx1", "span2");
+
+        WriteRequest request = new WriteRequest(table, List.of(put1, put2, put3));
+        List<BatchingHbasePutWriter.RowGroup> groups = BatchingHbasePutWriter.groupByRow(List.of(request));
+
+        Assertions.assertEquals(2, groups.size());
+        BatchingHbasePutWriter.RowGroup tx1 = groups.get(0);
+        Assertions.assertEquals(2, tx1.getPut().size());
+        Assertions.assertEquals(2, tx1.getFutures().size());
+        Assertions.assertEquals(1, groups.get(1).getPut().size());
+
+        // the caller's put is not modified
+        Assertions.assertEquals(1, put1.size());
+    }
+
+    @Test
+    void groupByRow_durability() {
+        Put put1 = newPut("tx1", "span1");
+        Put put2 = newPut("tx1", "span2");
+        put2.setDurability(Durability.SKIP_WAL);
+
+        WriteRequest request = new WriteRequest(table, List.of(put1, put2));
+        List<BatchingHbasePutWriter.RowGroup> groups = BatchingHbasePutWriter.groupByRow(List.of(request));
+
+        Assertions.assertEquals(2, groups.size());
+    }
+
+    @Test
+    void put() throws Exception {
+        List<List<Put>> batches = new CopyOnWriteArrayList<>();
+        HbasePutWriter delegate = newDelegate(batches);
+
+        AsyncPollerOption option = new AsyncPollerOption();
+        option.setParallelism(1);
+        option.setQueueSize(100);
+        option.setWriteBufferSize(3);
+        option.setWriteBufferPeriodicFlush(1000);
+
+        try (BatchingHbasePutWriter writer = new BatchingHbasePutWriter("test", delegate, option)) {
+            CompletableFuture<Void> future1 = writer.put(table, newPut("tx1", "span1"));
+            CompletableFuture<Void> future2 = writer.put(table, newPut("tx2", "span1"));
+            CompletableFuture<Void> future3 = writer.put(table, newPut("tx1", "span2"));
+
+            future1.get(1000, TimeUnit.MILLISECONDS);
+            future2.get(1000, TimeUnit.MILLISECONDS);
+            future3.get(1000, TimeUnit.MILLISECONDS);
+        }
+
+        Assertions.assertEquals(1, batches.size());
+        Assertions.assertEquals(2, batches.get(0).size());
+    }
+
+    @Test
+    void put_periodicFlush() throws Exception {
+        List<List<Put>> batches = new CopyOnWriteArrayList<>();
+        HbasePutWriter delegate = newDelegate(batches);
+
+        AsyncPollerOption option = new AsyncPollerOption();
+        option.setParallelism(2);
+        option.setQueueSize(100);
+        option.setWriteBufferSize(100);
+        option.setWriteBufferPeriodicFlush(10);
+
+        try (BatchingHbasePutWriter writer = new BatchingHbasePutWriter("test", delegate, option)) {
+            CompletableFuture<Void> future = writer.put(table, newPut("tx1", "span1"));
+            future.get(1000, TimeUnit.MILLISECONDS);
+        }
+        Assertions.assertEquals(1, batches.size());
+    }
+
+    @Test
+    void put_error() {
+        HbasePutWriter delegate = new HbasePutWriter() {
+            @Override
+            public CompletableFuture<Void> put(TableName tableName, Put put) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<CompletableFuture<Void>> put(TableName tableName, List<Put> puts) {
+                throw new IllegalStateException("error");
+            }
+        };
+
+        AsyncPollerOption option = new AsyncPollerOption();
+        option.setParallelism(1);
+        option.setWriteBufferSize(1);
+
+        try (BatchingHbasePutWriter writer = new BatchingHbasePutWriter("test", delegate, option)) {
+            CompletableFuture<Void> future = writer.put(table, newPut("tx1", "span1"));
+            Exception exception = Assertions.assertThrows(Exception.class, () -> future.get(1000, TimeUnit.MILLISECONDS));
+            Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        }
+    }
+
+    private HbasePutWriter newDelegate(List<List<Put>> batches) {
+        return new HbasePutWriter() {
+            @Override
+            public CompletableFuture<Void> put(TableName tableName, Put put) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<CompletableFuture<Void>> put(TableName tableName, List<Put> puts) {
+                batches.add(puts);
+                List<CompletableFuture<Void>> futures = new ArrayList<>(puts.size());
+                for (int i = 0; i < puts.size(); i++) {
+                    futures.add(CompletableFuture.completedFuture(null));
+                }
+                return futures;
+            }
+        };
+    }
+
+    private Put newPut(String row, String qualifier) {
+        Put put = new Put(Bytes.toBytes(row));
+        put.addColumn(FAMILY, Bytes.toBytes(qualifier), Bytes.toBytes(qualifier));
+        return put;
+    }
+}
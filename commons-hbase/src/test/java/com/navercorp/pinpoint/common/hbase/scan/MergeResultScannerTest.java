@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.hbase.scan;
+
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import com.sematext.hbase.wd.RowKeyDistributorByOneBytePrefix;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MergeResultScannerTest {
+
+    private final AbstractRowKeyDistributor distributor = new RowKeyDistributorByOneBytePrefix((byte) 2);
+
+    @Test
+    void merge() throws Exception {
+        ResultScanner scanner0 = newScanner(0, "a", "c", "d");
+        ResultScanner scanner1 = newScanner(1, "b", "e");
+
+        ResultScanner[] scanners = {scanner0, scanner1};
+        try (MergeResultScanner scanner = new MergeResultScanner(distributor, scanners, false)) {
+            assertThat(originalKeys(scanner)).containsExactly("a", "b", "c", "d", "e");
+        }
+        verify(scanner0).close();
+        verify(scanner1).close();
+    }
+
+    @Test
+    void merge_reversed() throws Exception {
+        ResultScanner[] scanners = {
+                newScanner(0, "d", "c", "a"),
+                newScanner(1, "e", "b")
+        };
+        try (MergeResultScanner scanner = new MergeResultScanner(distributor, scanners, true)) {
+            assertThat(originalKeys(scanner)).containsExactly("e", "d", "c", "b", "a");
+        }
+    }
+
+    @Test
+    void next_limit() throws Exception {
+        ResultScanner[] scanners = {
+                newScanner(0, "a", "c"),
+                newScanner(1, "b", "d")
+        };
+        try (MergeResultScanner scanner = new MergeResultScanner(distributor, scanners, false)) {
+            Result[] results = scanner.next(3);
+            assertThat(results).hasSize(3);
+            assertThat(scanner.next(3)).hasSize(1);
+            assertThat(scanner.next()).isNull();
+        }
+    }
+
+    private List<String> originalKeys(ResultScanner scanner) {
+        List<String> keys = new ArrayList<>();
+        for (Result result : scanner) {
+            keys.add(Bytes.toString(distributor.getOriginalKey(result.getRow())));
+        }
+        return keys;
+    }
+
+    private ResultScanner newScanner(int bucket, String... rows) throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (String row : rows) {
+            byte[] rowKey = Bytes.add(new byte[]{(byte) bucket}, Bytes.toBytes(row));
+            KeyValue keyValue = new KeyValue(rowKey, Bytes.toBytes("f"), Bytes.toBytes("q"), Bytes.toBytes(row));
+            results.add(Result.create(Arrays.asList(keyValue)));
+        }
+        Iterator<Result> iterator = results.iterator();
+
+        ResultScanner scanner = mock(ResultScanner.class);
+        when(scanner.next()).then(invocation -> iterator.hasNext() ? iterator.next() : null);
+        return scanner;
+    }
+}
@@ -1,5 +1,7 @@
 package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
 
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.ThreadLocalBufferPool;
 import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.HbaseSerializer;
@@ -16,6 +18,9 @@ public class SpanChunkSerializerV2 implements HbaseSerializer<SpanChunkBo, Put>
 
     private final SpanEncoder spanEncoder;
 
+    private final ThreadLocalBufferPool qualifierPool = new ThreadLocalBufferPool(128);
+    private final ThreadLocalBufferPool columnValuePool = new ThreadLocalBufferPool(256);
+
     public SpanChunkSerializerV2(SpanEncoder spanEncoder) {
         this.spanEncoder = Objects.requireNonNull(spanEncoder, "spanEncoder");
     }
@@ -27,8 +32,14 @@ public class SpanChunkSerializerV2 implements HbaseSerializer<SpanChunkBo, Put>
 
         SpanEncodingContext<SpanChunkBo> encodingContext = new SpanEncodingContext<>(spanChunkBo);
 
-        ByteBuffer qualifier = spanEncoder.encodeSpanChunkQualifier(encodingContext);
-        ByteBuffer columnValue = spanEncoder.encodeSpanChunkColumnValue(encodingContext);
+        final Buffer qualifierBuffer = qualifierPool.acquire();
+        spanEncoder.encodeSpanChunkQualifier(encodingContext, qualifierBuffer);
+        final Buffer columnValueBuffer = columnValuePool.acquire();
+        spanEncoder.encodeSpanChunkColumnValue(encodingContext, columnValueBuffer);
+
+        // addColumn copies both into the KeyValue, the buffers are reused by the next span
+        ByteBuffer qualifier = qualifierBuffer.wrapByteBuffer();
+        ByteBuffer columnValue = columnValueBuffer.wrapByteBuffer();
 
         long acceptedTime = put.getTimestamp();
         put.addColumn(HbaseColumnFamily.TRACE_V2_SPAN.getName(), qualifier, acceptedTime, columnValue);
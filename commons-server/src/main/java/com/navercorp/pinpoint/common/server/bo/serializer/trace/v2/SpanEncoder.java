@@ -1,5 +1,6 @@
 package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
 
+import com.navercorp.pinpoint.common.buffer.Buffer;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
 
@@ -25,4 +26,14 @@ public interface SpanEncoder {
     ByteBuffer encodeSpanChunkQualifier(SpanEncodingContext<SpanChunkBo> encodingContext);
 
     ByteBuffer encodeSpanChunkColumnValue(SpanEncodingContext<SpanChunkBo> encodingContext);
+
+    // write into a caller supplied buffer, so the caller can reuse it across spans
+
+    void encodeSpanQualifier(SpanEncodingContext<SpanBo> encodingContext, Buffer buffer);
+
+    void encodeSpanColumnValue(SpanEncodingContext<SpanBo> encodingContext, Buffer buffer);
+
+    void encodeSpanChunkQualifier(SpanEncodingContext<SpanChunkBo> encodingContext, Buffer buffer);
+
+    void encodeSpanChunkColumnValue(SpanEncodingContext<SpanChunkBo> encodingContext, Buffer buffer);
 }
@@ -31,26 +31,39 @@ public class SpanEncoderV0 implements SpanEncoder {
 
     @Override
     public ByteBuffer encodeSpanQualifier(SpanEncodingContext<SpanBo> encodingContext) {
+        final Buffer buffer = new AutomaticBuffer(128);
+        encodeSpanQualifier(encodingContext, buffer);
+        return buffer.wrapByteBuffer();
+    }
+
+    @Override
+    public void encodeSpanQualifier(SpanEncodingContext<SpanBo> encodingContext, Buffer buffer) {
         final SpanBo spanBo = encodingContext.getValue();
         final List<SpanEventBo> spanEventBoList = spanBo.getSpanEventBoList();
         final SpanEventBo firstEvent = getFirstSpanEvent(spanEventBoList);
 
-        return encodeQualifier(TYPE_SPAN, spanBo, firstEvent, null);
+        encodeQualifier(buffer, TYPE_SPAN, spanBo, firstEvent, null);
     }
 
     @Override
     public ByteBuffer encodeSpanChunkQualifier(SpanEncodingContext<SpanChunkBo> encodingContext) {
+        final Buffer buffer = new AutomaticBuffer(128);
+        encodeSpanChunkQualifier(encodingContext, buffer);
+        return buffer.wrapByteBuffer();
+    }
+
+    @Override
+    public void encodeSpanChunkQualifier(SpanEncodingContext<SpanChunkBo> encodingContext, Buffer buffer) {
         final SpanChunkBo spanChunkBo = encodingContext.getValue();
 
         final List<SpanEventBo> spanEventBoList = spanChunkBo.getSpanEventBoList();
         final SpanEventBo firstEvent = getFirstSpanEvent(spanEventBoList);
 
         LocalAsyncIdBo localAsyncId = spanChunkBo.getLocalAsyncId();
-        return encodeQualifier(TYPE_SPAN_CHUNK, spanChunkBo, firstEvent, localAsyncId);
+        encodeQualifier(buffer, TYPE_SPAN_CHUNK, spanChunkBo, firstEvent, localAsyncId);
     }
 
-    private ByteBuffer encodeQualifier(byte type, BasicSpan basicSpan, SpanEventBo firstEvent, LocalAsyncIdBo localAsyncId) {
-        final Buffer buffer = new AutomaticBuffer(128);
+    private void encodeQualifier(Buffer buffer, byte type, BasicSpan basicSpan, SpanEventBo firstEvent, LocalAsyncIdBo localAsyncId) {
         buffer.putByte(type);
         buffer.putPrefixedString(basicSpan.getApplicationId());
         buffer.putPrefixedString(basicSpan.getAgentId());
@@ -75,8 +88,6 @@ public class SpanEncoderV0 implements SpanEncoder {
 //            byte cfBitField = SpanEventQualifierBitField.setAsync((byte) 0, false);
 //            buffer.putByte(cfBitField);
 //        }
-
-        return buffer.wrapByteBuffer();
     }
 
 
@@ -91,9 +102,14 @@ public class SpanEncoderV0 implements SpanEncoder {
 
     @Override
     public ByteBuffer encodeSpanChunkColumnValue(SpanEncodingContext<SpanChunkBo> encodingContext) {
-        final SpanChunkBo spanChunkBo = encodingContext.getValue();
-
         final Buffer buffer = new AutomaticBuffer(256);
+        encodeSpanChunkColumnValue(encodingContext, buffer);
+        return buffer.wrapByteBuffer();
+    }
+
+    @Override
+    public void encodeSpanChunkColumnValue(SpanEncodingContext<SpanChunkBo> encodingContext, Buffer buffer) {
+        final SpanChunkBo spanChunkBo = encodingContext.getValue();
 
         final byte version = (byte) spanChunkBo.getVersion();
         buffer.putByte(version);
@@ -104,8 +120,6 @@ public class SpanEncoderV0 implements SpanEncoder {
 
         final List<SpanEventBo> spanEventBoList = spanChunkBo.getSpanEventBoList();
         writeSpanEventList(buffer, spanEventBoList, encodingContext);
-
-        return buffer.wrapByteBuffer();
     }
 
     private void writeSpanEventList(Buffer buffer, List<SpanEventBo> spanEventBoList, SpanEncodingContext<?> encodingContext) {
@@ -128,12 +142,17 @@ public class SpanEncoderV0 implements SpanEncoder {
 
     @Override
     public ByteBuffer encodeSpanColumnValue(SpanEncodingContext<SpanBo> encodingContext) {
+        final Buffer buffer = new AutomaticBuffer(256);
+        encodeSpanColumnValue(encodingContext, buffer);
+        return buffer.wrapByteBuffer();
+    }
+
+    @Override
+    public void encodeSpanColumnValue(SpanEncodingContext<SpanBo> encodingContext, Buffer buffer) {
         final SpanBo span = encodingContext.getValue();
 
         final SpanBitField bitField = SpanBitField.build(span);
 
-        final Buffer buffer = new AutomaticBuffer(256);
-
         final byte version = span.getRawVersion();
         buffer.putByte(version);
 
@@ -203,8 +222,6 @@ public class SpanEncoderV0 implements SpanEncoder {
 
         final List<SpanEventBo> spanEventBoList = span.getSpanEventBoList();
         writeSpanEventList(buffer, spanEventBoList, encodingContext);
-
-        return buffer.wrapByteBuffer();
     }
 
     public void writeFirstSpanEvent(Buffer buffer, SpanEventBo spanEventBo, SpanEncodingContext<?> encodingContext) {
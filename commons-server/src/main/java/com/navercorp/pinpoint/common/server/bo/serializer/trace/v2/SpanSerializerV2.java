@@ -1,5 +1,7 @@
 package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
 
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.ThreadLocalBufferPool;
 import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.HbaseSerializer;
@@ -17,6 +19,9 @@ public class SpanSerializerV2 implements HbaseSerializer<SpanBo, Put> {
 
     private final SpanEncoder spanEncoder;
 
+    private final ThreadLocalBufferPool qualifierPool = new ThreadLocalBufferPool(128);
+    private final ThreadLocalBufferPool columnValuePool = new ThreadLocalBufferPool(256);
+
     public SpanSerializerV2(SpanEncoder spanEncoder) {
         this.spanEncoder = Objects.requireNonNull(spanEncoder, "spanEncoder");
     }
@@ -27,8 +32,14 @@ public class SpanSerializerV2 implements HbaseSerializer<SpanBo, Put> {
 
         final SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<>(spanBo);
 
-        ByteBuffer qualifier = spanEncoder.encodeSpanQualifier(encodingContext);
-        ByteBuffer columnValue = spanEncoder.encodeSpanColumnValue(encodingContext);
+        final Buffer qualifierBuffer = qualifierPool.acquire();
+        spanEncoder.encodeSpanQualifier(encodingContext, qualifierBuffer);
+        final Buffer columnValueBuffer = columnValuePool.acquire();
+        spanEncoder.encodeSpanColumnValue(encodingContext, columnValueBuffer);
+
+        // addColumn copies both into the KeyValue, the buffers are reused by the next span
+        ByteBuffer qualifier = qualifierBuffer.wrapByteBuffer();
+        ByteBuffer columnValue = columnValueBuffer.wrapByteBuffer();
 
         long acceptedTime = put.getTimestamp();
         put.addColumn(HbaseColumnFamily.TRACE_V2_SPAN.getName(), qualifier, acceptedTime, columnValue);
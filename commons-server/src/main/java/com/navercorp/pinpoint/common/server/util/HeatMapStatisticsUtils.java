@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.util;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+
+import java.util.Objects;
+
+/**
+ * Row and column format of the pre-aggregated heatmap counters.
+ * <pre>
+ * rowkey format = APPNAMELEN(2bytes) + APPLICATIONNAME(str) + REVERSE_TIMESTAMP(8bytes, one minute slot)
+ * columnName format = TIME_SLOT(2bytes) + ELAPSED_SLOT(2bytes)
+ * </pre>
+ * TIME_SLOT is the {@link #TIME_SLOT_SIZE} slot inside the row minute.
+ * ELAPSED_SLOT is the {@link #ELAPSED_SLOT_SIZE} slot of the elapsed time, negative for failed transactions.
+ */
+public class HeatMapStatisticsUtils {
+
+    public static final long ROW_TIME_SLOT_SIZE = 60 * 1000;
+    public static final long TIME_SLOT_SIZE = 5 * 1000;
+
+    public static final int ELAPSED_SLOT_SIZE = 100;
+    // elapsed time over 10 seconds is counted in the last slot
+    public static final short MAX_ELAPSED_SLOT = 100;
+
+    private HeatMapStatisticsUtils() {
+    }
+
+    public static long getRowTimeSlot(long acceptedTime) {
+        return acceptedTime - (acceptedTime % ROW_TIME_SLOT_SIZE);
+    }
+
+    public static short getTimeSlot(long acceptedTime) {
+        return (short) ((acceptedTime % ROW_TIME_SLOT_SIZE) / TIME_SLOT_SIZE);
+    }
+
+    public static short getElapsedSlot(int elapsed, boolean isError) {
+        final short slot = (short) Math.min(Math.max(elapsed, 0) / ELAPSED_SLOT_SIZE, MAX_ELAPSED_SLOT);
+        if (isError) {
+            return (short) (-1 - slot);
+        }
+        return slot;
+    }
+
+    public static boolean isErrorSlot(short elapsedSlot) {
+        return elapsedSlot < 0;
+    }
+
+    /**
+     * @return lower bound of the elapsed time of the slot
+     */
+    public static long getElapsedTime(short elapsedSlot) {
+        if (isErrorSlot(elapsedSlot)) {
+            return (long) (-1 - elapsedSlot) * ELAPSED_SLOT_SIZE;
+        }
+        return (long) elapsedSlot * ELAPSED_SLOT_SIZE;
+    }
+
+    public static long getAcceptedTime(long rowTimeSlot, short timeSlot) {
+        return rowTimeSlot + timeSlot * TIME_SLOT_SIZE;
+    }
+
+    public static byte[] makeRowKey(String applicationName, long rowTimeSlot) {
+        Objects.requireNonNull(applicationName, "applicationName");
+
+        final byte[] applicationNameBytes = BytesUtils.toBytes(applicationName);
+
+        final Buffer buffer = new AutomaticBuffer(2 + applicationNameBytes.length + 8);
+        buffer.putShort((short) applicationNameBytes.length);
+        buffer.putBytes(applicationNameBytes);
+        buffer.putLong(TimeUtils.reverseTimeMillis(rowTimeSlot));
+        return buffer.getBuffer();
+    }
+
+    public static String getApplicationNameFromRowKey(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+
+        final short applicationNameLength = BytesUtils.bytesToShort(bytes, 0);
+        return BytesUtils.toString(bytes, 2, applicationNameLength);
+    }
+
+    public static long getTimestampFromRowKey(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+
+        final short applicationNameLength = BytesUtils.bytesToShort(bytes, 0);
+        return TimeUtils.recoveryTimeMillis(BytesUtils.bytesToLong(bytes, 2 + applicationNameLength));
+    }
+
+    public static byte[] makeColumnName(short timeSlot, short elapsedSlot) {
+        final byte[] columnName = new byte[BytesUtils.SHORT_BYTE_LENGTH * 2];
+        BytesUtils.writeShort(timeSlot, columnName, 0);
+        BytesUtils.writeShort(elapsedSlot, columnName, BytesUtils.SHORT_BYTE_LENGTH);
+        return columnName;
+    }
+
+    public static short getTimeSlotFromColumnName(byte[] bytes, int offset) {
+        return BytesUtils.bytesToShort(bytes, offset);
+    }
+
+    public static short getElapsedSlotFromColumnName(byte[] bytes, int offset) {
+        return BytesUtils.bytesToShort(bytes, offset + BytesUtils.SHORT_BYTE_LENGTH);
+    }
+}
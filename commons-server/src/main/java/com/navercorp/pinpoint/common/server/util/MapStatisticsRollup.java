@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.server.util;
+
+import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolutions of the ApplicationMapStatistics tables.
+ * Each resolution is stored in its own column family of the same table,
+ * the coarser ones are pre-aggregated by the collector so that long ranges scan fewer rows.
+ */
+public enum MapStatisticsRollup {
+    ONE_MINUTE(TimeUnit.MINUTES.toMillis(1),
+            HbaseColumnFamily.MAP_STATISTICS_CALLER_VER2_COUNTER,
+            HbaseColumnFamily.MAP_STATISTICS_CALLEE_VER2_COUNTER,
+            HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER),
+    FIVE_MINUTES(TimeUnit.MINUTES.toMillis(5),
+            HbaseColumnFamily.MAP_STATISTICS_CALLER_VER2_COUNTER_5M,
+            HbaseColumnFamily.MAP_STATISTICS_CALLEE_VER2_COUNTER_5M,
+            HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER_5M),
+    ONE_HOUR(TimeUnit.HOURS.toMillis(1),
+            HbaseColumnFamily.MAP_STATISTICS_CALLER_VER2_COUNTER_1H,
+            HbaseColumnFamily.MAP_STATISTICS_CALLEE_VER2_COUNTER_1H,
+            HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER_1H);
+
+    private static final MapStatisticsRollup[] VALUES = values();
+
+    private final long resolution;
+    private final TimeSlot timeSlot;
+    private final HbaseColumnFamily.CallerStatMap callerStatMap;
+    private final HbaseColumnFamily.CalleeStatMap calleeStatMap;
+    private final HbaseColumnFamily.SelfStatMap selfStatMap;
+
+    MapStatisticsRollup(long resolution,
+                        HbaseColumnFamily.CallerStatMap callerStatMap,
+                        HbaseColumnFamily.CalleeStatMap calleeStatMap,
+                        HbaseColumnFamily.SelfStatMap selfStatMap) {
+        this.resolution = resolution;
+        this.timeSlot = new DefaultTimeSlot(resolution);
+        this.callerStatMap = callerStatMap;
+        this.calleeStatMap = calleeStatMap;
+        this.selfStatMap = selfStatMap;
+    }
+
+    public long getResolution() {
+        return resolution;
+    }
+
+    public TimeSlot getTimeSlot() {
+        return timeSlot;
+    }
+
+    public HbaseColumnFamily.CallerStatMap getCallerStatMap() {
+        return callerStatMap;
+    }
+
+    public HbaseColumnFamily.CalleeStatMap getCalleeStatMap() {
+        return calleeStatMap;
+    }
+
+    public HbaseColumnFamily.SelfStatMap getSelfStatMap() {
+        return selfStatMap;
+    }
+
+    /**
+     * Returns the coarsest resolution whose slots fit exactly into the given window slot.
+     */
+    public static MapStatisticsRollup select(long windowSlotSize) {
+        for (int i = VALUES.length - 1; i > 0; i--) {
+            final MapStatisticsRollup rollup = VALUES[i];
+            if (windowSlotSize >= rollup.resolution && windowSlotSize % rollup.resolution == 0) {
+                return rollup;
+            }
+        }
+        return ONE_MINUTE;
+    }
+}
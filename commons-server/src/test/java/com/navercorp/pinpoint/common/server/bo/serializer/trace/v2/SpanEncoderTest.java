@@ -16,6 +16,9 @@ import com.navercorp.pinpoint.common.server.bo.grpc.GrpcSpanFactory;
 import com.navercorp.pinpoint.grpc.trace.PSpan;
 import com.navercorp.pinpoint.grpc.trace.PSpanChunk;
 import com.navercorp.pinpoint.grpc.trace.PSpanEvent;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Put;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.assertj.core.api.Assertions;
@@ -221,4 +224,31 @@ public class SpanEncoderTest {
 
         assertSpan(spanBo);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSerialize_reuseBuffer() {
+        SpanSerializerV2 serializer = new SpanSerializerV2(spanEncoder);
+
+        SpanBo complexSpan = randomComplexSpan();
+        Put complexPut = new Put(new byte[]{1}, complexSpan.getCollectorAcceptTime());
+        serializer.serialize(complexSpan, complexPut, null);
+
+        // overwrite the per-thread buffer with the next span
+        SpanBo simpleSpan = randomSpan();
+        Put simplePut = new Put(new byte[]{2}, simpleSpan.getCollectorAcceptTime());
+        serializer.serialize(simpleSpan, simplePut, null);
+
+        SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<>(complexSpan);
+        Cell cell = complexPut.getFamilyCellMap().values().iterator().next().get(0);
+        Assertions.assertThat(CellUtil.cloneQualifier(cell))
+                .isEqualTo(toBytes(spanEncoder.encodeSpanQualifier(encodingContext)));
+        Assertions.assertThat(CellUtil.cloneValue(cell))
+                .isEqualTo(toBytes(spanEncoder.encodeSpanColumnValue(encodingContext)));
+    }
+
+    private byte[] toBytes(ByteBuffer byteBuffer) {
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        return bytes;
+    }
+}
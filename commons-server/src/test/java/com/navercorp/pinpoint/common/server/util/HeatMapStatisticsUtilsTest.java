@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HeatMapStatisticsUtilsTest {
+
+    @Test
+    public void rowKey() {
+        long rowTimeSlot = HeatMapStatisticsUtils.getRowTimeSlot(1_700_000_012_345L);
+        Assertions.assertEquals(1_699_999_980_000L, rowTimeSlot);
+
+        byte[] rowKey = HeatMapStatisticsUtils.makeRowKey("TESTAPP", rowTimeSlot);
+        Assertions.assertEquals("TESTAPP", HeatMapStatisticsUtils.getApplicationNameFromRowKey(rowKey));
+        Assertions.assertEquals(rowTimeSlot, HeatMapStatisticsUtils.getTimestampFromRowKey(rowKey));
+    }
+
+    @Test
+    public void columnName() {
+        long acceptedTime = 120_000 + 17_500;
+        short timeSlot = HeatMapStatisticsUtils.getTimeSlot(acceptedTime);
+        short elapsedSlot = HeatMapStatisticsUtils.getElapsedSlot(350, true);
+
+        byte[] columnName = HeatMapStatisticsUtils.makeColumnName(timeSlot, elapsedSlot);
+        Assertions.assertEquals(timeSlot, HeatMapStatisticsUtils.getTimeSlotFromColumnName(columnName, 0));
+        Assertions.assertEquals(elapsedSlot, HeatMapStatisticsUtils.getElapsedSlotFromColumnName(columnName, 0));
+
+        long rowTimeSlot = HeatMapStatisticsUtils.getRowTimeSlot(acceptedTime);
+        Assertions.assertEquals(135_000, HeatMapStatisticsUtils.getAcceptedTime(rowTimeSlot, timeSlot));
+    }
+
+    @Test
+    public void elapsedSlot() {
+        Assertions.assertEquals(3, HeatMapStatisticsUtils.getElapsedSlot(350, false));
+        Assertions.assertEquals(300, HeatMapStatisticsUtils.getElapsedTime((short) 3));
+
+        short errorSlot = HeatMapStatisticsUtils.getElapsedSlot(0, true);
+        Assertions.assertTrue(HeatMapStatisticsUtils.isErrorSlot(errorSlot));
+        Assertions.assertEquals(0, HeatMapStatisticsUtils.getElapsedTime(errorSlot));
+
+        Assertions.assertEquals(HeatMapStatisticsUtils.MAX_ELAPSED_SLOT, HeatMapStatisticsUtils.getElapsedSlot(60_000, false));
+        Assertions.assertEquals(-1 - HeatMapStatisticsUtils.MAX_ELAPSED_SLOT, HeatMapStatisticsUtils.getElapsedSlot(60_000, true));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.server.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class MapStatisticsRollupTest {
+
+    @Test
+    void select() {
+        Assertions.assertEquals(MapStatisticsRollup.ONE_MINUTE, MapStatisticsRollup.select(TimeUnit.MINUTES.toMillis(1)));
+        Assertions.assertEquals(MapStatisticsRollup.FIVE_MINUTES, MapStatisticsRollup.select(TimeUnit.MINUTES.toMillis(5)));
+        Assertions.assertEquals(MapStatisticsRollup.FIVE_MINUTES, MapStatisticsRollup.select(TimeUnit.MINUTES.toMillis(20)));
+        Assertions.assertEquals(MapStatisticsRollup.ONE_HOUR, MapStatisticsRollup.select(TimeUnit.HOURS.toMillis(1)));
+        Assertions.assertEquals(MapStatisticsRollup.ONE_HOUR, MapStatisticsRollup.select(TimeUnit.HOURS.toMillis(3)));
+    }
+
+    @Test
+    void select_notAligned() {
+        Assertions.assertEquals(MapStatisticsRollup.ONE_MINUTE, MapStatisticsRollup.select(TimeUnit.MINUTES.toMillis(7)));
+        Assertions.assertEquals(MapStatisticsRollup.FIVE_MINUTES, MapStatisticsRollup.select(TimeUnit.MINUTES.toMillis(90)));
+    }
+
+    @Test
+    void getTimeSlot() {
+        long time = TimeUnit.HOURS.toMillis(10) + TimeUnit.MINUTES.toMillis(17) + 1234;
+        Assertions.assertEquals(TimeUnit.HOURS.toMillis(10) + TimeUnit.MINUTES.toMillis(15), MapStatisticsRollup.FIVE_MINUTES.getTimeSlot().getTimeSlot(time));
+        Assertions.assertEquals(TimeUnit.HOURS.toMillis(10), MapStatisticsRollup.ONE_HOUR.getTimeSlot().getTimeSlot(time));
+    }
+}
@@ -169,6 +169,7 @@ import static com.navercorp.pinpoint.common.trace.ServiceTypeProperty.TERMINAL;
  * <tr><td>5012</td><td>JSON-LIB</td></tr>
  * <tr><td>5013</td><td>FASTJSON</td></tr>
  * <tr><td>5020</td><td>JDK_FUTURE</td></tr>
+ * <tr><td>5021</td><td>VIRTUAL_THREAD</td></tr>
  * <tr><td>5050</td><td>SPRING</td></tr>
  * <tr><td>5051</td><td>SPRING_MVC</td></tr>
  * <tr><td>5052</td><td>SPRING_ASYNC</td></tr>
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.log.collector.repository;
+
+import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogPile;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+/**
+ * Fans the piles of a single file out to every tailing viewer.
+ * The hub is registered as the only {@link LogConsumer} of its file,
+ * keeps the piles of the last few seconds so that a late viewer starts with recent lines,
+ * and sends a demand upstream only when a viewer needs logs beyond the running tail.
+ */
+public class LogTailHub implements LogConsumer {
+
+    private final FileKey fileKey;
+    private final long replayMillis;
+    private final int replayCapacity;
+    private final FluxSink.OverflowStrategy overflowStrategy;
+    private final LongSupplier clock;
+
+    private final ArrayDeque<Entry> ring;
+    private final List<FluxSink<LogPile>> sinks = new CopyOnWriteArrayList<>();
+
+    // guarded by this
+    private long demandedUntil;
+    // guarded by the owner's hub map
+    private int refCount;
+    private Disposable removal;
+
+    public LogTailHub(
+            FileKey fileKey,
+            long replayMillis,
+            int replayCapacity,
+            FluxSink.OverflowStrategy overflowStrategy,
+            LongSupplier clock
+    ) {
+        this.fileKey = Objects.requireNonNull(fileKey, "fileKey");
+        if (replayMillis < 0) {
+            throw new IllegalArgumentException("replayMillis must be greater than or equal to 0");
+        }
+        if (replayCapacity < 0) {
+            throw new IllegalArgumentException("replayCapacity must be greater than or equal to 0");
+        }
+        this.replayMillis = replayMillis;
+        this.replayCapacity = replayCapacity;
+        this.overflowStrategy = Objects.requireNonNull(overflowStrategy, "overflowStrategy");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.ring = new ArrayDeque<>(Math.min(replayCapacity, 64));
+    }
+
+    @Override
+    public void consume(LogPile pile) {
+        final Object[] targets;
+        synchronized (this) {
+            append(pile);
+            // taken under the lock, so a viewer either replays this pile or receives it here, never both
+            targets = this.sinks.toArray();
+        }
+        for (Object target : targets) {
+            @SuppressWarnings("unchecked")
+            FluxSink<LogPile> sink = (FluxSink<LogPile>) target;
+            sink.next(pile);
+        }
+    }
+
+    private void append(LogPile pile) {
+        if (this.replayCapacity == 0) {
+            return;
+        }
+        final long now = this.clock.getAsLong();
+        if (this.ring.size() >= this.replayCapacity) {
+            this.ring.pollFirst();
+        }
+        this.ring.addLast(new Entry(now, pile));
+        evict(now);
+    }
+
+    private void evict(long now) {
+        final long expiredAt = now - this.replayMillis;
+        Entry first;
+        while ((first = this.ring.peekFirst()) != null && first.receivedAt < expiredAt) {
+            this.ring.pollFirst();
+        }
+    }
+
+    /**
+     * Returns the piles received within the replay window followed by the live piles.
+     * Each viewer is buffered according to the overflow strategy of the hub,
+     * so a slow viewer does not hold back the others.
+     */
+    public Flux<LogPile> subscribe() {
+        return Flux.create(this::register, this.overflowStrategy);
+    }
+
+    private void register(FluxSink<LogPile> sink) {
+        synchronized (this) {
+            evict(this.clock.getAsLong());
+            for (Entry entry : this.ring) {
+                sink.next(entry.pile);
+            }
+            this.sinks.add(sink);
+        }
+        sink.onDispose(() -> this.sinks.remove(sink));
+    }
+
+    /**
+     * Decides whether a viewer that needs logs for {@code durationMillis} has to send a new demand upstream.
+     * A demand extends the tail that is still running, so only the part not covered by the previous demands is asked for.
+     *
+     * @return the duration of the demand to send, or 0 if the previous demands still cover the viewer
+     */
+    public synchronized long demand(long durationMillis) {
+        final long now = this.clock.getAsLong();
+        final long until = now + durationMillis;
+        if (until <= this.demandedUntil) {
+            return 0;
+        }
+        final long demandMillis = until - Math.max(now, this.demandedUntil);
+        this.demandedUntil = until;
+        return demandMillis;
+    }
+
+    public int retain() {
+        cancelRemoval();
+        return ++this.refCount;
+    }
+
+    public int release() {
+        return --this.refCount;
+    }
+
+    public int refCount() {
+        return this.refCount;
+    }
+
+    /**
+     * Keeps a single pending removal, replacing the one scheduled by an earlier release.
+     */
+    public void scheduleRemoval(Disposable removal) {
+        cancelRemoval();
+        this.removal = Objects.requireNonNull(removal, "removal");
+    }
+
+    private void cancelRemoval() {
+        final Disposable removal = this.removal;
+        if (removal != null) {
+            removal.dispose();
+            this.removal = null;
+        }
+    }
+
+    @Override
+    public FileKey getFileKey() {
+        return this.fileKey;
+    }
+
+    @Override
+    public String toString() {
+        return "LogTailHub{" +
+                "fileKey=" + fileKey +
+                ", replayMillis=" + replayMillis +
+                ", replayCapacity=" + replayCapacity +
+                ", overflowStrategy=" + overflowStrategy +
+                ", subscribers=" + sinks.size() +
+                '}';
+    }
+
+    private record Entry(long receivedAt, LogPile pile) {
+    }
+
+}
@@ -17,10 +17,14 @@ package com.navercorp.pinpoint.log.collector.service;
 
 import com.navercorp.pinpoint.log.collector.repository.LogAcceptorRepository;
 import com.navercorp.pinpoint.log.collector.repository.LogConsumerRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.FluxSink;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+
 /**
  * @author youngjin.kim2
  */
@@ -40,8 +44,16 @@ public class LogServiceConfig {
     @Bean
     LogConsumerService logConsumerService(
             LogAcceptorRepository acceptorRepository,
-            LogConsumerRepository consumerRepository
+            LogConsumerRepository consumerRepository,
+            @Value("${pinpoint.log.collector.tail.multicast.enabled:false}") boolean multicastEnabled,
+            @Value("${pinpoint.log.collector.tail.replay-millis:10000}") long replayMillis,
+            @Value("${pinpoint.log.collector.tail.replay-capacity:256}") int replayCapacity,
+            @Value("${pinpoint.log.collector.tail.overflow-strategy:LATEST}") FluxSink.OverflowStrategy overflowStrategy
     ) {
+        if (multicastEnabled) {
+            return new MulticastLogConsumerService(Schedulers.parallel(), acceptorRepository, consumerRepository,
+                    Duration.ofMillis(replayMillis), replayCapacity, overflowStrategy);
+        }
         return new LogConsumerServiceImpl(Schedulers.parallel(), acceptorRepository, consumerRepository);
     }
 
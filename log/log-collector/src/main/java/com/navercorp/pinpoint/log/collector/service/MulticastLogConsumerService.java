@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.log.collector.service;
+
+import com.navercorp.pinpoint.log.collector.repository.LogAcceptorRepository;
+import com.navercorp.pinpoint.log.collector.repository.LogConsumerRepository;
+import com.navercorp.pinpoint.log.collector.repository.LogDemandAcceptor;
+import com.navercorp.pinpoint.log.collector.repository.LogTailHub;
+import com.navercorp.pinpoint.log.dto.LogDemand;
+import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogPile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares one {@link LogTailHub} between all viewers of a file,
+ * so every viewer receives every pile and the agent sees a demand only for the time not yet covered, instead of one per viewer.
+ * The hub outlives its last viewer by the replay window, so a viewer reconnecting within it replays recent lines.
+ */
+class MulticastLogConsumerService implements LogConsumerService {
+
+    private final Scheduler scheduler;
+
+    private final LogAcceptorRepository acceptorRepository;
+    private final LogConsumerRepository consumerRepository;
+
+    private final long replayMillis;
+    private final int replayCapacity;
+    private final FluxSink.OverflowStrategy overflowStrategy;
+
+    private final ConcurrentMap<FileKey, LogTailHub> hubs = new ConcurrentHashMap<>();
+
+    MulticastLogConsumerService(
+            Scheduler scheduler,
+            LogAcceptorRepository acceptorRepository,
+            LogConsumerRepository consumerRepository,
+            Duration replayDuration,
+            int replayCapacity,
+            FluxSink.OverflowStrategy overflowStrategy
+    ) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.acceptorRepository = Objects.requireNonNull(acceptorRepository, "acceptorRepository");
+        this.consumerRepository = Objects.requireNonNull(consumerRepository, "consumerRepository");
+        this.replayMillis = Objects.requireNonNull(replayDuration, "replayDuration").toMillis();
+        this.replayCapacity = replayCapacity;
+        this.overflowStrategy = Objects.requireNonNull(overflowStrategy, "overflowStrategy");
+    }
+
+    @Override
+    public Flux<LogPile> tail(FileKey key, Duration duration) {
+        return Flux.defer(() -> {
+            LogTailHub hub = retain(key);
+            request(hub, duration);
+            return hub.subscribe().doFinally(signal -> release(hub));
+        }).take(duration, this.scheduler);
+    }
+
+    @Override
+    public List<FileKey> getFileKeys() {
+        return new ArrayList<>(this.acceptorRepository.getAcceptableKeys());
+    }
+
+    private LogTailHub retain(FileKey key) {
+        return this.hubs.compute(key, (k, hub) -> {
+            if (hub == null) {
+                hub = new LogTailHub(k, this.replayMillis, this.replayCapacity, this.overflowStrategy,
+                        () -> this.scheduler.now(TimeUnit.MILLISECONDS));
+                this.consumerRepository.addConsumer(hub);
+            }
+            hub.retain();
+            return hub;
+        });
+    }
+
+    private void release(LogTailHub hub) {
+        this.hubs.computeIfPresent(hub.getFileKey(), (k, current) -> {
+            if (current == hub && hub.release() == 0) {
+                hub.scheduleRemoval(this.scheduler.schedule(() -> removeIfUnused(hub), this.replayMillis, TimeUnit.MILLISECONDS));
+            }
+            return current;
+        });
+    }
+
+    private void removeIfUnused(LogTailHub hub) {
+        this.hubs.computeIfPresent(hub.getFileKey(), (k, current) -> {
+            if (current == hub && hub.refCount() == 0) {
+                this.consumerRepository.removeConsumer(hub);
+                return null;
+            }
+            return current;
+        });
+    }
+
+    private void request(LogTailHub hub, Duration duration) {
+        long demandMillis = hub.demand(duration.toMillis());
+        if (demandMillis == 0) {
+            return;
+        }
+        LogDemand demand = new LogDemand(hub.getFileKey(), demandMillis);
+        for (LogDemandAcceptor acceptor: this.acceptorRepository.getAcceptors(hub.getFileKey())) {
+            acceptor.accept(demand);
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.log.collector.service;
+
+import com.navercorp.pinpoint.log.collector.repository.LogAcceptorRepository;
+import com.navercorp.pinpoint.log.collector.repository.LogConsumerRepository;
+import com.navercorp.pinpoint.log.dto.LogDemand;
+import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.Log;
+import com.navercorp.pinpoint.log.vo.LogPile;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MulticastLogConsumerServiceTest {
+
+    @Test
+    public void test() throws Exception {
+        LogAcceptorRepository acceptorRepository = new LogAcceptorRepository();
+        LogConsumerRepository consumerRepository = new LogConsumerRepository();
+
+        LogConsumerService consumerService = new MulticastLogConsumerService(new ManualScheduler(),
+                acceptorRepository, consumerRepository, Duration.ofSeconds(10), 16, FluxSink.OverflowStrategy.BUFFER);
+        LogProviderService providerService =
+                new LogProviderServiceImpl(acceptorRepository, consumerRepository);
+
+        FileKey fileKey = FileKey.parse("hostGroup-1:host-1:file-1");
+        LogPile pile1 = new LogPile(0, List.of(new Log(0, 0, "log1")));
+        LogPile pile2 = new LogPile(1, List.of(new Log(1, 0, "log2")));
+
+        List<LogDemand> demands = new CopyOnWriteArrayList<>();
+        Disposable providerDisposable = providerService.getDemands(fileKey).subscribe(demands::add);
+
+        List<LogPile> viewer1 = new CopyOnWriteArrayList<>();
+        List<LogPile> viewer2 = new CopyOnWriteArrayList<>();
+        Disposable disposable1 = consumerService.tail(fileKey, Duration.ofSeconds(5)).subscribe(viewer1::add);
+        Disposable disposable2 = consumerService.tail(fileKey, Duration.ofSeconds(5)).subscribe(viewer2::add);
+
+        providerService.provide(fileKey, pile1);
+
+        assertThat(demands).withFailMessage("viewers should share the demand").hasSize(1);
+        assertThat(viewer1).containsExactly(pile1);
+        assertThat(viewer2).containsExactly(pile1);
+
+        disposable1.dispose();
+        providerService.provide(fileKey, pile2);
+        assertThat(viewer1).containsExactly(pile1);
+        assertThat(viewer2).containsExactly(pile1, pile2);
+
+        disposable2.dispose();
+
+        List<LogPile> lateViewer = new CopyOnWriteArrayList<>();
+        Disposable disposable3 = consumerService.tail(fileKey, Duration.ofSeconds(5)).subscribe(lateViewer::add);
+        assertThat(lateViewer).withFailMessage("late viewer should replay the recent piles").containsExactly(pile1, pile2);
+        assertThat(demands).hasSize(1);
+
+        disposable3.dispose();
+        providerDisposable.dispose();
+    }
+
+    @Test
+    public void demand_uncoveredRemainder() throws Exception {
+        ManualScheduler scheduler = new ManualScheduler();
+        LogAcceptorRepository acceptorRepository = new LogAcceptorRepository();
+        LogConsumerRepository consumerRepository = new LogConsumerRepository();
+        LogConsumerService consumerService = new MulticastLogConsumerService(scheduler,
+                acceptorRepository, consumerRepository, Duration.ofSeconds(10), 16, FluxSink.OverflowStrategy.LATEST);
+        LogProviderService providerService = new LogProviderServiceImpl(acceptorRepository, consumerRepository);
+        FileKey fileKey = FileKey.parse("hostGroup-1:host-1:file-1");
+
+        List<Long> demands = new CopyOnWriteArrayList<>();
+        Disposable providerDisposable = providerService.getDemands(fileKey)
+                .subscribe(demand -> demands.add(demand.getDurationMillis()));
+
+        consumerService.tail(fileKey, Duration.ofSeconds(5)).subscribe();
+        assertThat(demands).containsExactly(5_000L);
+
+        scheduler.advance(2_000);
+        consumerService.tail(fileKey, Duration.ofSeconds(5)).subscribe();
+        assertThat(demands).withFailMessage("only the uncovered remainder should be demanded")
+                .containsExactly(5_000L, 2_000L);
+
+        scheduler.advance(1_000);
+        consumerService.tail(fileKey, Duration.ofSeconds(1)).subscribe();
+        assertThat(demands).containsExactly(5_000L, 2_000L);
+
+        scheduler.advance(10_000);
+        consumerService.tail(fileKey, Duration.ofSeconds(5)).subscribe();
+        assertThat(demands).containsExactly(5_000L, 2_000L, 5_000L);
+
+        providerDisposable.dispose();
+    }
+
+    @Test
+    public void release_singlePendingRemoval() throws Exception {
+        ManualScheduler scheduler = new ManualScheduler();
+        LogAcceptorRepository acceptorRepository = new LogAcceptorRepository();
+        LogConsumerRepository consumerRepository = new LogConsumerRepository();
+        LogConsumerService consumerService = new MulticastLogConsumerService(scheduler,
+                acceptorRepository, consumerRepository, Duration.ofSeconds(10), 16, FluxSink.OverflowStrategy.BUFFER);
+        FileKey fileKey = FileKey.parse("hostGroup-1:host-1:file-1");
+
+        consumerService.tail(fileKey, Duration.ofSeconds(60)).subscribe().dispose();
+        scheduler.advance(5_000);
+        consumerService.tail(fileKey, Duration.ofSeconds(60)).subscribe().dispose();
+
+        scheduler.advance(6_000);
+        assertThat(consumerRepository.getConsumer(fileKey))
+                .withFailMessage("the hub should outlive the last viewer by the replay window")
+                .isNotNull();
+
+        scheduler.advance(5_000);
+        assertThat(consumerRepository.getConsumer(fileKey)).isNull();
+    }
+
+    private static class ManualScheduler implements Scheduler {
+        private final List<Task> tasks = new ArrayList<>();
+        private long now;
+
+        @Override
+        public long now(TimeUnit unit) {
+            return unit.convert(now, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            return schedule(task, 0, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            Task scheduled = new Task(now + unit.toMillis(delay), task);
+            tasks.add(scheduled);
+            return scheduled;
+        }
+
+        @Override
+        public Worker createWorker() {
+            throw new UnsupportedOperationException();
+        }
+
+        void advance(long millis) {
+            now += millis;
+            for (Task task : new ArrayList<>(tasks)) {
+                if (task.runAt <= now && !task.isDisposed()) {
+                    tasks.remove(task);
+                    task.runnable.run();
+                }
+            }
+        }
+
+        private static class Task implements Disposable {
+            private final long runAt;
+            private final Runnable runnable;
+            private boolean disposed;
+
+            Task(long runAt, Runnable runnable) {
+                this.runAt = runAt;
+                this.runnable = runnable;
+            }
+
+            @Override
+            public void dispose() {
+                disposed = true;
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return disposed;
+            }
+        }
+    }
+
+}
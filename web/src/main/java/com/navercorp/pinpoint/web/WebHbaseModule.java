@@ -4,15 +4,26 @@ import com.navercorp.pinpoint.common.hbase.config.DistributorConfiguration;
 import com.navercorp.pinpoint.common.hbase.config.HbaseNamespaceConfiguration;
 import com.navercorp.pinpoint.common.hbase.config.HbaseTemplateConfiguration;
 import com.navercorp.pinpoint.common.server.CommonsHbaseConfiguration;
+import com.navercorp.pinpoint.common.server.executor.ExecutorCustomizer;
+import com.navercorp.pinpoint.common.server.executor.ExecutorProperties;
 import com.navercorp.pinpoint.common.server.hbase.config.HbaseClientConfiguration;
+import com.navercorp.pinpoint.common.server.util.CallerUtils;
 import com.navercorp.pinpoint.web.applicationmap.config.MapHbaseConfiguration;
+import com.navercorp.pinpoint.web.applicationmap.config.TaskExecutorCustomizer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.concurrent.Executor;
 
 @Configuration
 @Import({
@@ -46,4 +57,24 @@ public class WebHbaseModule {
     public WebHbaseModule() {
         logger.info("Install {}", WebHbaseModule.class.getSimpleName());
     }
+
+    @Bean
+    @Validated
+    @ConfigurationProperties("web.hbase.trace.select.worker")
+    public ExecutorProperties traceSelectExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    @Bean
+    public Executor traceSelectExecutor(@Qualifier("traceSelectExecutorProperties") ExecutorProperties executorProperties) {
+        // hbase multi-get only, request and security context are not required
+        ExecutorCustomizer<ThreadPoolTaskExecutor> customizer = new TaskExecutorCustomizer(null);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        customizer.customize(executor, executorProperties);
+
+        String beanName = CallerUtils.getCallerMethodName();
+        executor.setThreadNamePrefix(beanName);
+        return executor;
+    }
 }
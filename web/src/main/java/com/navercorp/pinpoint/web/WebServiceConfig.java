@@ -15,12 +15,23 @@
  */
 package com.navercorp.pinpoint.web;
 
+import com.navercorp.pinpoint.common.server.executor.ExecutorCustomizer;
+import com.navercorp.pinpoint.common.server.executor.ExecutorProperties;
 import com.navercorp.pinpoint.common.server.trace.ApiParserProvider;
+import com.navercorp.pinpoint.common.server.util.CallerUtils;
+import com.navercorp.pinpoint.web.applicationmap.config.TaskExecutorCustomizer;
+import com.navercorp.pinpoint.web.config.AgentListProperties;
 import com.navercorp.pinpoint.web.hyperlink.HyperLinkConfiguration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.concurrent.Executor;
 
 /**
  * @author youngjin.kim2
@@ -44,5 +55,30 @@ public class WebServiceConfig {
             return new ApiParserProvider();
         }
 
+        @Bean
+        public AgentListProperties agentListProperties() {
+            return new AgentListProperties();
+        }
+
+        @Bean
+        @Validated
+        @ConfigurationProperties("web.agent-list.select.worker")
+        public ExecutorProperties agentListSelectExecutorProperties() {
+            return new ExecutorProperties();
+        }
+
+        @Bean
+        public Executor agentListSelectExecutor(@Qualifier("agentListSelectExecutorProperties") ExecutorProperties executorProperties) {
+            // hbase multi-get only, request and security context are not required
+            ExecutorCustomizer<ThreadPoolTaskExecutor> customizer = new TaskExecutorCustomizer(null);
+
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            customizer.customize(executor, executorProperties);
+
+            String beanName = CallerUtils.getCallerMethodName();
+            executor.setThreadNamePrefix(beanName);
+            return executor;
+        }
+
     }
 }
@@ -150,6 +150,25 @@ public class ApplicationMapModule {
         return executor;
     }
 
+    @Bean
+    @Validated
+    @ConfigurationProperties("web.servermap.filter.worker")
+    public ExecutorProperties filterExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    @Bean
+    public Executor filteredMapBuildExecutor(@Qualifier("filterExecutorProperties") ExecutorProperties executorProperties) {
+        ExecutorCustomizer<ThreadPoolTaskExecutor> customizer = executorCustomizer();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        customizer.customize(executor, executorProperties);
+
+        String beanName = CallerUtils.getCallerMethodName();
+        executor.setThreadNamePrefix(beanName);
+        return executor;
+    }
+
 
     public TaskDecorator contextPropagatingTaskDecorator() {
         TaskDecorator requestDecorator = new RequestContextPropagatingTaskDecorator();
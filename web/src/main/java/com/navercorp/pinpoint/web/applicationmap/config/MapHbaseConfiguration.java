@@ -125,8 +125,11 @@ public class MapHbaseConfiguration {
     }
 
     @Bean
-    public MapScanFactory mapScanFactory(RangeFactory rangeFactory) {
-        return new MapScanFactory(rangeFactory);
+    public MapScanFactory mapScanFactory(RangeFactory rangeFactory,
+                                         @Value("${web.applicationmap.rollup.enable:false}") boolean enableRollup) {
+        MapScanFactory mapScanFactory = new MapScanFactory(rangeFactory);
+        mapScanFactory.setEnableRollup(enableRollup);
+        return mapScanFactory;
     }
 
     @Bean
@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.util.MapStatisticsRollup;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapResponseDao;
 import com.navercorp.pinpoint.web.vo.Application;
@@ -46,8 +47,6 @@ public class HbaseMapResponseTimeDao implements MapResponseDao {
 
     private final Logger logger = LogManager.getLogger(this.getClass());
 
-    private static final HbaseColumnFamily.SelfStatMap DESCRIPTOR = HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER;
-
     private final RowMapper<ResponseTime> responseTimeMapper;
 
     private final HbaseOperations hbaseOperations;
@@ -78,9 +77,11 @@ public class HbaseMapResponseTimeDao implements MapResponseDao {
             logger.debug("selectResponseTime applicationName:{}, {}", application, range);
         }
 
-        Scan scan = scanFactory.createScan("MapSelfScan", application, range, DESCRIPTOR.getName());
+        final MapStatisticsRollup rollup = scanFactory.selectRollup(range);
+        final HbaseColumnFamily.SelfStatMap descriptor = rollup.getSelfStatMap();
+        Scan scan = scanFactory.createScan("MapSelfScan", application, range, rollup, descriptor.getName());
 
-        TableName mapStatisticsSelfTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        TableName mapStatisticsSelfTableName = tableNameProvider.getTableName(descriptor.getTable());
         List<ResponseTime> responseTimeList = hbaseOperations.findParallel(mapStatisticsSelfTableName, scan, rowKeyDistributor, responseTimeMapper, MAP_STATISTICS_SELF_VER2_NUM_PARTITIONS);
 
         if (responseTimeList.isEmpty()) {
@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.common.hbase.HbaseTable;
 import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.util.MapStatisticsRollup;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.mapper.MapStatisticsTimeWindowReducer;
@@ -54,8 +55,6 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
 
     private final Logger logger = LogManager.getLogger(this.getClass());
 
-    private static final HbaseColumnFamily.CallerStatMap DESCRIPTOR = HbaseColumnFamily.MAP_STATISTICS_CALLER_VER2_COUNTER;
-
     private final HbaseOperations hbaseTemplate;
     private final TableNameProvider tableNameProvider;
 
@@ -90,9 +89,11 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
         RowMapper<LinkDataMap> rowMapper = this.calleeMapperFactory.newMapper(mapperWindow);
         ResultsExtractor<LinkDataMap> resultExtractor = new RowMapReduceResultExtractor<>(rowMapper, new MapStatisticsTimeWindowReducer(timeWindow));
 
-        final Scan scan = scanFactory.createScan("MapCalleeScan", calleeApplication, range, DESCRIPTOR.getName());
+        final MapStatisticsRollup rollup = scanFactory.selectRollup(range);
+        final HbaseColumnFamily.CallerStatMap descriptor = rollup.getCallerStatMap();
+        final Scan scan = scanFactory.createScan("MapCalleeScan", calleeApplication, range, rollup, descriptor.getName());
 
-        return selectInLink(scan, DESCRIPTOR.getTable(), resultExtractor, MAP_STATISTICS_CALLER_VER2_NUM_PARTITIONS);
+        return selectInLink(scan, descriptor.getTable(), resultExtractor, MAP_STATISTICS_CALLER_VER2_NUM_PARTITIONS);
     }
 
     private TimeWindowFunction newTimeWindow(boolean timeAggregated) {
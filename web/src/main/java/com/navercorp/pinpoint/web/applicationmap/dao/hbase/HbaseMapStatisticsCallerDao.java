@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.common.hbase.HbaseTable;
 import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.util.MapStatisticsRollup;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapStatisticsCallerDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.mapper.MapStatisticsTimeWindowReducer;
@@ -55,8 +56,6 @@ public class HbaseMapStatisticsCallerDao implements MapStatisticsCallerDao {
 
     private final Logger logger = LogManager.getLogger(this.getClass());
 
-    private static final HbaseColumnFamily.CalleeStatMap DESCRIPTOR = HbaseColumnFamily.MAP_STATISTICS_CALLEE_VER2_COUNTER;
-
     private final HbaseOperations hbaseTemplate;
     private final TableNameProvider tableNameProvider;
 
@@ -89,8 +88,10 @@ public class HbaseMapStatisticsCallerDao implements MapStatisticsCallerDao {
 
         ResultsExtractor<LinkDataMap> resultExtractor = new RowMapReduceResultExtractor<>(rowMapper, new MapStatisticsTimeWindowReducer(timeWindow));
 
-        final Scan scan = scanFactory.createScan("MapCallerScan", callerApplication, range, DESCRIPTOR.getName());
-        return selectOutLink(scan, DESCRIPTOR.getTable(), resultExtractor, MAP_STATISTICS_CALLEE_VER2_NUM_PARTITIONS);
+        final MapStatisticsRollup rollup = scanFactory.selectRollup(range);
+        final HbaseColumnFamily.CalleeStatMap descriptor = rollup.getCalleeStatMap();
+        final Scan scan = scanFactory.createScan("MapCallerScan", callerApplication, range, rollup, descriptor.getName());
+        return selectOutLink(scan, descriptor.getTable(), resultExtractor, MAP_STATISTICS_CALLEE_VER2_NUM_PARTITIONS);
     }
 
     private TimeWindowFunction newTimeWindow(boolean timeAggregated) {
@@ -1,7 +1,10 @@
 package com.navercorp.pinpoint.web.applicationmap.dao.hbase;
 
 import com.navercorp.pinpoint.common.server.util.ApplicationMapStatisticsUtils;
+import com.navercorp.pinpoint.common.server.util.MapStatisticsRollup;
 import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindow;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindowDownSampler;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.RangeFactory;
 import org.apache.hadoop.hbase.client.Scan;
@@ -18,6 +21,7 @@ public class MapScanFactory {
     private final RangeFactory rangeFactory;
 
     private int scanCacheSize;
+    private boolean enableRollup;
 
     public MapScanFactory(RangeFactory rangeFactory) {
         this.rangeFactory = Objects.requireNonNull(rangeFactory, "rangeFactory");
@@ -28,8 +32,28 @@ public class MapScanFactory {
         this.scanCacheSize = scanCacheSize;
     }
 
+    public void setEnableRollup(boolean enableRollup) {
+        this.enableRollup = enableRollup;
+    }
+
+    /**
+     * Selects the coarsest resolution that still fits the time window of the range.
+     */
+    public MapStatisticsRollup selectRollup(Range range) {
+        Objects.requireNonNull(range, "range");
+        if (!enableRollup) {
+            return MapStatisticsRollup.ONE_MINUTE;
+        }
+        final TimeWindow timeWindow = new TimeWindow(range, TimeWindowDownSampler.SAMPLER);
+        return MapStatisticsRollup.select(timeWindow.getWindowSlotSize());
+    }
+
     public Scan createScan(String id, Application application, Range range, byte[] family) {
-        range = rangeFactory.createStatisticsRange(range);
+        return createScan(id, application, range, MapStatisticsRollup.ONE_MINUTE, family);
+    }
+
+    public Scan createScan(String id, Application application, Range range, MapStatisticsRollup rollup, byte[] family) {
+        range = rangeFactory.createStatisticsRange(range, rollup.getTimeSlot());
         if (logger.isDebugEnabled()) {
             logger.debug("scan time:{} ", range.prettyToString());
         }
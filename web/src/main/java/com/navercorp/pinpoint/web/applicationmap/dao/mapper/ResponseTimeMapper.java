@@ -18,9 +18,9 @@ package com.navercorp.pinpoint.web.applicationmap.dao.mapper;
 
 import com.navercorp.pinpoint.common.buffer.Buffer;
 import com.navercorp.pinpoint.common.buffer.FixedBuffer;
-import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.util.CellUtils;
+import com.navercorp.pinpoint.common.server.util.MapStatisticsRollup;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.BytesUtils;
 import com.navercorp.pinpoint.common.util.TimeUtils;
@@ -64,7 +64,7 @@ public class ResponseTimeMapper implements RowMapper<ResponseTime> {
 
         ResponseTime responseTime = createResponseTime(rowKey);
         for (Cell cell : result.rawCells()) {
-            if (CellUtil.matchingFamily(cell, HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER.getName())) {
+            if (isSelfStatistics(cell)) {
                 recordColumn(responseTime, cell);
             }
 
@@ -76,6 +76,16 @@ public class ResponseTimeMapper implements RowMapper<ResponseTime> {
         return responseTime;
     }
 
+    private boolean isSelfStatistics(Cell cell) {
+        // the same columns are stored in the column family of each resolution
+        for (MapStatisticsRollup rollup : MapStatisticsRollup.values()) {
+            if (CellUtil.matchingFamily(cell, rollup.getSelfStatMap().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     void recordColumn(ResponseTime responseTime, Cell cell) {
 
         final byte[] qArray = cell.getQualifierArray();
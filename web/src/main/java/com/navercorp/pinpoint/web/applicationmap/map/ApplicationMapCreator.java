@@ -17,6 +17,7 @@
 
 package com.navercorp.pinpoint.web.applicationmap.map;
 
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
 import com.navercorp.pinpoint.web.vo.Application;
 
@@ -27,4 +28,6 @@ public interface ApplicationMapCreator {
 
     LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext);
 
+    LinkDataDuplexMap createMap(Application application, LinkDirection linkDirection, LinkSelectContext linkSelectContext);
+
 }
@@ -31,7 +31,7 @@ import java.util.Objects;
 
 /**
  * Breadth-first link search
- * not thread safe
+ * Each level is searched concurrently and merged before the next level starts.
  *
  * @author emeroad
  * @author minwoo.jung
@@ -47,8 +47,6 @@ public class BidirectionalLinkSelector implements LinkSelector {
 
     private final ServerMapDataFilter serverMapDataFilter;
 
-    private final LinkVisitChecker linkVisitChecker = new LinkVisitChecker();
-
     BidirectionalLinkSelector(
             ApplicationsMapCreator applicationsMapCreator,
             VirtualLinkHandler virtualLinkHandler,
@@ -69,6 +67,8 @@ public class BidirectionalLinkSelector implements LinkSelector {
         final SearchDepth outDepth = new SearchDepth(outSearchDepth);
         final SearchDepth inDepth = new SearchDepth(inSearchDepth);
 
+        // visited applications are tracked per search, so a selector can serve concurrent searches
+        final LinkVisitChecker linkVisitChecker = new LinkVisitChecker();
         LinkDataDuplexMap linkDataDuplexMap = new LinkDataDuplexMap();
         List<Application> applications = filterApplications(sourceApplications);
         LinkSelectContext linkSelectContext = new LinkSelectContext(range, outDepth, inDepth, linkVisitChecker, timeAggregated);
@@ -53,9 +53,26 @@ public class DefaultApplicationMapCreator implements ApplicationMapCreator {
     @Override
     public LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext) {
         logger.debug("Finding Out/In link data for {}", application);
-        final Range range = linkSelectContext.getRange();
         LinkDataDuplexMap searchResult = new LinkDataDuplexMap();
+        selectOutLink(application, linkSelectContext, searchResult);
+        selectInLink(application, linkSelectContext, searchResult);
+        return searchResult;
+    }
 
+    @Override
+    public LinkDataDuplexMap createMap(Application application, LinkDirection linkDirection, LinkSelectContext linkSelectContext) {
+        logger.debug("Finding {} link data for {}", linkDirection, application);
+        LinkDataDuplexMap searchResult = new LinkDataDuplexMap();
+        if (LinkDirection.OUT_LINK == linkDirection) {
+            selectOutLink(application, linkSelectContext, searchResult);
+        } else {
+            selectInLink(application, linkSelectContext, searchResult);
+        }
+        return searchResult;
+    }
+
+    private void selectOutLink(Application application, LinkSelectContext linkSelectContext, LinkDataDuplexMap searchResult) {
+        final Range range = linkSelectContext.getRange();
         if (linkSelectContext.checkNextOut(application)) {
             final LinkDataMap outLinkDataMap = linkDataMapService.selectCallerLinkDataMap(application, range, linkSelectContext.isTimeAggregated());
             logger.debug("Found {}. node={}, depth={}, count={}", LinkDirection.OUT_LINK, application, linkSelectContext.getOutDepth(), outLinkDataMap.size());
@@ -73,7 +90,10 @@ public class DefaultApplicationMapCreator implements ApplicationMapCreator {
                 linkSelectContext.addNextApplication(toApplication);
             }
         }
+    }
 
+    private void selectInLink(Application application, LinkSelectContext linkSelectContext, LinkDataDuplexMap searchResult) {
+        final Range range = linkSelectContext.getRange();
         if (linkSelectContext.checkNextIn(application)) {
             final LinkDataMap inLinkDataMap = linkDataMapService.selectCalleeLinkDataMap(application, range, linkSelectContext.isTimeAggregated());
             logger.debug("Found {}. node={}, depth={}, count={}", LinkDirection.IN_LINK, application, linkSelectContext.getInDepth(), inLinkDataMap.size());
@@ -86,6 +106,5 @@ public class DefaultApplicationMapCreator implements ApplicationMapCreator {
                 linkSelectContext.addNextApplication(fromApplication);
             }
         }
-        return searchResult;
     }
 }
@@ -18,6 +18,7 @@
 package com.navercorp.pinpoint.web.applicationmap.map;
 
 import com.navercorp.pinpoint.common.util.concurrent.FutureUtils;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
 import com.navercorp.pinpoint.web.vo.Application;
 import org.apache.logging.log4j.LogManager;
@@ -31,6 +32,8 @@ import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
+ * Scans the out-links and in-links of every application of a search level concurrently.
+ *
  * @author HyunGil Jeong
  */
 public class DefaultApplicationsMapCreator implements ApplicationsMapCreator {
@@ -52,22 +55,7 @@ public class DefaultApplicationsMapCreator implements ApplicationsMapCreator {
             return new LinkDataDuplexMap();
         }
 
-        if (applications.size() > 1) {
-            return createParallel(applications, linkSelectContext);
-        }
-        return createSerial(applications, linkSelectContext);
-    }
-
-    private LinkDataDuplexMap createSerial(List<Application> applications, LinkSelectContext linkSelectContext) {
-        final LinkDataDuplexMap resultMap = new LinkDataDuplexMap();
-        for (Application application : applications) {
-            LinkDataDuplexMap searchResult = applicationMapCreator.createMap(application, linkSelectContext);
-            resultMap.addLinkDataDuplexMap(searchResult);
-        }
-        if (logger.isDebugEnabled()) {
-            logger.debug("depth search. outDepth:{}, inDepth:{}", linkSelectContext.getOutDepth(), linkSelectContext.getInDepth());
-        }
-        return resultMap;
+        return createParallel(applications, linkSelectContext);
     }
 
     private LinkDataDuplexMap createParallel(List<Application> applications, LinkSelectContext linkSelectContext) {
@@ -87,18 +75,21 @@ public class DefaultApplicationsMapCreator implements ApplicationsMapCreator {
 
 
     private CompletableFuture<List<LinkDataDuplexMap>> getLinkDataMapFutures(List<Application> targetApplicationList, LinkSelectContext linkSelectContext) {
+        final LinkDirection[] linkDirections = LinkDirection.values();
         @SuppressWarnings("unchecked")
-        CompletableFuture<LinkDataDuplexMap>[] linkDataDuplexMapFutures = new CompletableFuture[targetApplicationList.size()];
-        for (int i = 0; i < targetApplicationList.size(); i++) {
-            final Application targetApplication = targetApplicationList.get(i);
-
-            CompletableFuture<LinkDataDuplexMap> future = CompletableFuture.supplyAsync(new Supplier<>() {
-                @Override
-                public LinkDataDuplexMap get() {
-                    return applicationMapCreator.createMap(targetApplication, linkSelectContext);
-                }
-            }, executor);
-            linkDataDuplexMapFutures[i] = future;
+        CompletableFuture<LinkDataDuplexMap>[] linkDataDuplexMapFutures = new CompletableFuture[targetApplicationList.size() * linkDirections.length];
+        int index = 0;
+        for (final Application targetApplication : targetApplicationList) {
+            // out-link and in-link scans of the same application do not depend on each other
+            for (final LinkDirection linkDirection : linkDirections) {
+                CompletableFuture<LinkDataDuplexMap> future = CompletableFuture.supplyAsync(new Supplier<>() {
+                    @Override
+                    public LinkDataDuplexMap get() {
+                        return applicationMapCreator.createMap(targetApplication, linkDirection, linkSelectContext);
+                    }
+                }, executor);
+                linkDataDuplexMapFutures[index++] = future;
+            }
         }
         return FutureUtils.allOfAsync(linkDataDuplexMapFutures);
     }
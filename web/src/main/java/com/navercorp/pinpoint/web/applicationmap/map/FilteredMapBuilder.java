@@ -46,6 +46,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -78,6 +79,11 @@ public class FilteredMapBuilder {
 
     private final Map<String, Application> applicationHashMap = new HashMap<>();
 
+    private boolean deferUnresolvedRpcCalls = false;
+
+    // rpc calls without an acceptor whose alias was not seen yet
+    private final List<UnresolvedRpcCall> unresolvedRpcCalls = new ArrayList<>();
+
     public FilteredMapBuilder(ApplicationFactory applicationFactory, ServiceTypeRegistryService registry, Range range, int version) {
         this.applicationFactory = Objects.requireNonNull(applicationFactory, "applicationFactory");
         this.registry = Objects.requireNonNull(registry, "registry");
@@ -96,6 +102,16 @@ public class FilteredMapBuilder {
         return this;
     }
 
+    /**
+     * Keeps the rpc calls without an acceptor whose alias was not seen yet until this builder is merged or built,
+     * so that the aliases seen by the builders merged before this one still apply.
+     * Otherwise they are linked to an unknown node right away.
+     */
+    public FilteredMapBuilder deferUnresolvedRpcCalls(boolean deferUnresolvedRpcCalls) {
+        this.deferUnresolvedRpcCalls = deferUnresolvedRpcCalls;
+        return this;
+    }
+
     public FilteredMapBuilder addTransactions(List<List<SpanBo>> transactionList) {
         for (List<SpanBo> transaction : transactionList) {
             addTransaction(transaction);
@@ -293,6 +309,9 @@ public class FilteredMapBuilder {
 
         String dest = StringUtils.defaultString(spanEvent.getDestinationId(), "Unknown");
 
+        // FIXME
+        final long spanEventTimeStamp = timeWindow.refineTimestamp(span.getStartTime() + spanEvent.getStartElapsed());
+
         // convert to Unknown if destServiceType is a rpc client and there is no acceptor.
         // acceptor exists if there is a span with spanId identical to the current spanEvent's next spanId.
         // logic for checking acceptor
@@ -301,6 +320,10 @@ public class FilteredMapBuilder {
 
                 Application replacedApplication = applicationHashMap.get(spanEvent.getDestinationId());
                 if (replacedApplication == null) {
+                    if (deferUnresolvedRpcCalls) {
+                        unresolvedRpcCalls.add(new UnresolvedRpcCall(srcApplication, span.getAgentId(), spanEvent, dest, spanEventTimeStamp));
+                        return;
+                    }
                     destServiceType = ServiceType.UNKNOWN;
                 } else {
                     //replace with alias instead of Unkown when exists
@@ -311,30 +334,66 @@ public class FilteredMapBuilder {
             }
         }
 
-
         final Application destApplication = this.applicationFactory.createApplication(dest, destServiceType);
+        addNodeLinkData(sourceLinkDataMap, srcApplication, span.getAgentId(), destApplication, spanEvent.getEndPoint(),
+                spanEventTimeStamp, spanEvent.hasException(), spanEvent.getEndElapsed());
+    }
 
-        final short slotTime = getHistogramSlotTime(spanEvent, destServiceType);
-
-        // FIXME
-        final long spanEventTimeStamp = timeWindow.refineTimestamp(span.getStartTime() + spanEvent.getStartElapsed());
+    private void addNodeLinkData(LinkDataMap sourceLinkDataMap, Application srcApplication, String srcAgentId,
+                                 Application destApplication, String endPoint,
+                                 long timestamp, boolean hasException, int elapsed) {
+        final short slotTime = getHistogramSlotTime(hasException, elapsed, destApplication.getServiceType());
         if (logger.isTraceEnabled()) {
-            logger.trace("spanEvent  src:{} {} -> dest:{} {}", srcApplication, span.getAgentId(), destApplication, spanEvent.getEndPoint());
+            logger.trace("spanEvent  src:{} {} -> dest:{} {}", srcApplication, srcAgentId, destApplication, endPoint);
         }
         // endPoint may be null
-        final String destinationAgentId = StringUtils.defaultString(spanEvent.getEndPoint(), destApplication.getName());
-        sourceLinkDataMap.addLinkData(srcApplication, span.getAgentId(), destApplication, destinationAgentId, spanEventTimeStamp, slotTime, 1);
+        final String destinationAgentId = StringUtils.defaultString(endPoint, destApplication.getName());
+        sourceLinkDataMap.addLinkData(srcApplication, srcAgentId, destApplication, destinationAgentId, timestamp, slotTime, 1);
+    }
+
+    private void addUnresolvedRpcCall(UnresolvedRpcCall call, Application destApplication) {
+        final LinkDataMap sourceLinkDataMap = linkDataDuplexMap.getSourceLinkDataMap();
+        addNodeLinkData(sourceLinkDataMap, call.srcApplication, call.srcAgentId, destApplication, call.endPoint,
+                call.timestamp, call.hasException, call.elapsed);
+    }
+
+    /**
+     * Folds the aggregates of a builder that processed another part of the transactions into this builder.
+     * Builders of the same range and version can be filled concurrently and merged afterward.
+     * When unresolved rpc calls are deferred, {@code other} must hold the transactions that follow the ones of this builder,
+     * so that its rpc calls without an acceptor see the same aliases as when a single builder is used.
+     */
+    public FilteredMapBuilder merge(FilteredMapBuilder other) {
+        Objects.requireNonNull(other, "other");
+
+        this.linkDataDuplexMap.addLinkDataDuplexMap(other.linkDataDuplexMap);
+        this.responseHistogramsBuilder.addHistograms(other.responseHistogramsBuilder);
+        this.dotExtractor.addDots(other.dotExtractor);
+        for (UnresolvedRpcCall call : other.unresolvedRpcCalls) {
+            final Application replacedApplication = applicationHashMap.get(call.destinationId);
+            if (replacedApplication == null) {
+                this.unresolvedRpcCalls.add(call);
+            } else {
+                addUnresolvedRpcCall(call, replacedApplication);
+            }
+        }
+        for (Map.Entry<String, Application> entry : other.applicationHashMap.entrySet()) {
+            this.applicationHashMap.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        return this;
     }
 
     public FilteredMap build() {
+        for (UnresolvedRpcCall call : unresolvedRpcCalls) {
+            final Application unknownApplication = this.applicationFactory.createApplication(call.dest, ServiceType.UNKNOWN);
+            addUnresolvedRpcCall(call, unknownApplication);
+        }
+        unresolvedRpcCalls.clear();
+
         ResponseHistograms responseHistograms = responseHistogramsBuilder.build();
         return new FilteredMap(linkDataDuplexMap, responseHistograms, dotExtractor);
     }
 
-    private short getHistogramSlotTime(SpanEventBo spanEvent, ServiceType serviceType) {
-        return getHistogramSlotTime(spanEvent.hasException(), spanEvent.getEndElapsed(), serviceType);
-    }
-
     private short getHistogramSlotTime(SpanBo span, ServiceType serviceType) {
         boolean allException = span.getErrCode() != 0;
         return getHistogramSlotTime(allException, span.getElapsed(), serviceType);
@@ -345,4 +404,26 @@ public class FilteredMapBuilder {
         final HistogramSlot histogramSlot = schema.findHistogramSlot(elapsedTime, hasException);
         return histogramSlot.getSlotTime();
     }
+
+    private static class UnresolvedRpcCall {
+        private final Application srcApplication;
+        private final String srcAgentId;
+        private final String destinationId;
+        private final String dest;
+        private final String endPoint;
+        private final long timestamp;
+        private final boolean hasException;
+        private final int elapsed;
+
+        private UnresolvedRpcCall(Application srcApplication, String srcAgentId, SpanEventBo spanEvent, String dest, long timestamp) {
+            this.srcApplication = srcApplication;
+            this.srcAgentId = srcAgentId;
+            this.destinationId = spanEvent.getDestinationId();
+            this.dest = dest;
+            this.endPoint = spanEvent.getEndPoint();
+            this.timestamp = timestamp;
+            this.hasException = spanEvent.hasException();
+            this.elapsed = spanEvent.getEndElapsed();
+        }
+    }
 }
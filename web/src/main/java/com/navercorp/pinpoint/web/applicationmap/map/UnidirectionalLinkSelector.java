@@ -44,8 +44,6 @@ public class UnidirectionalLinkSelector implements LinkSelector {
 
     private final ServerMapDataFilter serverMapDataFilter;
 
-    private final LinkVisitChecker linkVisitChecker = new LinkVisitChecker();
-
     UnidirectionalLinkSelector(
             ApplicationsMapCreator applicationsMapCreator,
             VirtualLinkHandler virtualLinkHandler,
@@ -66,6 +64,8 @@ public class UnidirectionalLinkSelector implements LinkSelector {
         final SearchDepth outDepth = new SearchDepth(outSearchDepth);
         final SearchDepth inDepth = new SearchDepth(inSearchDepth);
 
+        // visited applications are tracked per search, so a selector can serve concurrent searches
+        final LinkVisitChecker linkVisitChecker = new LinkVisitChecker();
         LinkDataDuplexMap linkDataDuplexMap = new LinkDataDuplexMap();
         List<Application> applications = filterApplications(sourceApplications);
 
@@ -17,7 +17,6 @@
 
 package com.navercorp.pinpoint.web.applicationmap.service;
 
-import com.navercorp.pinpoint.common.hbase.bo.ColumnGetCount;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.util.time.Range;
@@ -41,10 +40,13 @@ import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.scatter.ScatterData;
 import com.navercorp.pinpoint.web.security.ServerMapDataFilter;
 import com.navercorp.pinpoint.web.service.ServerInstanceDatasourceService;
+import com.navercorp.pinpoint.web.util.PartitionSelector;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StopWatch;
@@ -56,6 +58,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * @author netspider
@@ -81,6 +84,12 @@ public class FilteredMapServiceImpl implements FilteredMapService {
 
     private final ApplicationMapBuilderFactory applicationMapBuilderFactory;
 
+    private final PartitionSelector partitionSelector;
+
+    private final int partitionSize;
+
+    private final int partitionConcurrency;
+
     private static final Object V = new Object();
 
     @Value("${web.servermap.build.timeout:600000}")
@@ -92,7 +101,11 @@ public class FilteredMapServiceImpl implements FilteredMapService {
                                   ApplicationFactory applicationFactory,
                                   ServerInstanceDatasourceService serverInstanceDatasourceService,
                                   Optional<ServerMapDataFilter> serverMapDataFilter,
-                                  ApplicationMapBuilderFactory applicationMapBuilderFactory) {
+                                  ApplicationMapBuilderFactory applicationMapBuilderFactory,
+                                  @Qualifier("filteredMapBuildExecutor") Executor filteredMapBuildExecutor,
+                                  @Value("${web.servermap.filter.partition.size:500}") int partitionSize,
+                                  @Value("${web.servermap.filter.partition.concurrency:1}") int partitionConcurrency,
+                                  @Value("${web.servermap.filter.partition.timeout:600000}") long partitionTimeoutMillis) {
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
         this.applicationTraceIndexDao = Objects.requireNonNull(applicationTraceIndexDao, "applicationTraceIndexDao");
         this.registry = Objects.requireNonNull(registry, "registry");
@@ -100,6 +113,12 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         this.serverInstanceDatasourceService = Objects.requireNonNull(serverInstanceDatasourceService, "serverInstanceDatasourceService");
         this.serverMapDataFilter = Objects.requireNonNull(serverMapDataFilter, "serverMapDataFilter").orElse(null);
         this.applicationMapBuilderFactory = Objects.requireNonNull(applicationMapBuilderFactory, "applicationMapBuilderFactory");
+        if (partitionSize < 1) {
+            throw new IllegalArgumentException("partitionSize must be greater than 0");
+        }
+        this.partitionSize = partitionSize;
+        this.partitionConcurrency = partitionConcurrency;
+        this.partitionSelector = new PartitionSelector(filteredMapBuildExecutor, partitionConcurrency, partitionTimeoutMillis);
     }
 
     @Override
@@ -119,22 +138,8 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         return this.applicationTraceIndexDao.scanTraceIndex(applicationName, range, limit, backwardDirection);
     }
 
-    private List<List<SpanBo>> filterList2(List<List<SpanBo>> transactionList, Filter<List<SpanBo>> filter) {
-        final List<List<SpanBo>> filteredResult = new ArrayList<>();
-        for (List<SpanBo> transaction : transactionList) {
-            if (filter.include(transaction)) {
-                filteredResult.add(transaction);
-            }
-        }
-        return filteredResult;
-    }
-
     public ApplicationMap selectApplicationMap(FilteredMapServiceOption option) {
-        final List<List<SpanBo>> filterList = selectFilteredSpan(option.getTransactionIdList(), option.getFilter(), option.getColumnGetCount());
-        FilteredMapBuilder filteredMapBuilder = new FilteredMapBuilder(applicationFactory, registry, option.getOriginalRange(), option.getVersion());
-        filteredMapBuilder.serverMapDataFilter(serverMapDataFilter);
-        filteredMapBuilder.addTransactions(filterList);
-        FilteredMap filteredMap = filteredMapBuilder.build();
+        final FilteredMap filteredMap = selectFilteredMap(option);
 
         return createMap(option, filteredMap);
     }
@@ -143,11 +148,7 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         StopWatch watch = new StopWatch();
         watch.start();
 
-        final List<List<SpanBo>> filterList = selectFilteredSpan(option.getTransactionIdList(), option.getFilter(), option.getColumnGetCount());
-        FilteredMapBuilder filteredMapBuilder = new FilteredMapBuilder(applicationFactory, registry, option.getOriginalRange(), option.getVersion());
-        filteredMapBuilder.serverMapDataFilter(serverMapDataFilter);
-        filteredMapBuilder.addTransactions(filterList);
-        FilteredMap filteredMap = filteredMapBuilder.build();
+        final FilteredMap filteredMap = selectFilteredMap(option);
 
         ApplicationMap map = createMap(option, filteredMap);
 
@@ -160,15 +161,58 @@ public class FilteredMapServiceImpl implements FilteredMapService {
     }
 
 
-    private List<List<SpanBo>> selectFilteredSpan(List<TransactionId> transactionIdList, Filter<List<SpanBo>> filter, ColumnGetCount columnGetCount) {
+    private FilteredMap selectFilteredMap(FilteredMapServiceOption option) {
         // filters out recursive calls by looking at each objects
         // do not filter here if we change to a tree-based collision check in the future.
-        final List<TransactionId> recursiveFilterList = recursiveCallFilter(transactionIdList);
+        final List<TransactionId> recursiveFilterList = recursiveCallFilter(option.getTransactionIdList());
+
+        // spans of a partition are folded into its builder and released before the next partition is fetched,
+        // so memory follows the map size instead of the number of transactions
+        final List<List<TransactionId>> partitions = partition(recursiveFilterList);
+        if (partitionConcurrency == 1 || partitions.size() == 1) {
+            // a single builder resolves the aliases in transaction order
+            final FilteredMapBuilder filteredMapBuilder = newFilteredMapBuilder(option);
+            for (List<TransactionId> partition : partitions) {
+                addPartition(filteredMapBuilder, partition, option);
+            }
+            return filteredMapBuilder.build();
+        }
 
-        // FIXME might be better to simply traverse the List<Span> and create a process chain for execution
-        final List<List<SpanBo>> originalList = this.traceDao.selectAllSpans(recursiveFilterList, columnGetCount);
+        // rpc calls without an acceptor are resolved against the aliases of the preceding partitions on merge
+        final List<FilteredMapBuilder> builders = partitionSelector.select(partitions, partition -> {
+            final FilteredMapBuilder filteredMapBuilder = newFilteredMapBuilder(option)
+                    .deferUnresolvedRpcCalls(true);
+            addPartition(filteredMapBuilder, partition, option);
+            return List.of(filteredMapBuilder);
+        });
+
+        final FilteredMapBuilder filteredMapBuilder = builders.get(0);
+        for (int i = 1; i < builders.size(); i++) {
+            filteredMapBuilder.merge(builders.get(i));
+        }
+        return filteredMapBuilder.build();
+    }
+
+    private List<List<TransactionId>> partition(List<TransactionId> transactionIdList) {
+        if (transactionIdList.size() <= partitionSize) {
+            return List.of(transactionIdList);
+        }
+        return ListUtils.partition(transactionIdList, partitionSize);
+    }
 
-        return filterList2(originalList, filter);
+    private FilteredMapBuilder newFilteredMapBuilder(FilteredMapServiceOption option) {
+        final FilteredMapBuilder filteredMapBuilder = new FilteredMapBuilder(applicationFactory, registry, option.getOriginalRange(), option.getVersion());
+        return filteredMapBuilder.serverMapDataFilter(serverMapDataFilter);
+    }
+
+    private void addPartition(FilteredMapBuilder filteredMapBuilder, List<TransactionId> transactionIdList, FilteredMapServiceOption option) {
+        final Filter<List<SpanBo>> filter = option.getFilter();
+        final List<List<SpanBo>> transactionList = this.traceDao.selectAllSpans(transactionIdList, option.getColumnGetCount());
+        for (List<SpanBo> transaction : transactionList) {
+            if (filter.include(transaction)) {
+                filteredMapBuilder.addTransaction(transaction);
+            }
+        }
     }
 
     private ApplicationMap createMap(FilteredMapServiceOption option, FilteredMap filteredMap) {
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindow;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindowDownSampler;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindowFunction;
+import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkCallData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Caches the link statistics of an application per one minute bucket.
+ * <p>
+ * A bucket is cached once it is older than {@code bucketDelayMillis}, so repeated requests over a sliding window
+ * only scan the minutes that are not cached yet and the trailing minutes that may still receive data.
+ * Only ranges resolved with a one minute time window are served from the cache.
+ */
+public class LinkDataMapCache {
+
+    private static final long BUCKET_SIZE = TimeUnit.MINUTES.toMillis(1);
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Cache<BucketKey, LinkDataMap> cache;
+    private final long bucketDelayMillis;
+    private final Clock clock;
+
+    public LinkDataMapCache(long maximumSize, long expireAfterWriteSeconds, long bucketDelayMillis) {
+        this(maximumSize, expireAfterWriteSeconds, bucketDelayMillis, Clock.systemUTC());
+    }
+
+    LinkDataMapCache(long maximumSize, long expireAfterWriteSeconds, long bucketDelayMillis, Clock clock) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0");
+        }
+        if (expireAfterWriteSeconds < 1) {
+            throw new IllegalArgumentException("expireAfterWriteSeconds must be greater than 0");
+        }
+        if (bucketDelayMillis < 0) {
+            throw new IllegalArgumentException("bucketDelayMillis must not be negative");
+        }
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+                .maximumSize(maximumSize)
+                .build();
+        this.bucketDelayMillis = bucketDelayMillis;
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    public boolean isCacheable(Range range) {
+        Objects.requireNonNull(range, "range");
+        return TimeWindowDownSampler.SAMPLER.getWindowSize(range) == BUCKET_SIZE;
+    }
+
+    /**
+     * @param selector selects the link statistics of a range with per minute timestamps
+     */
+    public LinkDataMap select(LinkDirection direction, Application application, Range range, boolean timeAggregated,
+                              Function<Range, LinkDataMap> selector) {
+        Objects.requireNonNull(direction, "direction");
+        Objects.requireNonNull(application, "application");
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(selector, "selector");
+
+        final LinkDataMap bucketResult = new LinkDataMap(timeAggregated ? TimeWindowFunction.ALL_IN_ONE : TimeWindowFunction.identity());
+
+        final long firstBucket = toBucket(range.getFrom());
+        final long lastBucket = toBucket(range.getTo());
+        final long closedBucketLimit = clock.millis() - bucketDelayMillis - BUCKET_SIZE;
+
+        long missFrom = -1;
+        long bucket = firstBucket;
+        for (; bucket <= lastBucket && bucket <= closedBucketLimit; bucket += BUCKET_SIZE) {
+            final LinkDataMap cached = cache.getIfPresent(new BucketKey(direction, application, bucket));
+            if (cached == null) {
+                if (missFrom == -1) {
+                    missFrom = bucket;
+                }
+                continue;
+            }
+            if (missFrom != -1) {
+                selectClosedBuckets(direction, application, missFrom, bucket - BUCKET_SIZE, selector, bucketResult);
+                missFrom = -1;
+            }
+            bucketResult.addLinkDataMap(cached);
+        }
+        if (missFrom != -1) {
+            selectClosedBuckets(direction, application, missFrom, bucket - BUCKET_SIZE, selector, bucketResult);
+        }
+        if (bucket <= lastBucket) {
+            // open buckets may still receive data from the collector
+            final LinkDataMap openBuckets = selector.apply(Range.between(bucket, range.getTo()));
+            bucketResult.addLinkDataMap(openBuckets);
+        }
+
+        final LinkDataMap result = new LinkDataMap(new TimeWindow(range, TimeWindowDownSampler.SAMPLER));
+        result.addLinkDataMap(bucketResult);
+        return result;
+    }
+
+    private void selectClosedBuckets(LinkDirection direction, Application application, long fromBucket, long toBucket,
+                                     Function<Range, LinkDataMap> selector, LinkDataMap bucketResult) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("select {} {} buckets {}", direction, application, Range.between(fromBucket, toBucket).prettyToString());
+        }
+        final LinkDataMap linkDataMap = selector.apply(Range.between(fromBucket, toBucket));
+        final Map<Long, LinkDataMap> buckets = splitBucket(linkDataMap);
+        for (long bucket = fromBucket; bucket <= toBucket; bucket += BUCKET_SIZE) {
+            // empty buckets are cached as well, so idle links are not scanned again
+            final LinkDataMap bucketLinkDataMap = buckets.getOrDefault(bucket, new LinkDataMap());
+            cache.put(new BucketKey(direction, application, bucket), bucketLinkDataMap);
+            bucketResult.addLinkDataMap(bucketLinkDataMap);
+        }
+    }
+
+    private Map<Long, LinkDataMap> splitBucket(LinkDataMap linkDataMap) {
+        final Map<Long, LinkDataMap> buckets = new HashMap<>();
+        for (LinkData linkData : linkDataMap.getLinkDataList()) {
+            for (LinkCallData linkCallData : linkData.getLinkCallDataMap().getLinkDataList()) {
+                for (TimeHistogram timeHistogram : linkCallData.getTimeHistogram()) {
+                    final long bucket = toBucket(timeHistogram.getTimeStamp());
+                    final LinkData bucketLinkData = new LinkData(linkData.getFromApplication(), linkData.getToApplication());
+                    bucketLinkData.getLinkCallDataMap().addCallData(linkCallData.getSource(), linkCallData.getTarget(), List.of(timeHistogram));
+
+                    final LinkDataMap bucketLinkDataMap = buckets.computeIfAbsent(bucket, k -> new LinkDataMap());
+                    bucketLinkDataMap.addLinkData(bucketLinkData);
+                }
+            }
+        }
+        return buckets;
+    }
+
+    private static long toBucket(long timestamp) {
+        return timestamp - (timestamp % BUCKET_SIZE);
+    }
+
+    private record BucketKey(LinkDirection direction, Application application, long bucket) {
+    }
+}
@@ -20,8 +20,10 @@ package com.navercorp.pinpoint.web.applicationmap.service;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapStatisticsCallerDao;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.vo.Application;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
@@ -36,18 +38,38 @@ public class LinkDataMapServiceImpl implements LinkDataMapService {
 
     private final MapStatisticsCalleeDao mapStatisticsCalleeDao;
 
-    public LinkDataMapServiceImpl(MapStatisticsCallerDao mapStatisticsCallerDao, MapStatisticsCalleeDao mapStatisticsCalleeDao) {
+    // @Nullable
+    private final LinkDataMapCache linkDataMapCache;
+
+    public LinkDataMapServiceImpl(MapStatisticsCallerDao mapStatisticsCallerDao, MapStatisticsCalleeDao mapStatisticsCalleeDao,
+                                  @Value("${web.servermap.cache.enable:false}") boolean cacheEnable,
+                                  @Value("${web.servermap.cache.maximumSize:100000}") long cacheMaximumSize,
+                                  @Value("${web.servermap.cache.expireAfterWrite:600}") long cacheExpireAfterWriteSeconds,
+                                  @Value("${web.servermap.cache.bucket.delay:60000}") long cacheBucketDelayMillis) {
         this.mapStatisticsCallerDao = Objects.requireNonNull(mapStatisticsCallerDao, "mapStatisticsCallerDao");
         this.mapStatisticsCalleeDao = Objects.requireNonNull(mapStatisticsCalleeDao, "mapStatisticsCalleeDao");
+        if (cacheEnable) {
+            this.linkDataMapCache = new LinkDataMapCache(cacheMaximumSize, cacheExpireAfterWriteSeconds, cacheBucketDelayMillis);
+        } else {
+            this.linkDataMapCache = null;
+        }
     }
 
     @Override
     public LinkDataMap selectCallerLinkDataMap(Application application, Range range, boolean timeAggregated) {
-        return mapStatisticsCallerDao.selectCaller(application, range, timeAggregated);
+        if (linkDataMapCache == null || !linkDataMapCache.isCacheable(range)) {
+            return mapStatisticsCallerDao.selectCaller(application, range, timeAggregated);
+        }
+        return linkDataMapCache.select(LinkDirection.OUT_LINK, application, range, timeAggregated,
+                bucketRange -> mapStatisticsCallerDao.selectCaller(application, bucketRange, false));
     }
 
     @Override
     public LinkDataMap selectCalleeLinkDataMap(Application application, Range range, boolean timeAggregated) {
-        return mapStatisticsCalleeDao.selectCallee(application, range, timeAggregated);
+        if (linkDataMapCache == null || !linkDataMapCache.isCacheable(range)) {
+            return mapStatisticsCalleeDao.selectCallee(application, range, timeAggregated);
+        }
+        return linkDataMapCache.select(LinkDirection.IN_LINK, application, range, timeAggregated,
+                bucketRange -> mapStatisticsCalleeDao.selectCallee(application, bucketRange, false));
     }
 }
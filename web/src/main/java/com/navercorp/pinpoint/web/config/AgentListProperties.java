@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.config;
+
+import org.springframework.beans.factory.annotation.Value;
+
+public class AgentListProperties {
+
+    @Value("${web.agent-list.select.batch-size:100}")
+    private int selectBatchSize;
+
+    @Value("${web.agent-list.select.concurrency:1}")
+    private int selectConcurrency;
+
+    @Value("${web.agent-list.select.timeout:60000}")
+    private long selectTimeoutMillis;
+
+    @Value("${web.agent-list.status.cache.ttl:0}")
+    private long statusCacheTtlMillis;
+
+    @Value("${web.agent-list.status.cache.maximumSize:100000}")
+    private long statusCacheMaximumSize;
+
+    public int getSelectBatchSize() {
+        return selectBatchSize;
+    }
+
+    public int getSelectConcurrency() {
+        return selectConcurrency;
+    }
+
+    public long getSelectTimeoutMillis() {
+        return selectTimeoutMillis;
+    }
+
+    public long getStatusCacheTtlMillis() {
+        return statusCacheTtlMillis;
+    }
+
+    public long getStatusCacheMaximumSize() {
+        return statusCacheMaximumSize;
+    }
+
+    public boolean isEnableStatusCache() {
+        return statusCacheTtlMillis > 0;
+    }
+}
@@ -7,7 +7,14 @@ public class ScatterChartProperties {
     @Value("${web.scatter.serverside-scan.use-fuzzyrowfilter:false}")
     private boolean enableFuzzyRowFilter;
 
+    @Value("${web.scatter.async-merge-scan.enable:false}")
+    private boolean enableAsyncMergeScan;
+
     public boolean isEnableFuzzyRowFilter() {
         return enableFuzzyRowFilter;
     }
+
+    public boolean isEnableAsyncMergeScan() {
+        return enableAsyncMergeScan;
+    }
 }
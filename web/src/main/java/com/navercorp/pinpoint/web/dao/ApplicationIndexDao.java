@@ -33,6 +33,11 @@ public interface ApplicationIndexDao {
 
     List<String> selectAgentIds(String applicationName);
 
+    /**
+     * @return the agent ids of each application, in the order of the given application names
+     */
+    List<List<String>> selectAgentIdsByApplicationNames(List<String> applicationNames);
+
     void deleteApplicationName(String applicationName);
 
     void deleteAgentIds(Map<String, List<String>> applicationAgentIdMap);
@@ -89,6 +89,24 @@ public class HbaseApplicationIndexDao implements ApplicationIndexDao {
         return selectApplicationIndex0(applicationName, agentIdMapper);
     }
 
+    @Override
+    public List<List<String>> selectAgentIdsByApplicationNames(List<String> applicationNames) {
+        Objects.requireNonNull(applicationNames, "applicationNames");
+        if (applicationNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Get> gets = new ArrayList<>(applicationNames.size());
+        for (String applicationName : applicationNames) {
+            Get get = new Get(Bytes.toBytes(applicationName));
+            get.addFamily(DESCRIPTOR.getName());
+            gets.add(get);
+        }
+
+        TableName applicationIndexTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        return hbaseOperations.get(applicationIndexTableName, gets, agentIdMapper);
+    }
+
     private <T> List<T> selectApplicationIndex0(String applicationName, RowMapper<List<T>> rowMapper) {
         Objects.requireNonNull(applicationName, "applicationName");
         Objects.requireNonNull(rowMapper, "rowMapper");
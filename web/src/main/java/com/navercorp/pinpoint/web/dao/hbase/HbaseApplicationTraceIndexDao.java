@@ -20,8 +20,10 @@ import com.navercorp.pinpoint.common.PinpointConstants;
 import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations;
 import com.navercorp.pinpoint.common.hbase.LimitEventHandler;
+import com.navercorp.pinpoint.common.hbase.LimitRowMapperResultsExtractor;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.hbase.async.HbaseAsyncTemplate;
 import com.navercorp.pinpoint.common.hbase.util.CellUtils;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.serializer.agent.ApplicationNameRowKeyEncoder;
@@ -75,6 +77,7 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
     private final ScatterChartProperties scatterChartProperties;
 
     private final HbaseOperations hbaseOperations;
+    private final HbaseAsyncTemplate asyncTemplate;
     private final TableNameProvider tableNameProvider;
 
     private final FuzzyRowKeyBuilder fuzzyRowKeyBuilder = new FuzzyRowKeyBuilder();
@@ -91,12 +94,14 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
 
     public HbaseApplicationTraceIndexDao(ScatterChartProperties scatterChartProperties,
                                          HbaseOperations hbaseOperations,
+                                         @Qualifier("asyncTemplate") HbaseAsyncTemplate asyncTemplate,
                                          TableNameProvider tableNameProvider,
                                          @Qualifier("transactionIdMapper") RowMapper<List<TransactionId>> traceIndexMapper,
                                          @Qualifier("traceIndexScatterMapper") RowMapper<List<Dot>> traceIndexScatterMapper,
                                          @Qualifier("applicationTraceIndexDistributor") AbstractRowKeyDistributor traceIdRowKeyDistributor) {
         this.scatterChartProperties = Objects.requireNonNull(scatterChartProperties, "scatterChartProperties");
         this.hbaseOperations = Objects.requireNonNull(hbaseOperations, "hbaseOperations");
+        this.asyncTemplate = Objects.requireNonNull(asyncTemplate, "asyncTemplate");
         this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
         this.traceIndexMapper = Objects.requireNonNull(traceIndexMapper, "traceIndexMapper");
         this.traceIndexScatterMapper = Objects.requireNonNull(traceIndexScatterMapper, "traceIndexScatterMapper");
@@ -135,8 +140,8 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
 
         LastRowAccessor lastRowAccessor = new LastRowAccessor();
         TableName applicationTraceIndexTableName = tableNameProvider.getTableName(INDEX.getTable());
-        List<List<TransactionId>> traceIndexList = hbaseOperations.findParallel(applicationTraceIndexTableName,
-                scan, traceIdRowKeyDistributor, limit, traceIndexMapper, lastRowAccessor, APPLICATION_TRACE_INDEX_NUM_PARTITIONS);
+        List<List<TransactionId>> traceIndexList = findParallel(applicationTraceIndexTableName,
+                scan, limit, traceIndexMapper, lastRowAccessor);
 
         List<TransactionId> transactionIdSum = ListListUtils.toList(traceIndexList);
         final long lastTime = getLastTime(range, limit, lastRowAccessor, transactionIdSum);
@@ -144,6 +149,14 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         return new LimitedScanResult<>(lastTime, transactionIdSum);
     }
 
+    private <T> List<T> findParallel(TableName tableName, Scan scan, int limit, RowMapper<T> mapper, LimitEventHandler limitEventHandler) {
+        if (scatterChartProperties.isEnableAsyncMergeScan()) {
+            final LimitRowMapperResultsExtractor<T> resultsExtractor = new LimitRowMapperResultsExtractor<>(mapper, limit, limitEventHandler);
+            return asyncTemplate.executeMergeDistributedScan(tableName, scan, traceIdRowKeyDistributor, resultsExtractor);
+        }
+        return hbaseOperations.findParallel(tableName, scan, traceIdRowKeyDistributor, limit, mapper, limitEventHandler, APPLICATION_TRACE_INDEX_NUM_PARTITIONS);
+    }
+
     private <T> long getLastTime(Range range, int limit, LastRowAccessor lastRowAccessor, List<T> list) {
         if (list.size() >= limit) {
             Long lastRowTimestamp = lastRowAccessor.getLastRowTimestamp();
@@ -248,8 +261,7 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         Scan scan = createScan(applicationName, range, scanBackward, -1);
 
         TableName applicationTraceIndexTableName = tableNameProvider.getTableName(INDEX.getTable());
-        List<List<Dot>> listList = hbaseOperations.findParallel(applicationTraceIndexTableName, scan,
-                traceIdRowKeyDistributor, limit, this.traceIndexScatterMapper, APPLICATION_TRACE_INDEX_NUM_PARTITIONS);
+        List<List<Dot>> listList = findParallel(applicationTraceIndexTableName, scan, limit, this.traceIndexScatterMapper, lastRowAccessor);
         List<Dot> dots = ListListUtils.toList(listList);
 
         final long lastTime = getLastTime(range, limit, lastRowAccessor, dots);
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations;
+import com.navercorp.pinpoint.common.hbase.RowMapper;
+import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.util.HeatMapStatisticsUtils;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.dao.HeatMapDao;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapCount;
+import com.navercorp.pinpoint.web.util.ListListUtils;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Repository
+public class HbaseHeatMapDao implements HeatMapDao {
+
+    private static final int APPLICATION_HEATMAP_NUM_PARTITIONS = 8;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private static final HbaseColumnFamily.ApplicationHeatMap DESCRIPTOR = HbaseColumnFamily.APPLICATION_HEATMAP_COUNTER;
+
+    private int scanCacheSize = 64;
+
+    private final HbaseOperations hbaseOperations;
+    private final TableNameProvider tableNameProvider;
+
+    private final RowMapper<List<HeatMapCount>> heatMapCountMapper;
+
+    private final RowKeyDistributorByHashPrefix rowKeyDistributor;
+
+    public HbaseHeatMapDao(HbaseOperations hbaseOperations,
+                           TableNameProvider tableNameProvider,
+                           @Qualifier("heatMapCountMapper") RowMapper<List<HeatMapCount>> heatMapCountMapper,
+                           @Qualifier("statisticsSelfRowKeyDistributor") RowKeyDistributorByHashPrefix rowKeyDistributor) {
+        this.hbaseOperations = Objects.requireNonNull(hbaseOperations, "hbaseOperations");
+        this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
+        this.heatMapCountMapper = Objects.requireNonNull(heatMapCountMapper, "heatMapCountMapper");
+        this.rowKeyDistributor = Objects.requireNonNull(rowKeyDistributor, "rowKeyDistributor");
+    }
+
+    public void setScanCacheSize(int scanCacheSize) {
+        this.scanCacheSize = scanCacheSize;
+    }
+
+    @Override
+    public List<HeatMapCount> selectHeatMap(String applicationName, Range range) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("selectHeatMap applicationName:{}, {}", applicationName, range);
+        }
+
+        final Scan scan = createScan(applicationName, range);
+        final TableName heatMapTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        final List<List<HeatMapCount>> rows = hbaseOperations.findParallel(heatMapTableName, scan, rowKeyDistributor, heatMapCountMapper, APPLICATION_HEATMAP_NUM_PARTITIONS);
+
+        // rows are one minute wide, drop the time slots outside the range
+        final List<HeatMapCount> result = new ArrayList<>();
+        for (HeatMapCount count : ListListUtils.toList(rows)) {
+            if (count.acceptedTime() + HeatMapStatisticsUtils.TIME_SLOT_SIZE <= range.getFrom()) {
+                continue;
+            }
+            if (count.acceptedTime() > range.getTo()) {
+                continue;
+            }
+            result.add(count);
+        }
+        return result;
+    }
+
+    private Scan createScan(String applicationName, Range range) {
+        final long fromSlot = HeatMapStatisticsUtils.getRowTimeSlot(range.getFrom());
+        final long toSlot = HeatMapStatisticsUtils.getRowTimeSlot(range.getTo());
+
+        // start key is replaced by end key because timestamp has been reversed
+        final byte[] startKey = HeatMapStatisticsUtils.makeRowKey(applicationName, toSlot);
+        // stop row is exclusive, stop at the row before the first slot
+        final byte[] endKey = HeatMapStatisticsUtils.makeRowKey(applicationName, fromSlot - HeatMapStatisticsUtils.ROW_TIME_SLOT_SIZE);
+
+        final Scan scan = new Scan();
+        scan.setCaching(this.scanCacheSize);
+        scan.withStartRow(startKey);
+        scan.withStopRow(endKey);
+        scan.addFamily(DESCRIPTOR.getName());
+        scan.setId("HeatMapScan");
+        return scan;
+    }
+}
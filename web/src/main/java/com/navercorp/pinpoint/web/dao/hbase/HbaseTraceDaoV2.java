@@ -33,6 +33,7 @@ import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncoder;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.mapper.SpanMapperFactory;
 import com.navercorp.pinpoint.web.service.FetchResult;
+import com.navercorp.pinpoint.web.util.PartitionSelector;
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
@@ -53,6 +54,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -84,14 +86,20 @@ public class HbaseTraceDaoV2 implements TraceDao {
 
     private final Filter spanFilter = createSpanQualifierFilter();
 
+    private final PartitionSelector partitionSelector;
+
     public HbaseTraceDaoV2(HbaseOperations template2,
                            TableNameProvider tableNameProvider,
                            @Qualifier("traceRowKeyEncoderV2") RowKeyEncoder<TransactionId> rowKeyEncoder,
-                           SpanMapperFactory spanMapperFactory) {
+                           SpanMapperFactory spanMapperFactory,
+                           @Qualifier("traceSelectExecutor") Executor traceSelectExecutor,
+                           @Value("${web.hbase.trace.select.concurrency:1}") int selectConcurrency,
+                           @Value("${web.hbase.trace.select.timeout:30000}") long selectTimeoutMillis) {
         this.template2 = Objects.requireNonNull(template2, "template2");
         this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
         this.rowKeyEncoder = Objects.requireNonNull(rowKeyEncoder, "rowKeyEncoder");
         this.spanMapperFactory = Objects.requireNonNull(spanMapperFactory, "spanMapperFactory");
+        this.partitionSelector = new PartitionSelector(traceSelectExecutor, selectConcurrency, selectTimeoutMillis);
     }
 
     @Override
@@ -177,12 +185,7 @@ public class HbaseTraceDaoV2 implements TraceDao {
         }
         Objects.requireNonNull(columnFamily, "columnFamily");
 
-        List<List<SpanBo>> spanBoList = new ArrayList<>();
-        for (List<SpanQuery> getTraceInfoList : partitionGetTraceInfoList) {
-            List<List<SpanBo>> result = bulkSelect(getTraceInfoList, columnFamily, filter);
-            spanBoList.addAll(result);
-        }
-        return spanBoList;
+        return partitionSelector.select(partitionGetTraceInfoList, getTraceInfoList -> bulkSelect(getTraceInfoList, columnFamily, filter));
     }
 
     private List<List<SpanBo>> bulkSelect(List<SpanQuery> getTraceInfoList, byte[] columnFamily, Filter filter) {
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.mapper;
+
+import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
+import com.navercorp.pinpoint.common.hbase.RowMapper;
+import com.navercorp.pinpoint.common.hbase.util.CellUtils;
+import com.navercorp.pinpoint.common.server.util.HeatMapStatisticsUtils;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapCount;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Result;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class HeatMapCountMapper implements RowMapper<List<HeatMapCount>> {
+
+    private static final HbaseColumnFamily.ApplicationHeatMap DESCRIPTOR = HbaseColumnFamily.APPLICATION_HEATMAP_COUNTER;
+
+    private final RowKeyDistributorByHashPrefix rowKeyDistributor;
+
+    public HeatMapCountMapper(@Qualifier("statisticsSelfRowKeyDistributor") RowKeyDistributorByHashPrefix rowKeyDistributor) {
+        this.rowKeyDistributor = Objects.requireNonNull(rowKeyDistributor, "rowKeyDistributor");
+    }
+
+    @Override
+    public List<HeatMapCount> mapRow(Result result, int rowNum) throws Exception {
+        if (result.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final byte[] rowKey = rowKeyDistributor.getOriginalKey(result.getRow());
+        final long rowTimeSlot = HeatMapStatisticsUtils.getTimestampFromRowKey(rowKey);
+
+        final List<HeatMapCount> list = new ArrayList<>(result.size());
+        for (Cell cell : result.rawCells()) {
+            if (!CellUtil.matchingFamily(cell, DESCRIPTOR.getName())) {
+                continue;
+            }
+            final byte[] qArray = cell.getQualifierArray();
+            final int qOffset = cell.getQualifierOffset();
+            final short timeSlot = HeatMapStatisticsUtils.getTimeSlotFromColumnName(qArray, qOffset);
+            final short elapsedSlot = HeatMapStatisticsUtils.getElapsedSlotFromColumnName(qArray, qOffset);
+
+            final long acceptedTime = HeatMapStatisticsUtils.getAcceptedTime(rowTimeSlot, timeSlot);
+            final long elapsedTime = HeatMapStatisticsUtils.getElapsedTime(elapsedSlot);
+            final boolean success = !HeatMapStatisticsUtils.isErrorSlot(elapsedSlot);
+            list.add(new HeatMapCount(acceptedTime, elapsedTime, success, CellUtils.valueToLong(cell)));
+        }
+        return list;
+    }
+}
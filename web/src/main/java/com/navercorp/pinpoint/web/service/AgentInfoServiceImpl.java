@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.web.service;
 
 import com.navercorp.pinpoint.common.server.util.time.DateTimeUtils;
 import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.config.AgentListProperties;
 import com.navercorp.pinpoint.web.dao.AgentInfoDao;
 import com.navercorp.pinpoint.web.dao.AgentInfoQuery;
 import com.navercorp.pinpoint.web.dao.AgentLifeCycleDao;
@@ -27,6 +28,8 @@ import com.navercorp.pinpoint.web.filter.agent.AgentEventFilter;
 import com.navercorp.pinpoint.web.hyperlink.HyperLinkFactory;
 import com.navercorp.pinpoint.web.service.component.ActiveAgentValidator;
 import com.navercorp.pinpoint.web.service.stat.AgentWarningStatService;
+import com.navercorp.pinpoint.web.util.ListListUtils;
+import com.navercorp.pinpoint.web.util.PartitionSelector;
 import com.navercorp.pinpoint.web.vo.AgentEvent;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.agent.AgentAndStatus;
@@ -49,8 +52,10 @@ import com.navercorp.pinpoint.web.vo.tree.AgentsMapByApplication;
 import com.navercorp.pinpoint.web.vo.tree.AgentsMapByHost;
 import com.navercorp.pinpoint.web.vo.tree.ApplicationAgentHostList;
 import com.navercorp.pinpoint.web.vo.tree.SortByAgentInfo;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -65,6 +70,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -95,13 +101,20 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     private final HyperLinkFactory hyperLinkFactory;
     private final ActiveAgentValidator activeAgentValidator;
 
+    private final int selectBatchSize;
+    private final PartitionSelector agentListSelector;
+    // @Nullable
+    private final AgentStatusCache agentStatusCache;
+
     public AgentInfoServiceImpl(AgentEventService agentEventService,
                                 ApplicationAgentListService applicationAgentListService, AgentWarningStatService agentWarningStatService,
                                 ApplicationIndexDao applicationIndexDao,
                                 AgentInfoDao agentInfoDao,
                                 AgentLifeCycleDao agentLifeCycleDao,
                                 ActiveAgentValidator activeAgentValidator,
-                                HyperLinkFactory hyperLinkFactory) {
+                                HyperLinkFactory hyperLinkFactory,
+                                AgentListProperties agentListProperties,
+                                @Qualifier("agentListSelectExecutor") Executor agentListSelectExecutor) {
         this.agentEventService = Objects.requireNonNull(agentEventService, "agentEventService");
         this.applicationAgentListService = Objects.requireNonNull(applicationAgentListService, "applicationAgentListService");
         this.agentWarningStatService = Objects.requireNonNull(agentWarningStatService, "agentWarningStatService");
@@ -110,17 +123,29 @@ public class AgentInfoServiceImpl implements AgentInfoService {
         this.agentLifeCycleDao = Objects.requireNonNull(agentLifeCycleDao, "agentLifeCycleDao");
         this.activeAgentValidator = Objects.requireNonNull(activeAgentValidator, "activeAgentValidator");
         this.hyperLinkFactory = Objects.requireNonNull(hyperLinkFactory, "hyperLinkFactory");
+
+        Objects.requireNonNull(agentListProperties, "agentListProperties");
+        if (agentListProperties.getSelectBatchSize() < 1) {
+            throw new IllegalArgumentException("selectBatchSize must be greater than 0");
+        }
+        this.selectBatchSize = agentListProperties.getSelectBatchSize();
+        this.agentListSelector = new PartitionSelector(agentListSelectExecutor,
+                agentListProperties.getSelectConcurrency(), agentListProperties.getSelectTimeoutMillis());
+        if (agentListProperties.isEnableStatusCache()) {
+            this.agentStatusCache = new AgentStatusCache(agentListProperties.getStatusCacheMaximumSize(), agentListProperties.getStatusCacheTtlMillis());
+        } else {
+            this.agentStatusCache = null;
+        }
     }
 
     @Override
     public AgentsMapByApplication<AgentAndStatus> getAllAgentsList(AgentStatusFilter filter, Range range) {
         Objects.requireNonNull(filter, "filter");
 
-        List<Application> applications = applicationIndexDao.selectAllApplicationNames();
-        List<AgentAndStatus> agents = new ArrayList<>();
-        for (Application application : applications) {
-            agents.addAll(getAgentsByApplicationName(application.getName(), range.getTo()));
-        }
+        final long timestamp = range.getTo();
+        List<String> applicationNames = getApplicationNameList(applicationIndexDao.selectAllApplicationNames());
+        List<AgentAndStatus> agents = agentListSelector.select(ListUtils.partition(applicationNames, selectBatchSize),
+                batch -> getAgentsByApplicationNames(batch, timestamp));
 
         return AgentsMapByApplication.newAgentAndStatusMap(
                 filter,
@@ -132,11 +157,10 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     public AgentsMapByApplication<DetailedAgentInfo> getAllAgentsStatisticsList(AgentStatusFilter filter, Range range) {
         Objects.requireNonNull(filter, "filter");
 
-        List<Application> applications = applicationIndexDao.selectAllApplicationNames();
-        List<DetailedAgentAndStatus> agents = new ArrayList<>();
-        for (Application application : applications) {
-            agents.addAll(getDetailedAgentsByApplicationName(application.getName(), range.getTo()));
-        }
+        final long timestamp = range.getTo();
+        List<String> applicationNames = getApplicationNameList(applicationIndexDao.selectAllApplicationNames());
+        List<DetailedAgentAndStatus> agents = agentListSelector.select(ListUtils.partition(applicationNames, selectBatchSize),
+                batch -> getDetailedAgentsByApplicationNames(batch, timestamp));
 
         return AgentsMapByApplication.newDetailedAgentInfoMap(
                 filter,
@@ -260,12 +284,13 @@ public class AgentInfoServiceImpl implements AgentInfoService {
         final int startIndex = offset - 1;
         final int endIndex = Math.min(startIndex + limit, applicationNameList.size());
 
-        ApplicationAgentHostList.Builder builder = newBuilder(offset, endIndex, applicationNameList.size());
-        for (int i = startIndex; i < endIndex; i++) {
-            String applicationName = applicationNameList.get(i);
+        final List<String> applicationNames = applicationNameList.subList(startIndex, endIndex);
+        final List<List<AgentInfo>> agentInfoLists = agentListSelector.select(applicationNames,
+                applicationName -> List.of(getAgentInfoList(applicationName, currentTime, durationHours, agentInfoFilter)));
 
-            List<AgentInfo> agentInfoList = getAgentInfoList(applicationName, currentTime, durationHours, agentInfoFilter);
-            builder.addAgentInfo(applicationName, agentInfoList);
+        ApplicationAgentHostList.Builder builder = newBuilder(offset, endIndex, applicationNameList.size());
+        for (int i = 0; i < applicationNames.size(); i++) {
+            builder.addAgentInfo(applicationNames.get(i), agentInfoLists.get(i));
         }
         return builder.build();
     }
@@ -339,11 +364,31 @@ public class AgentInfoServiceImpl implements AgentInfoService {
         return new HashSet<>(result);
     }
 
+    private List<AgentAndStatus> getAgentsByApplicationNames(List<String> applicationNames, long timestamp) {
+        List<String> agentIds = selectAgentIds(applicationNames);
+        List<AgentInfo> agentInfos = this.agentInfoDao.getSimpleAgentInfos(agentIds, timestamp).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return getAgentAndStatuses(agentInfos, timestamp);
+    }
+
+    private List<String> selectAgentIds(List<String> applicationNames) {
+        List<List<String>> agentIdsList = this.applicationIndexDao.selectAgentIdsByApplicationNames(applicationNames);
+        return ListListUtils.toList(agentIdsList);
+    }
+
+    private List<Optional<AgentStatus>> getAgentStatus0(AgentStatusQuery query) {
+        if (agentStatusCache == null) {
+            return this.agentLifeCycleDao.getAgentStatus(query);
+        }
+        return agentStatusCache.getAgentStatus(query, this.agentLifeCycleDao::getAgentStatus);
+    }
+
     private List<AgentAndStatus> getAgentAndStatuses(List<AgentInfo> agentInfoList, long timestamp) {
         List<AgentAndStatus> result = new ArrayList<>(agentInfoList.size());
 
         AgentStatusQuery query = AgentStatusQuery.buildQuery(agentInfoList, Instant.ofEpochMilli(timestamp));
-        List<Optional<AgentStatus>> agentStatus = this.agentLifeCycleDao.getAgentStatus(query);
+        List<Optional<AgentStatus>> agentStatus = getAgentStatus0(query);
         for (int i = 0; i < agentStatus.size(); i++) {
             Optional<AgentStatus> status = agentStatus.get(i);
             AgentInfo agentInfo = agentInfoList.get(i);
@@ -376,11 +421,22 @@ public class AgentInfoServiceImpl implements AgentInfoService {
 
     public Set<DetailedAgentAndStatus> getDetailedAgentsByApplicationName(String applicationName, long timestamp) {
         List<DetailedAgentInfo> agentInfos = this.getDetailedAgentsByApplicationNameWithoutStatus0(applicationName, timestamp);
+        return new HashSet<>(getDetailedAgentAndStatuses(agentInfos, timestamp));
+    }
 
+    private List<DetailedAgentAndStatus> getDetailedAgentsByApplicationNames(List<String> applicationNames, long timestamp) {
+        List<String> agentIds = selectAgentIds(applicationNames);
+        List<DetailedAgentInfo> agentInfos = this.agentInfoDao.getDetailedAgentInfos(agentIds, timestamp, AgentInfoQuery.jvm()).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return getDetailedAgentAndStatuses(agentInfos, timestamp);
+    }
+
+    private List<DetailedAgentAndStatus> getDetailedAgentAndStatuses(List<DetailedAgentInfo> agentInfos, long timestamp) {
         List<DetailedAgentAndStatus> result = new ArrayList<>(agentInfos.size());
 
         AgentStatusQuery query = AgentStatusQuery.buildGenericQuery(agentInfos, DetailedAgentInfo::getAgentInfo, Instant.ofEpochMilli(timestamp));
-        List<Optional<AgentStatus>> agentStatus = this.agentLifeCycleDao.getAgentStatus(query);
+        List<Optional<AgentStatus>> agentStatus = getAgentStatus0(query);
 
         for (int i = 0; i < agentStatus.size(); i++) {
             Optional<AgentStatus> status = agentStatus.get(i);
@@ -388,7 +444,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
             result.add(new DetailedAgentAndStatus(agentInfo, status.orElse(null)));
         }
 
-        return new HashSet<>(result);
+        return result;
     }
 
     public List<DetailedAgentInfo> getDetailedAgentsByApplicationNameWithoutStatus0(String applicationName, long timestamp) {
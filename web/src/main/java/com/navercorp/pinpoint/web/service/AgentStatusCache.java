@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.server.bo.SimpleAgentKey;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatus;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatusQuery;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Short lived cache of the agent status of each (agentId, agentStartTime).
+ * <p>
+ * A cached status is reused for queries within {@code ttlMillis} of the query it was loaded for,
+ * unless the cached event happened after the requested time.
+ */
+public class AgentStatusCache {
+
+    private final Cache<SimpleAgentKey, Snapshot> cache;
+    private final long ttlMillis;
+
+    public AgentStatusCache(long maximumSize, long ttlMillis) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0");
+        }
+        if (ttlMillis < 1) {
+            throw new IllegalArgumentException("ttlMillis must be greater than 0");
+        }
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(maximumSize)
+                .build();
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * @param loader loads the status of the agents that are not cached, in query order
+     */
+    public List<Optional<AgentStatus>> getAgentStatus(AgentStatusQuery query, Function<AgentStatusQuery, List<Optional<AgentStatus>>> loader) {
+        Objects.requireNonNull(query, "query");
+        Objects.requireNonNull(loader, "loader");
+
+        final long timestamp = query.getQueryTimestamp();
+        final List<SimpleAgentKey> agentKeys = query.getAgentKeys();
+        final List<Optional<AgentStatus>> result = new ArrayList<>(agentKeys.size());
+
+        final List<Integer> missIndexes = new ArrayList<>();
+        final AgentStatusQuery.Builder missQuery = AgentStatusQuery.newBuilder();
+        for (int i = 0; i < agentKeys.size(); i++) {
+            final SimpleAgentKey agentKey = agentKeys.get(i);
+            if (agentKey == null) {
+                result.add(Optional.empty());
+                continue;
+            }
+            final Snapshot snapshot = cache.getIfPresent(agentKey);
+            if (snapshot != null && snapshot.isValid(timestamp, ttlMillis)) {
+                result.add(snapshot.status);
+                continue;
+            }
+            result.add(null);
+            missIndexes.add(i);
+            missQuery.addAgentKey(agentKey);
+        }
+        if (missIndexes.isEmpty()) {
+            return result;
+        }
+
+        final List<Optional<AgentStatus>> loaded = loader.apply(missQuery.build(Instant.ofEpochMilli(timestamp)));
+        for (int i = 0; i < missIndexes.size(); i++) {
+            final int index = missIndexes.get(i);
+            final Optional<AgentStatus> status = loaded.get(i);
+            cache.put(agentKeys.get(index), new Snapshot(timestamp, status));
+            result.set(index, status);
+        }
+        return result;
+    }
+
+    private static class Snapshot {
+        private final long queryTimestamp;
+        private final Optional<AgentStatus> status;
+
+        private Snapshot(long queryTimestamp, Optional<AgentStatus> status) {
+            this.queryTimestamp = queryTimestamp;
+            this.status = Objects.requireNonNull(status, "status");
+        }
+
+        private boolean isValid(long timestamp, long ttlMillis) {
+            if (Math.abs(timestamp - queryTimestamp) > ttlMillis) {
+                return false;
+            }
+            // the state at the requested time is not known when the event is newer
+            return status.map(agentStatus -> agentStatus.getEventTimestamp() <= timestamp).orElse(true);
+        }
+    }
+}
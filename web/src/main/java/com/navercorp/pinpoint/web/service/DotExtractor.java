@@ -56,6 +56,15 @@ public class DotExtractor {
         logger.trace("Application:{} Dot:{}", application, dot);
     }
 
+    public void addDots(DotExtractor other) {
+        Objects.requireNonNull(other, "other");
+
+        for (Map.Entry<Application, List<Dot>> entry : other.dotMap.entrySet()) {
+            final List<Dot> dotList = getDotList(entry.getKey());
+            dotList.addAll(entry.getValue());
+        }
+    }
+
     public Dot newDot(SpanBo span) {
         Objects.requireNonNull(span, "span");
 
@@ -5,10 +5,12 @@ import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.web.dao.HeatMapDao;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.scatter.DragAreaQuery;
 import com.navercorp.pinpoint.web.scatter.heatmap.HeatMap;
 import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapBuilder;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapCount;
 import com.navercorp.pinpoint.web.util.ListListUtils;
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
@@ -17,6 +19,7 @@ import com.navercorp.pinpoint.web.vo.scatter.Dot;
 import com.navercorp.pinpoint.web.vo.scatter.DotMetaData;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -38,12 +41,19 @@ public class HeatMapServiceImpl implements HeatMapService {
     private final TraceDao traceDao;
     private final SpanService spanService;
 
+    private final HeatMapDao heatMapDao;
+    private final boolean statisticsEnable;
+
     public HeatMapServiceImpl(ApplicationTraceIndexDao applicationTraceIndexDao,
                               SpanService spanService,
-                              TraceDao traceDao) {
+                              TraceDao traceDao,
+                              HeatMapDao heatMapDao,
+                              @Value("${web.heatmap.statistics.enable:false}") boolean statisticsEnable) {
         this.applicationTraceIndexDao = Objects.requireNonNull(applicationTraceIndexDao, "applicationTraceIndexDao");
         this.spanService = Objects.requireNonNull(spanService, "spanService");
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
+        this.heatMapDao = Objects.requireNonNull(heatMapDao, "heatMapDao");
+        this.statisticsEnable = statisticsEnable;
     }
 
     @Override
@@ -145,11 +155,13 @@ public class HeatMapServiceImpl implements HeatMapService {
         Objects.requireNonNull(applicationName, "applicationName");
         Objects.requireNonNull(range, "range");
 
+        if (statisticsEnable) {
+            return getHeatMapStatistics(applicationName, range, maxY);
+        }
 
         LimitedScanResult<List<Dot>> scanResult = applicationTraceIndexDao.scanTraceScatterData(applicationName, range, limit, true);
 
-        final int slotSize = 100;
-        HeatMapBuilder builder = HeatMapBuilder.newBuilder(range.getFrom(), range.getTo(), slotSize, 0, maxY, slotSize);
+        HeatMapBuilder builder = newHeatMapBuilder(range, maxY);
         for (Dot dot : scanResult.scanData()) {
             final boolean success = dot.getExceptionCode() == Dot.EXCEPTION_NONE;
             builder.addDataPoint(dot.getAcceptedTime(), dot.getElapsedTime(), success);
@@ -160,6 +172,27 @@ public class HeatMapServiceImpl implements HeatMapService {
         return new LimitedScanResult<>(scanResult.limitedTime(), heatMap);
     }
 
+    private LimitedScanResult<HeatMap> getHeatMapStatistics(String applicationName, Range range, long maxY) {
+        final List<HeatMapCount> counts = heatMapDao.selectHeatMap(applicationName, range);
+
+        HeatMapBuilder builder = newHeatMapBuilder(range, maxY);
+        for (HeatMapCount count : counts) {
+            // the first time slot may start before the range
+            final long acceptedTime = Math.max(count.acceptedTime(), range.getFrom());
+            builder.addDataPoint(acceptedTime, count.elapsedTime(), count.success(), Math.toIntExact(count.count()));
+        }
+        HeatMap heatMap = builder.build();
+        logger.debug("getHeatMap applicationName:{} counts:{} heatMap:{}", applicationName, counts.size(), heatMap);
+
+        // pre-aggregated counters are not limited, the whole range is read
+        return new LimitedScanResult<>(range.getFrom(), heatMap);
+    }
+
+    private HeatMapBuilder newHeatMapBuilder(Range range, long maxY) {
+        final int slotSize = 100;
+        return HeatMapBuilder.newBuilder(range.getFrom(), range.getTo(), slotSize, 0, maxY, slotSize);
+    }
+
     private List<GetTraceInfo> buildQuery(String applicationName, List<Dot> dots) {
         if (CollectionUtils.isEmpty(dots)) {
             return Collections.emptyList();
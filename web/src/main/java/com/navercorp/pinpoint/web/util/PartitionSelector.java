@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs the partitions of a multi-get concurrently and returns the results in partition order.
+ * <p>
+ * At most {@code concurrency} partitions of a single query are in flight.
+ * The calling thread works on the partitions as well, so the query still completes
+ * when the shared executor rejects additional workers.
+ * The whole query must complete within {@code timeoutMillis},
+ * on timeout or error the workers still running a partition are interrupted.
+ */
+public class PartitionSelector {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Executor executor;
+    private final int concurrency;
+    private final long timeoutMillis;
+
+    public PartitionSelector(Executor executor, int concurrency, long timeoutMillis) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be greater than 0");
+        }
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("timeoutMillis must be greater than 0");
+        }
+        this.concurrency = concurrency;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public <P, R> List<R> select(List<P> partitions, Function<P, List<R>> selector) {
+        Objects.requireNonNull(partitions, "partitions");
+        Objects.requireNonNull(selector, "selector");
+
+        if (partitions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (concurrency == 1 || partitions.size() == 1) {
+            return serialSelect(partitions, selector);
+        }
+        return parallelSelect(partitions, selector);
+    }
+
+    private <P, R> List<R> serialSelect(List<P> partitions, Function<P, List<R>> selector) {
+        final List<R> result = new ArrayList<>();
+        for (P partition : partitions) {
+            result.addAll(selector.apply(partition));
+        }
+        return result;
+    }
+
+    private <P, R> List<R> parallelSelect(List<P> partitions, Function<P, List<R>> selector) {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        final Task<P, R> task = new Task<>(partitions, selector, deadline);
+
+        final int workers = Math.min(concurrency, partitions.size()) - 1;
+        final List<FutureTask<Void>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            final FutureTask<Void> future = new FutureTask<>(task, null);
+            try {
+                executor.execute(future);
+                futures.add(future);
+            } catch (RejectedExecutionException e) {
+                logger.debug("partition worker rejected, remaining partitions run on the calling thread");
+                break;
+            }
+        }
+
+        boolean success = false;
+        try {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                throw new ExecutionException(e);
+            }
+            for (FutureTask<Void> future : futures) {
+                final long remaining = Math.max(deadline - System.currentTimeMillis(), 1);
+                future.get(remaining, TimeUnit.MILLISECONDS);
+            }
+            success = true;
+        } catch (ExecutionException e) {
+            throw new RuntimeException("partition select error", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("partition select interrupt error", e);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("partition select timeout error timeout:" + timeoutMillis, e);
+        } finally {
+            if (!success) {
+                task.stop();
+                cancel(futures);
+            }
+        }
+        return task.result();
+    }
+
+    /**
+     * Interrupts the workers that are still running a partition.
+     * The HBase client gives up a blocked call with an InterruptedIOException,
+     * a selector that does not respond to interrupts keeps its worker until the call returns.
+     */
+    private void cancel(List<FutureTask<Void>> futures) {
+        for (FutureTask<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static class Task<P, R> implements Runnable {
+        private final List<P> partitions;
+        private final Function<P, List<R>> selector;
+        private final long deadline;
+
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final List<?>[] results;
+        private volatile boolean stop = false;
+
+        private Task(List<P> partitions, Function<P, List<R>> selector, long deadline) {
+            this.partitions = partitions;
+            this.selector = selector;
+            this.deadline = deadline;
+            this.results = new List<?>[partitions.size()];
+        }
+
+        @Override
+        public void run() {
+            try {
+                int index;
+                while (!stop && (index = nextIndex.getAndIncrement()) < partitions.size()) {
+                    if (System.currentTimeMillis() > deadline) {
+                        throw new RuntimeException(new TimeoutException("partition select deadline exceeded"));
+                    }
+                    results[index] = selector.apply(partitions.get(index));
+                }
+            } catch (RuntimeException e) {
+                stop();
+                throw e;
+            }
+        }
+
+        private void stop() {
+            this.stop = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<R> result() {
+            final List<R> result = new ArrayList<>();
+            for (List<?> partitionResult : results) {
+                result.addAll((List<R>) partitionResult);
+            }
+            return result;
+        }
+    }
+}
@@ -38,7 +38,15 @@ public class RangeFactory {
      * @return
      */
     public Range createStatisticsRange(Range range) {
+        return createStatisticsRange(range, this.timeSlot);
+    }
+
+    /**
+     * Create reversed Range for statistics stored in the slots of the given timeSlot
+     */
+    public Range createStatisticsRange(Range range, TimeSlot timeSlot) {
         Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(timeSlot, "timeSlot");
 
         // HBase scanner does not include endTime when scanning, so 1 is usually added to the endTime.
         // In this case, the Range is reversed, so we instead subtract 1 from the startTime.
@@ -83,6 +83,21 @@ public class ResponseHistograms {
             responseTime.addResponseTime(agentId, timeHistogram);
         }
 
+        public Builder addHistograms(Builder other) {
+            Objects.requireNonNull(other, "other");
+
+            for (Map.Entry<Long, Map<Application, ResponseTime>> entry : other.responseTimeApplicationMap.entrySet()) {
+                final Long timestamp = entry.getKey();
+                for (Map.Entry<Application, ResponseTime> applicationEntry : entry.getValue().entrySet()) {
+                    final ResponseTime responseTime = getResponseTime(applicationEntry.getKey(), timestamp);
+                    for (Map.Entry<String, TimeHistogram> agentEntry : applicationEntry.getValue().getAgentHistogram()) {
+                        responseTime.addResponseTime(agentEntry.getKey(), agentEntry.getValue());
+                    }
+                }
+            }
+            return this;
+        }
+
         private ResponseTime getResponseTime(Application application, Long timestamp) {
             Map<Application, ResponseTime> responseTimeMap = responseTimeApplicationMap.computeIfAbsent(timestamp, (Long k) -> new HashMap<>());
             ResponseTime responseTime = responseTimeMap.get(application);
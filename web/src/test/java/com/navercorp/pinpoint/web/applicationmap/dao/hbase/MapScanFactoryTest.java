@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.applicationmap.dao.hbase;
+
+import com.navercorp.pinpoint.common.server.util.DefaultTimeSlot;
+import com.navercorp.pinpoint.common.server.util.MapStatisticsRollup;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.vo.RangeFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class MapScanFactoryTest {
+
+    private final MapScanFactory scanFactory = new MapScanFactory(new RangeFactory(new DefaultTimeSlot()));
+
+    @Test
+    void selectRollup_disabled() {
+        Range range = Range.between(0, TimeUnit.DAYS.toMillis(3));
+        Assertions.assertEquals(MapStatisticsRollup.ONE_MINUTE, scanFactory.selectRollup(range));
+    }
+
+    @Test
+    void selectRollup() {
+        scanFactory.setEnableRollup(true);
+
+        long to = TimeUnit.DAYS.toMillis(10);
+        Assertions.assertEquals(MapStatisticsRollup.ONE_MINUTE, scanFactory.selectRollup(Range.between(to - TimeUnit.MINUTES.toMillis(30), to)));
+        Assertions.assertEquals(MapStatisticsRollup.FIVE_MINUTES, scanFactory.selectRollup(Range.between(to - TimeUnit.HOURS.toMillis(3), to)));
+        Assertions.assertEquals(MapStatisticsRollup.ONE_HOUR, scanFactory.selectRollup(Range.between(to - TimeUnit.DAYS.toMillis(3), to)));
+    }
+}
@@ -155,4 +155,38 @@ public class BidirectionalLinkSelectorTest extends LinkSelectorTestBase {
         Assertions.assertNotNull(linkData_OUT_IN_to_OUT);
         Assertions.assertEquals(callCount, linkData_OUT_IN_to_OUT.getTotalCount());
     }
+
+    @Test
+    public void testSelectorReuse() {
+        final Application APP_A = new Application("APP_A", ServiceType.TEST_STAND_ALONE);
+        final Application APP_B = new Application("APP_B", ServiceType.TEST_STAND_ALONE);
+        int callCount = 10;
+
+        LinkDataMap link_A_to_B = new LinkDataMap();
+        link_A_to_B.addLinkData(APP_A, "agentA", APP_B, "agentB", 1000, ServiceType.STAND_ALONE.getHistogramSchema().getNormalSlot().getSlotTime(), callCount);
+
+        when(linkDataMapService.selectCallerLinkDataMap(any(Application.class), any(Range.class), anyBoolean())).thenAnswer(invocation -> {
+            Application callerApplication = invocation.getArgument(0);
+            if (callerApplication.equals(APP_A)) {
+                return link_A_to_B;
+            }
+            return newEmptyLinkDataMap();
+        });
+        when(linkDataMapService.selectCalleeLinkDataMap(any(Application.class), any(Range.class), anyBoolean())).thenAnswer(invocation -> {
+            Application calleeApplication = invocation.getArgument(0);
+            if (calleeApplication.equals(APP_B)) {
+                return link_A_to_B;
+            }
+            return newEmptyLinkDataMap();
+        });
+        when(hostApplicationMapDao.findAcceptApplicationName(any(Application.class), any(Range.class))).thenReturn(Set.of());
+
+        LinkSelector linkSelector = linkSelectorFactory.createLinkSelector(getLinkSelectorType());
+        LinkDataDuplexMap first = linkSelector.select(List.of(APP_A), range, 2, 2);
+        LinkDataDuplexMap second = linkSelector.select(List.of(APP_A), range, 2, 2);
+
+        Assertions.assertEquals(first.size(), second.size());
+        Assertions.assertEquals(first.getTotalCount(), second.getTotalCount());
+        Assertions.assertNotNull(second.getSourceLinkData(new LinkKey(APP_A, APP_B)));
+    }
 }
@@ -142,6 +142,142 @@ public class FilteredMapBuilderTest {
         assertThat(appAResponseTimes).hasSize(1);
     }
 
+    @Test
+    public void merge() {
+        final Range range = Range.between(1, 200000);
+        final FilteredMapBuilder builder = new FilteredMapBuilder(applicationFactory, registry, range, VERSION);
+        builder.addTransaction(newTransaction("ROOT_APP", "APP_A"));
+        builder.addTransaction(newTransaction("ROOT_APP", "APP_B"));
+        final FilteredMap expected = builder.build();
+
+        final FilteredMapBuilder part1 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION);
+        part1.addTransaction(newTransaction("ROOT_APP", "APP_A"));
+        final FilteredMapBuilder part2 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION);
+        part2.addTransaction(newTransaction("ROOT_APP", "APP_B"));
+        final FilteredMap merged = part1.merge(part2).build();
+
+        LinkDataDuplexMap expectedLinkData = expected.getLinkDataDuplexMap();
+        LinkDataDuplexMap mergedLinkData = merged.getLinkDataDuplexMap();
+        assertThat(mergedLinkData.getSourceLinkDataMap().size()).isEqualTo(expectedLinkData.getSourceLinkDataMap().size());
+        assertThat(mergedLinkData.getTargetLinkDataMap().size()).isEqualTo(expectedLinkData.getTargetLinkDataMap().size());
+        assertThat(mergedLinkData.getTotalCount()).isEqualTo(expectedLinkData.getTotalCount());
+
+        Application rootApplication = new Application("ROOT_APP", registry.findServiceType(TestTraceUtils.TEST_STAND_ALONE_TYPE_CODE));
+        List<ResponseTime> rootAppResponseTimes = merged.getResponseHistograms().getResponseTimeList(rootApplication);
+        assertThat(rootAppResponseTimes).hasSize(1);
+        assertThat(rootAppResponseTimes.get(0).getApplicationResponseHistogram().getTotalCount()).isEqualTo(2);
+
+        assertThat(merged.getApplicationScatterScanResult(range.getFrom(), range.getTo()))
+                .hasSameSizeAs(expected.getApplicationScatterScanResult(range.getFrom(), range.getTo()));
+    }
+
+    /**
+     * ROOT_APP -> ALIAS_APP (alias.host) in the first partition, ROOT_APP -> alias.host without an acceptor in the second
+     */
+    @Test
+    public void merge_aliasInPrecedingPartition() {
+        final Range range = Range.between(1, 200000);
+        final FilteredMapBuilder builder = new FilteredMapBuilder(applicationFactory, registry, range, VERSION);
+        builder.addTransaction(newAliasTransaction("ALIAS_APP", "alias.host"));
+        builder.addTransaction(newRpcTransaction("alias.host"));
+        final FilteredMap expected = builder.build();
+
+        final FilteredMapBuilder part1 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION)
+                .deferUnresolvedRpcCalls(true);
+        part1.addTransaction(newAliasTransaction("ALIAS_APP", "alias.host"));
+        final FilteredMapBuilder part2 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION)
+                .deferUnresolvedRpcCalls(true);
+        part2.addTransaction(newRpcTransaction("alias.host"));
+        final FilteredMap merged = part1.merge(part2).build();
+
+        final ServiceType standAlone = registry.findServiceType(TestTraceUtils.TEST_STAND_ALONE_TYPE_CODE);
+        final LinkKey aliasLink = LinkKey.of("ROOT_APP", standAlone, "ALIAS_APP", registry.findServiceType(TestTraceUtils.ALIAS_TYPE_CODE));
+        final LinkKey unknownLink = LinkKey.of("ROOT_APP", standAlone, "alias.host", ServiceType.UNKNOWN);
+        for (FilteredMap filteredMap : List.of(expected, merged)) {
+            LinkDataMap sourceLinkDataMap = filteredMap.getLinkDataDuplexMap().getSourceLinkDataMap();
+            assertThat(sourceLinkDataMap.getLinkData(aliasLink)).isNotNull();
+            assertThat(sourceLinkDataMap.getLinkData(unknownLink)).isNull();
+        }
+        assertThat(merged.getLinkDataDuplexMap().getTotalCount()).isEqualTo(expected.getLinkDataDuplexMap().getTotalCount());
+    }
+
+    /**
+     * ROOT_APP -> alias.host without an acceptor in the first partition, ROOT_APP -> ALIAS_APP (alias.host) in the second
+     */
+    @Test
+    public void merge_aliasInFollowingPartition() {
+        final Range range = Range.between(1, 200000);
+        final FilteredMapBuilder builder = new FilteredMapBuilder(applicationFactory, registry, range, VERSION);
+        builder.addTransaction(newRpcTransaction("alias.host"));
+        builder.addTransaction(newAliasTransaction("ALIAS_APP", "alias.host"));
+        final FilteredMap expected = builder.build();
+
+        final FilteredMapBuilder part1 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION)
+                .deferUnresolvedRpcCalls(true);
+        part1.addTransaction(newRpcTransaction("alias.host"));
+        final FilteredMapBuilder part2 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION)
+                .deferUnresolvedRpcCalls(true);
+        part2.addTransaction(newAliasTransaction("ALIAS_APP", "alias.host"));
+        final FilteredMap merged = part1.merge(part2).build();
+
+        final ServiceType standAlone = registry.findServiceType(TestTraceUtils.TEST_STAND_ALONE_TYPE_CODE);
+        final LinkKey aliasLink = LinkKey.of("ROOT_APP", standAlone, "ALIAS_APP", registry.findServiceType(TestTraceUtils.ALIAS_TYPE_CODE));
+        final LinkKey unknownLink = LinkKey.of("ROOT_APP", standAlone, "alias.host", ServiceType.UNKNOWN);
+        for (FilteredMap filteredMap : List.of(expected, merged)) {
+            LinkDataMap sourceLinkDataMap = filteredMap.getLinkDataDuplexMap().getSourceLinkDataMap();
+            assertThat(sourceLinkDataMap.getLinkData(aliasLink)).isNull();
+            assertThat(sourceLinkDataMap.getLinkData(unknownLink)).isNotNull();
+        }
+        assertThat(merged.getLinkDataDuplexMap().getTotalCount()).isEqualTo(expected.getLinkDataDuplexMap().getTotalCount());
+    }
+
+    private List<SpanBo> newAliasTransaction(String aliasName, String host) {
+        SpanBo rootSpan = new TestTraceUtils.SpanBuilder("ROOT_APP", "root-agent")
+                .spanId(RANDOM.nextLong())
+                .startTime(1000L)
+                .collectorAcceptTime(1210L)
+                .elapsed(200)
+                .build();
+        rootSpan.addSpanEvent(new TestTraceUtils.AliasSpanEventBuilder(aliasName, host, 10, 20).build());
+        return List.of(rootSpan);
+    }
+
+    private List<SpanBo> newRpcTransaction(String host) {
+        SpanBo rootSpan = new TestTraceUtils.SpanBuilder("ROOT_APP", "root-agent")
+                .spanId(RANDOM.nextLong())
+                .startTime(1000L)
+                .collectorAcceptTime(1210L)
+                .elapsed(200)
+                .build();
+        SpanEventBo rpcSpanEvent = new TestTraceUtils.RpcSpanEventBuilder(host, 30, 190)
+                .nextSpanId(RANDOM.nextLong())
+                .build();
+        rootSpan.addSpanEvent(rpcSpanEvent);
+        return List.of(rootSpan);
+    }
+
+    private List<SpanBo> newTransaction(String rootApplicationName, String applicationName) {
+        SpanBo rootSpan = new TestTraceUtils.SpanBuilder(rootApplicationName, "root-agent")
+                .spanId(RANDOM.nextLong())
+                .startTime(1000L)
+                .collectorAcceptTime(1210L)
+                .elapsed(200)
+                .build();
+        long spanId = RANDOM.nextLong();
+        SpanBo span = new TestTraceUtils.SpanBuilder(applicationName, applicationName + "-agent")
+                .spanId(spanId)
+                .parentSpan(rootSpan)
+                .startTime(1020L)
+                .collectorAcceptTime(1090L)
+                .elapsed(160)
+                .build();
+        SpanEventBo rpcSpanEvent = new TestTraceUtils.RpcSpanEventBuilder("www.foo.com/" + applicationName, 10, 190)
+                .nextSpanId(spanId)
+                .build();
+        rootSpan.addSpanEvent(rpcSpanEvent);
+        return List.of(rootSpan, span);
+    }
+
     private void assertSourceLinkData(LinkDataMap sourceLinkDataMap, String fromApplicationName, ServiceType fromServiceType, String toApplicationName, ServiceType toServiceType) {
         LinkKey linkKey = LinkKey.of(fromApplicationName, fromServiceType, toApplicationName, toServiceType);
         LinkData sourceLinkData = sourceLinkDataMap.getLinkData(linkKey);
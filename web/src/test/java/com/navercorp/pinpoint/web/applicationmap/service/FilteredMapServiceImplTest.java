@@ -145,7 +145,8 @@ public class FilteredMapServiceImplTest {
                 });
 
         filteredMapService = new FilteredMapServiceImpl(traceDao, applicationTraceIndexDao,
-                registry, applicationFactory, serverInstanceDatasourceService, Optional.empty(), applicationMapBuilderFactory);
+                registry, applicationFactory, serverInstanceDatasourceService, Optional.empty(), applicationMapBuilderFactory,
+                Runnable::run, 500, 1, 600000);
 
     }
 
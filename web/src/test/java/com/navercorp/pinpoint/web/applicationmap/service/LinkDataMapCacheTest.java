@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.service;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkCallData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinkDataMapCacheTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long NOW = MINUTE * 1000;
+
+    private static final Application APP_A = new Application("APP_A", ServiceType.TEST_STAND_ALONE);
+    private static final Application APP_B = new Application("APP_B", ServiceType.TEST_STAND_ALONE);
+
+    private final List<Range> selected = new ArrayList<>();
+
+    private final Function<Range, LinkDataMap> selector = range -> {
+        selected.add(range);
+        // one call per minute
+        final LinkDataMap linkDataMap = new LinkDataMap();
+        for (long bucket = range.getFrom(); bucket <= range.getTo(); bucket += MINUTE) {
+            linkDataMap.addLinkData(APP_A, "agentA", APP_B, "agentB",
+                    bucket, ServiceType.TEST_STAND_ALONE.getHistogramSchema().getNormalSlot().getSlotTime(), 1);
+        }
+        return linkDataMap;
+    };
+
+    private LinkDataMapCache newCache() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        return new LinkDataMapCache(1000, 600, 0, clock);
+    }
+
+    @Test
+    public void select_reuseClosedBucket() {
+        LinkDataMapCache cache = newCache();
+        Range range = Range.between(NOW - MINUTE * 20, NOW);
+
+        LinkDataMap first = cache.select(LinkDirection.OUT_LINK, APP_A, range, false, selector);
+        assertThat(first.getTotalCount()).isEqualTo(21);
+        assertThat(selected).containsExactly(
+                Range.between(NOW - MINUTE * 20, NOW - MINUTE),
+                Range.between(NOW, NOW));
+
+        selected.clear();
+        LinkDataMap second = cache.select(LinkDirection.OUT_LINK, APP_A, range, false, selector);
+        assertThat(second.getTotalCount()).isEqualTo(21);
+        assertThat(selected).containsExactly(Range.between(NOW, NOW));
+    }
+
+    @Test
+    public void select_fillGap() {
+        LinkDataMapCache cache = newCache();
+        cache.select(LinkDirection.OUT_LINK, APP_A, Range.between(NOW - MINUTE * 10, NOW - MINUTE * 5), false, selector);
+
+        selected.clear();
+        LinkDataMap linkDataMap = cache.select(LinkDirection.OUT_LINK, APP_A, Range.between(NOW - MINUTE * 20, NOW - MINUTE), false, selector);
+        assertThat(linkDataMap.getTotalCount()).isEqualTo(20);
+        assertThat(selected).containsExactly(
+                Range.between(NOW - MINUTE * 20, NOW - MINUTE * 11),
+                Range.between(NOW - MINUTE * 4, NOW - MINUTE));
+    }
+
+    @Test
+    public void select_direction() {
+        LinkDataMapCache cache = newCache();
+        Range range = Range.between(NOW - MINUTE * 5, NOW - MINUTE);
+        cache.select(LinkDirection.OUT_LINK, APP_A, range, false, selector);
+
+        selected.clear();
+        cache.select(LinkDirection.IN_LINK, APP_A, range, false, selector);
+        assertThat(selected).hasSize(1);
+    }
+
+    @Test
+    public void select_timeAggregated() {
+        LinkDataMapCache cache = newCache();
+        Range range = Range.between(NOW - MINUTE * 5, NOW - MINUTE);
+        cache.select(LinkDirection.OUT_LINK, APP_A, range, false, selector);
+
+        selected.clear();
+        LinkDataMap linkDataMap = cache.select(LinkDirection.OUT_LINK, APP_A, range, true, selector);
+        assertThat(selected).isEmpty();
+        assertThat(linkDataMap.getTotalCount()).isEqualTo(5);
+
+        LinkData linkData = linkDataMap.getLinkDataList().iterator().next();
+        LinkCallData linkCallData = linkData.getLinkCallDataMap().getLinkDataList().iterator().next();
+        assertThat(linkCallData.getTimeHistogram())
+                .extracting(TimeHistogram::getTimeStamp)
+                .containsExactly(0L);
+    }
+
+    @Test
+    public void isCacheable() {
+        LinkDataMapCache cache = newCache();
+        assertThat(cache.isCacheable(Range.between(NOW - TimeUnit.HOURS.toMillis(1), NOW))).isTrue();
+        assertThat(cache.isCacheable(Range.between(NOW - TimeUnit.HOURS.toMillis(2), NOW))).isFalse();
+    }
+}
@@ -19,8 +19,10 @@ package com.navercorp.pinpoint.web.dao.hbase;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations;
 import com.navercorp.pinpoint.common.hbase.HbaseTableNameProvider;
 import com.navercorp.pinpoint.common.hbase.LimitEventHandler;
+import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.hbase.async.HbaseAsyncTemplate;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.config.ScatterChartProperties;
@@ -40,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -50,6 +53,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class HbaseApplicationTraceIndexDaoTest {
@@ -57,6 +61,9 @@ public class HbaseApplicationTraceIndexDaoTest {
     @Mock
     private HbaseOperations hbaseOperations;
 
+    @Mock
+    private HbaseAsyncTemplate asyncTemplate;
+
     @Mock
     private RowMapper<List<TransactionId>> traceIndexMapper;
 
@@ -79,7 +86,11 @@ public class HbaseApplicationTraceIndexDaoTest {
     public void beforeEach() {
         openMocks = MockitoAnnotations.openMocks(this);
         ScatterChartProperties scatterChartProperties = new ScatterChartProperties();
-        this.applicationTraceIndexDao = new HbaseApplicationTraceIndexDao(scatterChartProperties, hbaseOperations, tableNameProvider, traceIndexMapper, traceIndexScatterMapper, traceIdRowKeyDistributor);
+        this.applicationTraceIndexDao = newApplicationTraceIndexDao(scatterChartProperties);
+    }
+
+    private HbaseApplicationTraceIndexDao newApplicationTraceIndexDao(ScatterChartProperties scatterChartProperties) {
+        return new HbaseApplicationTraceIndexDao(scatterChartProperties, hbaseOperations, asyncTemplate, tableNameProvider, traceIndexMapper, traceIndexScatterMapper, traceIdRowKeyDistributor);
     }
 
     @Test
@@ -134,7 +145,7 @@ public class HbaseApplicationTraceIndexDaoTest {
     public void scanTraceScatterDataTest() {
         List<List<Dot>> scatterDotList = createScatterDotList();
         when(this.hbaseOperations.findParallel(any(TableName.class), any(Scan.class), any(AbstractRowKeyDistributor.class),
-                anyInt(), any(RowMapper.class), anyInt())).thenReturn(scatterDotList);
+                anyInt(), any(RowMapper.class), any(LimitEventHandler.class), anyInt())).thenReturn(scatterDotList);
         Range range = Range.between(1000L, 5000L);
         LimitedScanResult<List<Dot>> scanResult
                 = this.applicationTraceIndexDao.scanTraceScatterData("app", range, 10, false);
@@ -147,6 +158,23 @@ public class HbaseApplicationTraceIndexDaoTest {
         Assertions.assertEquals(3000L, result.getLatestAcceptedTime());
     }
 
+    @Test
+    public void scanTraceScatterData_asyncMergeScan() {
+        ScatterChartProperties scatterChartProperties = new ScatterChartProperties();
+        ReflectionTestUtils.setField(scatterChartProperties, "enableAsyncMergeScan", true);
+        ApplicationTraceIndexDao dao = newApplicationTraceIndexDao(scatterChartProperties);
+
+        List<List<Dot>> scatterDotList = createScatterDotList();
+        when(this.asyncTemplate.executeMergeDistributedScan(any(TableName.class), any(Scan.class), any(AbstractRowKeyDistributor.class),
+                any(ResultsExtractor.class))).thenReturn(scatterDotList);
+        Range range = Range.between(1000L, 5000L);
+        LimitedScanResult<List<Dot>> scanResult = dao.scanTraceScatterData("app", range, 10, false);
+
+        Assertions.assertEquals(ListListUtils.toList(scatterDotList), scanResult.scanData());
+        Assertions.assertEquals(1000L, scanResult.limitedTime());
+        verifyNoInteractions(this.hbaseOperations);
+    }
+
     private List<List<Dot>> createScatterDotList() {
         List<List<Dot>> ret = new ArrayList<>();
         TransactionId transactionId = TransactionId.of("A", 1, 1);
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.server.util.AgentLifeCycleState;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatus;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatusQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+class AgentStatusCacheTest {
+
+    @Test
+    void getAgentStatus() {
+        AgentStatusCache cache = new AgentStatusCache(100, 1000);
+        List<AgentStatusQuery> loaded = new ArrayList<>();
+        Function<AgentStatusQuery, List<Optional<AgentStatus>>> loader = newLoader(loaded, 100);
+
+        List<Optional<AgentStatus>> first = cache.getAgentStatus(newQuery(200, "agent1", "agent2"), loader);
+        Assertions.assertEquals(2, first.size());
+        Assertions.assertEquals(1, loaded.size());
+
+        List<Optional<AgentStatus>> second = cache.getAgentStatus(newQuery(300, "agent2", "agent3", "agent1"), loader);
+        Assertions.assertEquals(2, loaded.size());
+        // only the missing agent is loaded
+        Assertions.assertEquals(1, loaded.get(1).getAgentKeys().size());
+        Assertions.assertEquals("agent3", loaded.get(1).getAgentKeys().get(0).agentId());
+
+        Assertions.assertEquals("agent2", second.get(0).orElseThrow().getAgentId());
+        Assertions.assertEquals("agent3", second.get(1).orElseThrow().getAgentId());
+        Assertions.assertEquals("agent1", second.get(2).orElseThrow().getAgentId());
+    }
+
+    @Test
+    void getAgentStatus_outOfTtl() {
+        AgentStatusCache cache = new AgentStatusCache(100, 1000);
+        List<AgentStatusQuery> loaded = new ArrayList<>();
+        Function<AgentStatusQuery, List<Optional<AgentStatus>>> loader = newLoader(loaded, 100);
+
+        cache.getAgentStatus(newQuery(200, "agent1"), loader);
+        cache.getAgentStatus(newQuery(5000, "agent1"), loader);
+        Assertions.assertEquals(2, loaded.size());
+    }
+
+    @Test
+    void getAgentStatus_newerEvent() {
+        AgentStatusCache cache = new AgentStatusCache(100, 1000);
+        List<AgentStatusQuery> loaded = new ArrayList<>();
+        Function<AgentStatusQuery, List<Optional<AgentStatus>>> loader = newLoader(loaded, 500);
+
+        cache.getAgentStatus(newQuery(600, "agent1"), loader);
+        // the cached event happened after the requested time
+        cache.getAgentStatus(newQuery(400, "agent1"), loader);
+        Assertions.assertEquals(2, loaded.size());
+    }
+
+    @Test
+    void getAgentStatus_nullKey() {
+        AgentStatusCache cache = new AgentStatusCache(100, 1000);
+        List<AgentStatusQuery> loaded = new ArrayList<>();
+
+        AgentStatusQuery.Builder builder = AgentStatusQuery.newBuilder();
+        builder.addAgentKey(null);
+        List<Optional<AgentStatus>> result = cache.getAgentStatus(builder.build(Instant.ofEpochMilli(100)), newLoader(loaded, 100));
+
+        Assertions.assertEquals(List.of(Optional.empty()), result);
+        Assertions.assertTrue(loaded.isEmpty());
+    }
+
+    @Test
+    void illegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AgentStatusCache(0, 1000));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AgentStatusCache(100, 0));
+    }
+
+    private AgentStatusQuery newQuery(long timestamp, String... agentIds) {
+        AgentStatusQuery.Builder builder = AgentStatusQuery.newBuilder();
+        for (String agentId : agentIds) {
+            builder.addAgentKey(agentId, 1);
+        }
+        return builder.build(Instant.ofEpochMilli(timestamp));
+    }
+
+    private Function<AgentStatusQuery, List<Optional<AgentStatus>>> newLoader(List<AgentStatusQuery> loaded, long eventTimestamp) {
+        return query -> {
+            loaded.add(query);
+            return query.getAgentKeys().stream()
+                    .map(key -> Optional.of(new AgentStatus(key.agentId(), AgentLifeCycleState.RUNNING, eventTimestamp)))
+                    .toList();
+        };
+    }
+}
@@ -2,9 +2,13 @@ package com.navercorp.pinpoint.web.service;
 
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.web.dao.HeatMapDao;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.scatter.DragAreaQuery;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMap;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapCount;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
 import com.navercorp.pinpoint.web.vo.scatter.DotMetaData;
@@ -18,6 +22,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +32,8 @@ public class HeatMapServiceImplTest {
     SpanService spanService;
     @Mock
     DragAreaQuery dragAreaQuery;
+    @Mock
+    HeatMapDao heatMapDao;
 
     private static final String APPLICATION_NAME = "applicationName";
     private static final int LIMIT = 50;
@@ -42,7 +49,7 @@ public class HeatMapServiceImplTest {
         when(applicationTraceIndexDao.scanScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT))
                 .thenReturn(scanResult);
 
-        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao);
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao, heatMapDao, false);
         Assertions.assertSame(scanResult, heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT));
     }
 
@@ -56,7 +63,7 @@ public class HeatMapServiceImplTest {
                 .thenReturn(scanResult);
         when(traceDao.selectSpans(any())).thenReturn(matchingSpanData());
 
-        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao);
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao, heatMapDao, false);
         heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT);
         Assertions.assertNotSame(scanResult, heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT));
     }
@@ -71,7 +78,7 @@ public class HeatMapServiceImplTest {
                 .thenReturn(scanResult);
         when(traceDao.selectSpans(any())).thenReturn(moreSpanData());
 
-        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao);
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao, heatMapDao, false);
         heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT);
         Assertions.assertNotSame(scanResult, heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT));
     }
@@ -85,10 +92,34 @@ public class HeatMapServiceImplTest {
         when(applicationTraceIndexDao.scanScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT)).thenReturn(scanResult);
         when(traceDao.selectSpans(any())).thenReturn(lessSpanData());
 
-        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao);
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao, heatMapDao, false);
         Assertions.assertThrows(IllegalStateException.class, () -> heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT));
     }
 
+    @Test
+    public void getHeatMapStatisticsTest() {
+        ApplicationTraceIndexDao applicationTraceIndexDao = mock(ApplicationTraceIndexDao.class);
+        TraceDao traceDao = mock(TraceDao.class);
+
+        Range range = Range.between(10_000, 70_000);
+        when(heatMapDao.selectHeatMap(APPLICATION_NAME, range)).thenReturn(List.of(
+                new HeatMapCount(5_000, 100, true, 3),
+                new HeatMapCount(20_000, 200, true, 2),
+                new HeatMapCount(20_000, 200, false, 1)
+        ));
+
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao, heatMapDao, true);
+        LimitedScanResult<HeatMap> result = heatMapService.getHeatMap(APPLICATION_NAME, range, 10_000, LIMIT);
+
+        HeatMap heatMap = result.scanData();
+        Assertions.assertEquals(range.getFrom(), result.limitedTime());
+        Assertions.assertEquals(5, heatMap.getSuccess());
+        Assertions.assertEquals(1, heatMap.getFail());
+        Assertions.assertEquals(2, heatMap.getData().size());
+        Assertions.assertEquals(range.getFrom(), heatMap.getOldestAcceptedTime());
+        verifyNoInteractions(applicationTraceIndexDao);
+    }
+
     private List<DotMetaData> dotMataData() {
         Dot dot1 = new Dot(TRANSACTION_ID_1, 1, 2, 0, "dotAgentId1");
         Dot dot2 = new Dot(TRANSACTION_ID_2, 3, 4, 0, "dotAgentId2");
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.util;
+
+import org.apache.commons.collections4.ListUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PartitionSelectorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final List<Integer> original = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void select_serial() {
+        PartitionSelector selector = new PartitionSelector(executor, 1, 1000);
+
+        List<Integer> result = selector.select(ListUtils.partition(original, 30), partition -> partition);
+
+        assertThat(result).containsExactlyElementsOf(original);
+    }
+
+    @Test
+    void select_parallel_keepOrder() {
+        PartitionSelector selector = new PartitionSelector(executor, 4, 5000);
+
+        List<Integer> result = selector.select(ListUtils.partition(original, 30), partition -> {
+            sleep(partition.get(0) % 7);
+            return partition;
+        });
+
+        assertThat(result).containsExactlyElementsOf(original);
+    }
+
+    @Test
+    void select_rejected_runOnCallerThread() {
+        PartitionSelector selector = new PartitionSelector(command -> {
+            throw new RejectedExecutionException("reject");
+        }, 4, 1000);
+
+        List<Integer> result = selector.select(ListUtils.partition(original, 30), partition -> partition);
+
+        assertThat(result).containsExactlyElementsOf(original);
+    }
+
+    @Test
+    void select_timeout() {
+        PartitionSelector selector = new PartitionSelector(executor, 4, 100);
+
+        assertThatThrownBy(() -> selector.select(ListUtils.partition(original, 30), partition -> {
+            sleep(50);
+            return partition;
+        })).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void select_timeout_interruptWorkers() throws Exception {
+        PartitionSelector selector = new PartitionSelector(executor, 4, 100);
+        CountDownLatch interrupted = new CountDownLatch(3);
+
+        assertThatThrownBy(() -> selector.select(ListUtils.partition(original, 30), partition -> {
+            if (Thread.currentThread().getName().startsWith("pool")) {
+                try {
+                    Thread.sleep(10000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new IllegalStateException(e);
+                }
+            }
+            sleep(50);
+            return partition;
+        })).isInstanceOf(RuntimeException.class);
+
+        assertThat(interrupted.await(1000, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    void select_error() {
+        PartitionSelector selector = new PartitionSelector(executor, 4, 1000);
+
+        assertThatThrownBy(() -> selector.select(ListUtils.partition(original, 30), partition -> {
+            if (partition.contains(500)) {
+                throw new IllegalStateException("select error");
+            }
+            return partition;
+        })).hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}